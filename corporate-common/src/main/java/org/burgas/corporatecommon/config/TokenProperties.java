@@ -0,0 +1,19 @@
+package org.burgas.corporatecommon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.token")
+public class TokenProperties {
+
+    private String secret;
+    private Duration timeToLive = Duration.ofMinutes(15);
+    private Duration revocationRefresh = Duration.ofSeconds(5);
+}
@@ -0,0 +1,4 @@
+package org.burgas.corporatecommon.dto;
+
+public abstract class Response {
+}
@@ -0,0 +1,21 @@
+package org.burgas.corporatecommon.dto.address;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class AddressResponse extends Response {
+
+    private UUID id;
+    private String country;
+    private String city;
+    private String street;
+    private String house;
+    private String apartment;
+}
@@ -1,9 +1,9 @@
-package org.burgas.corporateservice.dto.corporation;
+package org.burgas.corporatecommon.dto.corporation;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
-import org.burgas.corporateservice.dto.department.DepartmentWithOfficesResponse;
-import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
+import org.burgas.corporatecommon.dto.media.MediaResponse;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,6 +21,6 @@ public final class CorporationWithOfficesResponse extends Response {
     private Long officesAmount;
     private Long employeesAmount;
     private List<UUID> directors;
-    private Media image;
+    private MediaResponse image;
     private List<DepartmentWithOfficesResponse> departments;
 }
@@ -1,9 +1,9 @@
-package org.burgas.corporateservice.dto.corporation;
+package org.burgas.corporatecommon.dto.corporation;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
-import org.burgas.corporateservice.dto.department.DepartmentWithoutOfficesResponse;
-import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.media.MediaResponse;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,6 +22,6 @@ public class CorporationWithoutOfficesResponse extends Response {
     private Long officesAmount;
     private Long employeesAmount;
     private List<UUID> directors;
-    private Media image;
+    private MediaResponse image;
     private List<DepartmentWithoutOfficesResponse> departments;
 }
@@ -1,8 +1,8 @@
-package org.burgas.corporateservice.dto.department;
+package org.burgas.corporatecommon.dto.department;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
-import org.burgas.corporateservice.dto.office.OfficeWithoutEmployeesResponse;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
 
 import java.util.List;
 import java.util.UUID;
@@ -1,7 +1,7 @@
-package org.burgas.corporateservice.dto.department;
+package org.burgas.corporatecommon.dto.department;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
+import org.burgas.corporatecommon.dto.Response;
 
 import java.util.UUID;
 
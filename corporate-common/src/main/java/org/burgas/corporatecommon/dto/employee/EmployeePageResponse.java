@@ -0,0 +1,18 @@
+package org.burgas.corporatecommon.dto.employee;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class EmployeePageResponse extends Response {
+
+    private List<EmployeeWithOfficeResponse> employees;
+    private UUID nextCursor;
+}
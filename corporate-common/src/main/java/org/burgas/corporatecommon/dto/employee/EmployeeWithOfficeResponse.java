@@ -1,11 +1,11 @@
-package org.burgas.corporateservice.dto.employee;
+package org.burgas.corporatecommon.dto.employee;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
-import org.burgas.corporateservice.dto.identity.IdentityWithoutEmployeeResponse;
-import org.burgas.corporateservice.dto.office.OfficeWithoutEmployeesResponse;
-import org.burgas.corporateservice.dto.position.PositionWithoutEmployeeResponse;
-import org.burgas.corporateservice.entity.Address;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.identity.IdentityWithoutEmployeeResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
+import org.burgas.corporatecommon.dto.position.PositionWithoutEmployeeResponse;
 
 import java.util.UUID;
 
@@ -22,7 +22,7 @@ public final class EmployeeWithOfficeResponse extends Response {
     private String lastName;
     private String patronymic;
     private String about;
-    private Address address;
+    private AddressResponse address;
     private PositionWithoutEmployeeResponse position;
     private OfficeWithoutEmployeesResponse office;
 }
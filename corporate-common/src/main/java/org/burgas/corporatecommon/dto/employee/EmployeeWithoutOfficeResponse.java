@@ -1,11 +1,11 @@
-package org.burgas.corporateservice.dto.employee;
+package org.burgas.corporatecommon.dto.employee;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.burgas.corporateservice.dto.identity.IdentityWithoutEmployeeResponse;
-import org.burgas.corporateservice.entity.Address;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.identity.IdentityWithoutEmployeeResponse;
 
 import java.util.UUID;
 
@@ -21,5 +21,5 @@ public final class EmployeeWithoutOfficeResponse {
     private String lastName;
     private String patronymic;
     private String about;
-    private Address address;
+    private AddressResponse address;
 }
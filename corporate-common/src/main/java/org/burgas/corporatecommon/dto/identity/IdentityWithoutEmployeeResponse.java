@@ -1,9 +1,9 @@
-package org.burgas.corporateservice.dto.identity;
+package org.burgas.corporatecommon.dto.identity;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
-import org.burgas.corporateservice.entity.Authority;
-import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.media.MediaResponse;
+import org.burgas.corporatecommon.identity.Authority;
 
 import java.util.UUID;
 
@@ -21,5 +21,5 @@ public final class IdentityWithoutEmployeeResponse extends Response {
     private String email;
     private String phone;
     private Boolean enabled;
-    private Media image;
+    private MediaResponse image;
 }
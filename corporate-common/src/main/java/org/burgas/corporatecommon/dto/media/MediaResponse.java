@@ -0,0 +1,23 @@
+package org.burgas.corporatecommon.dto.media;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class MediaResponse extends Response {
+
+    private UUID id;
+    private String name;
+    private String contentType;
+    private String format;
+    private Long size;
+    private String etag;
+    private Instant updatedAt;
+}
@@ -0,0 +1,23 @@
+package org.burgas.corporatecommon.dto.office;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithOfficesResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithoutOfficeResponse;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class OfficeWithEmployeesResponse extends Response {
+
+    private CorporationWithOfficesResponse corporation;
+    private AddressResponse address;
+    private List<EmployeeWithoutOfficeResponse> employees;
+    private List<DepartmentWithoutOfficesResponse> departments;
+}
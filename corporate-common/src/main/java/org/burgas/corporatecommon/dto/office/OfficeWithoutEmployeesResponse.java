@@ -0,0 +1,17 @@
+package org.burgas.corporatecommon.dto.office;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithoutOfficesResponse;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class OfficeWithoutEmployeesResponse extends Response {
+
+    private CorporationWithoutOfficesResponse corporation;
+    private AddressResponse address;
+}
@@ -1,9 +1,9 @@
-package org.burgas.corporateservice.dto.position;
+package org.burgas.corporatecommon.dto.position;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
-import org.burgas.corporateservice.dto.department.DepartmentWithoutOfficesResponse;
-import org.burgas.corporateservice.dto.employee.EmployeeWithoutOfficeResponse;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithoutOfficeResponse;
 
 import java.util.UUID;
 
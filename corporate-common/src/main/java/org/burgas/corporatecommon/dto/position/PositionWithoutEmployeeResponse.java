@@ -1,8 +1,8 @@
-package org.burgas.corporateservice.dto.position;
+package org.burgas.corporatecommon.dto.position;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
-import org.burgas.corporateservice.dto.department.DepartmentWithOfficesResponse;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
 
 import java.util.UUID;
 
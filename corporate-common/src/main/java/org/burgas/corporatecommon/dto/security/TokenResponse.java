@@ -0,0 +1,18 @@
+package org.burgas.corporatecommon.dto.security;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class TokenResponse extends Response {
+
+    private String token;
+    private String tokenType;
+    private Instant expiresAt;
+}
@@ -1,4 +1,4 @@
-package org.burgas.corporateservice.entity;
+package org.burgas.corporatecommon.identity;
 
 import org.springframework.security.core.GrantedAuthority;
 
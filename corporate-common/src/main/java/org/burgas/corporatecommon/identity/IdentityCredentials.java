@@ -0,0 +1,8 @@
+package org.burgas.corporatecommon.identity;
+
+import java.util.UUID;
+
+public record IdentityCredentials(
+        UUID id, String email, String password, Authority authority, Boolean enabled, UUID employeeId, UUID corporationId
+) {
+}
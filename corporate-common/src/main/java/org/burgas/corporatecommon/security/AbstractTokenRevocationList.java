@@ -0,0 +1,34 @@
+package org.burgas.corporatecommon.security;
+
+import org.burgas.corporatecommon.config.TokenProperties;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public abstract class AbstractTokenRevocationList {
+
+    protected final TokenProperties tokenProperties;
+    private final Map<UUID, Long> revocations = new ConcurrentHashMap<>();
+
+    protected AbstractTokenRevocationList(TokenProperties tokenProperties) {
+        this.tokenProperties = tokenProperties;
+    }
+
+    public boolean isRevoked(final UUID identityId, final long issuedAt) {
+        Long revokedAt = this.revocations.get(identityId);
+        return revokedAt != null && issuedAt <= revokedAt;
+    }
+
+    protected long horizon() {
+        return System.currentTimeMillis() - this.tokenProperties.getTimeToLive().toMillis();
+    }
+
+    protected void merge(final UUID identityId, final long revokedAt) {
+        this.revocations.merge(identityId, revokedAt, Math::max);
+    }
+
+    protected void expire(final long horizon) {
+        this.revocations.values().removeIf(revokedAt -> revokedAt < horizon);
+    }
+}
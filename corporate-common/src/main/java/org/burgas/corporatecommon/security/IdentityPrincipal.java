@@ -0,0 +1,47 @@
+package org.burgas.corporatecommon.security;
+
+import org.burgas.corporatecommon.identity.Authority;
+import org.burgas.corporatecommon.identity.IdentityCredentials;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public record IdentityPrincipal(
+        UUID id, String email, String password, Authority authority, Boolean enabled, UUID employeeId, UUID corporationId
+) implements UserDetails {
+
+    public static IdentityPrincipal from(final IdentityCredentials identityCredentials) {
+        return new IdentityPrincipal(
+                identityCredentials.id(), identityCredentials.email(), identityCredentials.password(),
+                identityCredentials.authority(), identityCredentials.enabled(),
+                identityCredentials.employeeId(), identityCredentials.corporationId()
+        );
+    }
+
+    public IdentityPrincipal withoutPassword() {
+        return new IdentityPrincipal(this.id, this.email, null, this.authority, this.enabled, this.employeeId, this.corporationId);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(this.authority);
+    }
+
+    @Override
+    public String getPassword() {
+        return this.password;
+    }
+
+    @Override
+    public String getUsername() {
+        return this.email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(this.enabled);
+    }
+}
@@ -0,0 +1,121 @@
+package org.burgas.corporatecommon.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporatecommon.config.TokenProperties;
+import org.burgas.corporatecommon.dto.security.TokenResponse;
+import org.burgas.corporatecommon.identity.Authority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final TokenProperties tokenProperties;
+    private final AbstractTokenRevocationList tokenRevocationList;
+    private final ObjectMapper objectMapper;
+    private final SecretKey secretKey;
+    private final ThreadLocal<Mac> macs;
+
+    public record TokenClaims(
+            UUID sub, String email, Authority authority, UUID employeeId, UUID corporationId, long iat, long exp
+    ) {
+    }
+
+    @SneakyThrows
+    public TokenService(TokenProperties tokenProperties, AbstractTokenRevocationList tokenRevocationList, ObjectMapper objectMapper) {
+        this.tokenProperties = tokenProperties;
+        this.tokenRevocationList = tokenRevocationList;
+        this.objectMapper = objectMapper;
+
+        String secret = tokenProperties.getSecret();
+        if (secret == null || secret.isBlank()) {
+            log.warn("security.token.secret is not set, tokens are signed with a random key and only valid on this instance");
+            this.secretKey = KeyGenerator.getInstance(ALGORITHM).generateKey();
+
+        } else {
+            this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM);
+        }
+
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+
+    @SneakyThrows
+    public TokenResponse issue(final IdentityPrincipal identityPrincipal) {
+        Instant issuedAt = Instant.now();
+        Instant expiresAt = issuedAt.plus(this.tokenProperties.getTimeToLive());
+        TokenClaims tokenClaims = new TokenClaims(
+                identityPrincipal.id(), identityPrincipal.email(), identityPrincipal.authority(),
+                identityPrincipal.employeeId(), identityPrincipal.corporationId(),
+                issuedAt.toEpochMilli(), expiresAt.toEpochMilli()
+        );
+
+        String payload = ENCODER.encodeToString(this.objectMapper.writeValueAsBytes(tokenClaims));
+        return TokenResponse.builder()
+                .token(payload + "." + ENCODER.encodeToString(this.sign(payload)))
+                .tokenType(TOKEN_TYPE)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public Optional<IdentityPrincipal> verify(final String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator != token.lastIndexOf('.'))
+            return Optional.empty();
+
+        try {
+            String payload = token.substring(0, separator);
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(this.sign(payload), signature))
+                return Optional.empty();
+
+            TokenClaims tokenClaims = this.objectMapper.readValue(DECODER.decode(payload), TokenClaims.class);
+            if (tokenClaims.exp() <= System.currentTimeMillis() || this.tokenRevocationList.isRevoked(tokenClaims.sub(), tokenClaims.iat()))
+                return Optional.empty();
+
+            return Optional.of(
+                    new IdentityPrincipal(
+                            tokenClaims.sub(), tokenClaims.email(), null, tokenClaims.authority(), true,
+                            tokenClaims.employeeId(), tokenClaims.corporationId()
+                    )
+            );
+
+        } catch (IllegalArgumentException | IOException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(final String payload) {
+        return this.macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.secretKey);
+            return mac;
+
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.burgas.corporatereadservice;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication(scanBasePackages = {"org.burgas.corporatereadservice", "org.burgas.corporatecommon"})
+public class CorporateReadServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(CorporateReadServiceApplication.class, args);
+    }
+
+}
@@ -0,0 +1,25 @@
+package org.burgas.corporatereadservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "public-cache")
+public class PublicCacheProperties {
+
+    private Duration sharedMaxAge = Duration.ofSeconds(10);
+    private Duration staleWhileRevalidate = Duration.ofSeconds(60);
+
+    public CacheControl cacheControl() {
+        return CacheControl.maxAge(Duration.ZERO)
+                .sMaxAge(this.sharedMaxAge)
+                .staleWhileRevalidate(this.staleWhileRevalidate);
+    }
+}
@@ -0,0 +1,97 @@
+package org.burgas.corporatereadservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.TokenService;
+import org.burgas.corporatereadservice.security.BearerTokenAuthenticationWebFilter;
+import org.burgas.corporatereadservice.service.UserDetailsServiceImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+import static org.burgas.corporatecommon.identity.Authority.DIRECTOR;
+import static org.burgas.corporatecommon.identity.Authority.WORKER;
+
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    private final UserDetailsServiceImpl userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenService tokenService;
+
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager() {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(this.userDetailsService);
+        authenticationManager.setPasswordEncoder(this.passwordEncoder);
+        return authenticationManager;
+    }
+
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration corsConfiguration = new CorsConfiguration();
+        corsConfiguration.setAllowedOrigins(List.of("http://localhost:4200"));
+        corsConfiguration.setAllowedMethods(List.of("GET"));
+        corsConfiguration.setAllowedHeaders(List.of("*"));
+        corsConfiguration.setAllowCredentials(true);
+
+        UrlBasedCorsConfigurationSource urlBasedCorsConfigurationSource = new UrlBasedCorsConfigurationSource();
+        urlBasedCorsConfigurationSource.registerCorsConfiguration("/**", corsConfiguration);
+        return urlBasedCorsConfigurationSource;
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity serverHttpSecurity) {
+        return serverHttpSecurity
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(cors -> cors.configurationSource(this.corsConfigurationSource()))
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authenticationManager(this.reactiveAuthenticationManager())
+                .httpBasic(httpBasic -> httpBasic.securityContextRepository(NoOpServerSecurityContextRepository.getInstance()))
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .addFilterAt(new BearerTokenAuthenticationWebFilter(this.tokenService), SecurityWebFiltersOrder.AUTHENTICATION)
+                .authorizeExchange(
+                        exchanges -> exchanges
+
+                                .pathMatchers(
+                                        HttpMethod.GET,
+                                        "/api/v1/offices/by-corporation",
+
+                                        "/actuator/health"
+                                )
+                                .permitAll()
+
+                                .pathMatchers(
+                                        HttpMethod.GET,
+                                        "/api/v1/employees/by-corporation",
+                                        "/api/v1/employees/by-id",
+
+                                        "/api/v1/departments/by-corporation",
+                                        "/api/v1/departments/by-id",
+
+                                        "/api/v1/positions/by-corporation",
+                                        "/api/v1/positions/by-department",
+                                        "/api/v1/positions/by-id"
+                                )
+                                .hasAnyAuthority(WORKER.getAuthority(), DIRECTOR.getAuthority())
+
+                                .anyExchange()
+                                .denyAll()
+                )
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package org.burgas.corporatereadservice.entity;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Corporation {
+
+    private UUID id;
+    private String name;
+    private String description;
+    private Long officesAmount;
+    private Long employeesAmount;
+    private List<UUID> directors;
+    private UUID imageId;
+}
@@ -0,0 +1,18 @@
+package org.burgas.corporatereadservice.entity;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Department {
+
+    private UUID id;
+    private String name;
+    private String description;
+    private UUID corporationId;
+}
@@ -0,0 +1,24 @@
+package org.burgas.corporatereadservice.entity;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Employee {
+
+    private UUID id;
+    private UUID identityId;
+    private String firstName;
+    private String lastName;
+    private String patronymic;
+    private String about;
+    private UUID addressId;
+    private UUID officeCorporationId;
+    private UUID officeAddressId;
+    private UUID positionId;
+}
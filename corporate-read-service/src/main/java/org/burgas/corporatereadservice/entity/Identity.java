@@ -0,0 +1,23 @@
+package org.burgas.corporatereadservice.entity;
+
+import lombok.*;
+import org.burgas.corporatecommon.identity.Authority;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Identity {
+
+    private UUID id;
+    private Authority authority;
+    private String username;
+    private String password;
+    private String email;
+    private String phone;
+    private Boolean enabled;
+    private UUID imageId;
+}
@@ -0,0 +1,4 @@
+package org.burgas.corporatereadservice.entity;
+
+public record Membership(boolean director, boolean employee) {
+}
@@ -0,0 +1,16 @@
+package org.burgas.corporatereadservice.entity;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Office {
+
+    private UUID corporationId;
+    private UUID addressId;
+}
@@ -0,0 +1,17 @@
+package org.burgas.corporatereadservice.entity;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public final class OfficeDepartment {
+
+    private UUID corporationId;
+    private UUID addressId;
+    private UUID departmentId;
+}
@@ -0,0 +1,18 @@
+package org.burgas.corporatereadservice.entity;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Position {
+
+    private UUID id;
+    private String name;
+    private String description;
+    private UUID departmentId;
+}
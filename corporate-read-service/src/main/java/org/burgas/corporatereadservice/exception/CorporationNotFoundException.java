@@ -0,0 +1,8 @@
+package org.burgas.corporatereadservice.exception;
+
+public class CorporationNotFoundException extends RuntimeException {
+
+    public CorporationNotFoundException(String message) {
+        super(message);
+    }
+}
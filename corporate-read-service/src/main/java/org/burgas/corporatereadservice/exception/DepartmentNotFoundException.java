@@ -0,0 +1,8 @@
+package org.burgas.corporatereadservice.exception;
+
+public class DepartmentNotFoundException extends RuntimeException {
+
+    public DepartmentNotFoundException(String message) {
+        super(message);
+    }
+}
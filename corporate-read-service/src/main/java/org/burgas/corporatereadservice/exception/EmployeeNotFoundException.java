@@ -0,0 +1,8 @@
+package org.burgas.corporatereadservice.exception;
+
+public class EmployeeNotFoundException extends RuntimeException {
+
+    public EmployeeNotFoundException(String message) {
+        super(message);
+    }
+}
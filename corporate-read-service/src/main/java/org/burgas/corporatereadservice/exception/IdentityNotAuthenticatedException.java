@@ -0,0 +1,8 @@
+package org.burgas.corporatereadservice.exception;
+
+public class IdentityNotAuthenticatedException extends RuntimeException {
+
+    public IdentityNotAuthenticatedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.burgas.corporatereadservice.exception;
+
+public class IdentityNotDirectorException extends RuntimeException {
+
+    public IdentityNotDirectorException(String message) {
+        super(message);
+    }
+}
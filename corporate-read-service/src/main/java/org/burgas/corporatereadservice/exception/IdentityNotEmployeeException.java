@@ -0,0 +1,8 @@
+package org.burgas.corporatereadservice.exception;
+
+public class IdentityNotEmployeeException extends RuntimeException {
+
+    public IdentityNotEmployeeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.burgas.corporatereadservice.exception;
+
+public class PositionNotFoundException extends RuntimeException {
+
+    public PositionNotFoundException(String message) {
+        super(message);
+    }
+}
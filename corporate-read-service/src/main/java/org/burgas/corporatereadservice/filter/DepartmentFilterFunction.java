@@ -0,0 +1,88 @@
+package org.burgas.corporatereadservice.filter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
+import org.burgas.corporatereadservice.exception.EmployeeNotFoundException;
+import org.burgas.corporatereadservice.exception.IdentityNotAuthenticatedException;
+import org.burgas.corporatereadservice.service.MembershipService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.burgas.corporatereadservice.message.EmployeeMessages.EMPLOYEE_NOT_FOUND;
+import static org.burgas.corporatereadservice.message.IdentityMessages.IDENTITY_NOT_AUTHENTICATED;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepartmentFilterFunction implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private final MembershipService membershipService;
+
+    @Override
+    public @NotNull Mono<ServerResponse> filter(@NotNull ServerRequest request, @NotNull HandlerFunction<ServerResponse> next) {
+        if (
+                request.path().equals("/api/v1/departments/by-corporation")
+        ) {
+            return this.authorize(
+                    this.authenticated(request)
+                            .flatMap(
+                                    identity -> this.membershipService.isEmployeeOrDirector(
+                                            UUID.fromString(request.queryParam("corporationId").orElseThrow()), identity.id()
+                                    )
+                            ),
+                    () -> new EmployeeNotFoundException(EMPLOYEE_NOT_FOUND.getMessage()),
+                    request, next
+            );
+
+        } else if (
+                request.path().equals("/api/v1/departments/by-id")
+        ) {
+            return this.authorize(
+                    this.authenticated(request)
+                            .flatMap(
+                                    identity -> this.membershipService.isDepartmentEmployee(
+                                            UUID.fromString(request.queryParam("departmentId").orElseThrow()), identity.id()
+                                    )
+                            ),
+                    () -> new EmployeeNotFoundException(EMPLOYEE_NOT_FOUND.getMessage()),
+                    request, next
+            );
+        }
+
+        return next.handle(request);
+    }
+
+    private Mono<ServerResponse> authorize(
+            final Mono<Boolean> permitted, final Supplier<? extends RuntimeException> denied,
+            final ServerRequest request, final HandlerFunction<ServerResponse> next
+    ) {
+        return permitted
+                .flatMap(allowed -> allowed ? Mono.just(true) : Mono.error(denied))
+                .onErrorResume(
+                        exception -> {
+                            log.debug("Access to {} denied: {}", request.path(), exception.getMessage());
+                            return Mono.just(false);
+                        }
+                )
+                .flatMap(allowed -> allowed ? next.handle(request) : ServerResponse.status(HttpStatus.FORBIDDEN).build());
+    }
+
+    private Mono<IdentityPrincipal> authenticated(final ServerRequest request) {
+        return request.principal()
+                .map(Authentication.class::cast)
+                .filter(Authentication::isAuthenticated)
+                .map(authentication -> (IdentityPrincipal) authentication.getPrincipal())
+                .switchIfEmpty(Mono.error(() -> new IdentityNotAuthenticatedException(IDENTITY_NOT_AUTHENTICATED.getMessage())));
+    }
+}
@@ -0,0 +1,154 @@
+package org.burgas.corporatereadservice.mapper;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithOfficesResponse;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.media.MediaResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
+import org.burgas.corporatereadservice.entity.*;
+import org.burgas.corporatereadservice.repository.AddressRepository;
+import org.burgas.corporatereadservice.repository.CorporationRepository;
+import org.burgas.corporatereadservice.repository.DepartmentRepository;
+import org.burgas.corporatereadservice.repository.MediaRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public final class CorporationMapper {
+
+    private final CorporationRepository corporationRepository;
+    private final DepartmentRepository departmentRepository;
+    private final AddressRepository addressRepository;
+    private final MediaRepository mediaRepository;
+
+    public Mono<CorporationWithOfficesResponse> toResponse(final Corporation corporation) {
+        return Mono.zip(
+                        this.departmentRepository.findDepartmentsByCorporationId(corporation.getId()).collectList(),
+                        this.findImages(List.of(corporation))
+                )
+                .flatMap(
+                        tuple -> {
+                            List<Department> departments = tuple.getT1();
+                            return this.departmentRepository.findOfficeDepartmentsByDepartmentIdIn(
+                                            departments.stream().map(Department::getId).toList()
+                                    )
+                                    .collectMultimap(OfficeDepartment::getDepartmentId)
+                                    .flatMap(
+                                            offices -> this.addressRepository.findAddressesByIdIn(
+                                                            offices.values()
+                                                                    .stream()
+                                                                    .flatMap(Collection::stream)
+                                                                    .map(OfficeDepartment::getAddressId)
+                                                                    .collect(Collectors.toSet())
+                                                    )
+                                                    .collectMap(AddressResponse::getId)
+                                                    .map(addresses -> this.toResponse(corporation, tuple.getT2(), departments, offices, addresses))
+                                    );
+                        }
+                );
+    }
+
+    public Mono<Map<UUID, CorporationWithoutOfficesResponse>> toCorporationsWithoutOffices(final Collection<UUID> corporationIds) {
+        if (corporationIds.isEmpty())
+            return Mono.just(Map.of());
+
+        return Mono.zip(
+                        this.corporationRepository.findCorporationsByIdIn(corporationIds).collectList(),
+                        this.departmentRepository.findDepartmentsByCorporationIdIn(corporationIds).collectMultimap(Department::getCorporationId)
+                )
+                .flatMap(
+                        tuple -> this.findImages(tuple.getT1())
+                                .map(
+                                        images -> tuple.getT1()
+                                                .stream()
+                                                .collect(
+                                                        Collectors.toMap(
+                                                                Corporation::getId,
+                                                                corporation -> this.toCorporationWithoutOfficesResponse(
+                                                                        corporation, images,
+                                                                        tuple.getT2().getOrDefault(corporation.getId(), List.of())
+                                                                )
+                                                        )
+                                                )
+                                )
+                );
+    }
+
+    private CorporationWithOfficesResponse toResponse(
+            final Corporation corporation, final Map<UUID, MediaResponse> images, final List<Department> departments,
+            final Map<UUID, Collection<OfficeDepartment>> offices, final Map<UUID, AddressResponse> addresses
+    ) {
+        return CorporationWithOfficesResponse.builder()
+                .id(corporation.getId())
+                .name(corporation.getName())
+                .description(corporation.getDescription())
+                .officesAmount(corporation.getOfficesAmount())
+                .employeesAmount(corporation.getEmployeesAmount())
+                .directors(corporation.getDirectors())
+                .image(corporation.getImageId() == null ? null : images.get(corporation.getImageId()))
+                .departments(
+                        departments.stream()
+                                .map(
+                                        department -> DepartmentWithOfficesResponse.builder()
+                                                .id(department.getId())
+                                                .name(department.getName())
+                                                .description(department.getDescription())
+                                                .offices(
+                                                        offices.getOrDefault(department.getId(), List.of())
+                                                                .stream()
+                                                                .map(
+                                                                        office -> OfficeWithoutEmployeesResponse.builder()
+                                                                                .address(addresses.get(office.getAddressId()))
+                                                                                .build()
+                                                                )
+                                                                .toList()
+                                                )
+                                                .build()
+                                )
+                                .toList()
+                )
+                .build();
+    }
+
+    private CorporationWithoutOfficesResponse toCorporationWithoutOfficesResponse(
+            final Corporation corporation, final Map<UUID, MediaResponse> images, final Collection<Department> departments
+    ) {
+        return CorporationWithoutOfficesResponse.builder()
+                .id(corporation.getId())
+                .name(corporation.getName())
+                .description(corporation.getDescription())
+                .officesAmount(corporation.getOfficesAmount())
+                .employeesAmount(corporation.getEmployeesAmount())
+                .directors(corporation.getDirectors())
+                .image(corporation.getImageId() == null ? null : images.get(corporation.getImageId()))
+                .departments(
+                        departments.stream()
+                                .map(
+                                        department -> DepartmentWithoutOfficesResponse.builder()
+                                                .id(department.getId())
+                                                .name(department.getName())
+                                                .description(department.getDescription())
+                                                .build()
+                                )
+                                .toList()
+                )
+                .build();
+    }
+
+    private Mono<Map<UUID, MediaResponse>> findImages(final List<Corporation> corporations) {
+        return this.mediaRepository.findMediaByIdIn(
+                        corporations.stream()
+                                .map(Corporation::getImageId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet())
+                )
+                .collectMap(MediaResponse::getId);
+    }
+}
@@ -0,0 +1,71 @@
+package org.burgas.corporatereadservice.mapper;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
+import org.burgas.corporatereadservice.entity.Department;
+import org.burgas.corporatereadservice.entity.OfficeDepartment;
+import org.burgas.corporatereadservice.repository.AddressRepository;
+import org.burgas.corporatereadservice.repository.DepartmentRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public final class DepartmentMapper {
+
+    private final DepartmentRepository departmentRepository;
+    private final AddressRepository addressRepository;
+    private final CorporationMapper corporationMapper;
+
+    public Mono<List<DepartmentWithOfficesResponse>> toResponses(final List<Department> departments) {
+        if (departments.isEmpty())
+            return Mono.just(List.of());
+
+        return this.departmentRepository.findOfficeDepartmentsByDepartmentIdIn(departments.stream().map(Department::getId).toList())
+                .collectList()
+                .flatMap(
+                        offices -> Mono.zip(
+                                        this.addressRepository.findAddressesByIdIn(
+                                                        offices.stream().map(OfficeDepartment::getAddressId).collect(Collectors.toSet())
+                                                )
+                                                .collectMap(AddressResponse::getId),
+                                        this.corporationMapper.toCorporationsWithoutOffices(
+                                                offices.stream().map(OfficeDepartment::getCorporationId).collect(Collectors.toSet())
+                                        )
+                                )
+                                .map(
+                                        tuple -> {
+                                            Map<UUID, List<OfficeDepartment>> officesByDepartment = offices.stream()
+                                                    .collect(Collectors.groupingBy(OfficeDepartment::getDepartmentId));
+                                            return departments.stream()
+                                                    .map(
+                                                            department -> DepartmentWithOfficesResponse.builder()
+                                                                    .id(department.getId())
+                                                                    .name(department.getName())
+                                                                    .description(department.getDescription())
+                                                                    .offices(
+                                                                            officesByDepartment.getOrDefault(department.getId(), List.of())
+                                                                                    .stream()
+                                                                                    .map(
+                                                                                            office -> OfficeWithoutEmployeesResponse.builder()
+                                                                                                    .address(tuple.getT1().get(office.getAddressId()))
+                                                                                                    .corporation(tuple.getT2().get(office.getCorporationId()))
+                                                                                                    .build()
+                                                                                    )
+                                                                                    .toList()
+                                                                    )
+                                                                    .build()
+                                                    )
+                                                    .toList();
+                                        }
+                                )
+                );
+    }
+}
@@ -0,0 +1,152 @@
+package org.burgas.corporatereadservice.mapper;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithoutOfficeResponse;
+import org.burgas.corporatecommon.dto.identity.IdentityWithoutEmployeeResponse;
+import org.burgas.corporatecommon.dto.media.MediaResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
+import org.burgas.corporatecommon.dto.position.PositionWithoutEmployeeResponse;
+import org.burgas.corporatereadservice.entity.*;
+import org.burgas.corporatereadservice.repository.AddressRepository;
+import org.burgas.corporatereadservice.repository.IdentityRepository;
+import org.burgas.corporatereadservice.repository.MediaRepository;
+import org.burgas.corporatereadservice.repository.PositionRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public final class EmployeeMapper {
+
+    private final AddressRepository addressRepository;
+    private final IdentityRepository identityRepository;
+    private final MediaRepository mediaRepository;
+    private final PositionRepository positionRepository;
+    private final CorporationMapper corporationMapper;
+
+    public Mono<List<EmployeeWithOfficeResponse>> toResponses(final List<Employee> employees) {
+        if (employees.isEmpty())
+            return Mono.just(List.of());
+
+        Set<UUID> addressIds = new HashSet<>();
+        employees.forEach(
+                employee -> {
+                    addressIds.add(employee.getAddressId());
+                    addressIds.add(employee.getOfficeAddressId());
+                }
+        );
+        addressIds.remove(null);
+
+        return Mono.zip(
+                        this.addressRepository.findAddressesByIdIn(addressIds).collectMap(AddressResponse::getId),
+                        this.findIdentities(employees),
+                        this.positionRepository.findPositionsByIdIn(ids(employees.stream().map(Employee::getPositionId)))
+                                .collectMap(Position::getId),
+                        this.corporationMapper.toCorporationsWithoutOffices(
+                                ids(employees.stream().map(Employee::getOfficeCorporationId))
+                        )
+                )
+                .map(
+                        tuple -> employees.stream()
+                                .map(
+                                        employee -> this.toResponse(
+                                                employee, tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4()
+                                        )
+                                )
+                                .toList()
+                );
+    }
+
+    public Mono<List<EmployeeWithoutOfficeResponse>> toEmployeesWithoutOffice(final List<Employee> employees) {
+        if (employees.isEmpty())
+            return Mono.just(List.of());
+
+        return Mono.zip(
+                        this.addressRepository.findAddressesByIdIn(ids(employees.stream().map(Employee::getAddressId)))
+                                .collectMap(AddressResponse::getId),
+                        this.findIdentities(employees)
+                )
+                .map(
+                        tuple -> employees.stream()
+                                .map(
+                                        employee -> EmployeeWithoutOfficeResponse.builder()
+                                                .id(employee.getId())
+                                                .identity(employee.getIdentityId() == null ? null : tuple.getT2().get(employee.getIdentityId()))
+                                                .firstName(employee.getFirstName())
+                                                .lastName(employee.getLastName())
+                                                .patronymic(employee.getPatronymic())
+                                                .about(employee.getAbout())
+                                                .address(employee.getAddressId() == null ? null : tuple.getT1().get(employee.getAddressId()))
+                                                .build()
+                                )
+                                .toList()
+                );
+    }
+
+    private EmployeeWithOfficeResponse toResponse(
+            final Employee employee, final Map<UUID, AddressResponse> addresses, final Map<UUID, IdentityWithoutEmployeeResponse> identities,
+            final Map<UUID, Position> positions, final Map<UUID, CorporationWithoutOfficesResponse> corporations
+    ) {
+        Position position = employee.getPositionId() == null ? null : positions.get(employee.getPositionId());
+        return EmployeeWithOfficeResponse.builder()
+                .id(employee.getId())
+                .identity(employee.getIdentityId() == null ? null : identities.get(employee.getIdentityId()))
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .patronymic(employee.getPatronymic())
+                .about(employee.getAbout())
+                .address(employee.getAddressId() == null ? null : addresses.get(employee.getAddressId()))
+                .position(
+                        position == null ? null : PositionWithoutEmployeeResponse.builder()
+                                .id(position.getId())
+                                .name(position.getName())
+                                .description(position.getDescription())
+                                .build()
+                )
+                .office(
+                        employee.getOfficeCorporationId() == null ? null : OfficeWithoutEmployeesResponse.builder()
+                                .address(addresses.get(employee.getOfficeAddressId()))
+                                .corporation(corporations.get(employee.getOfficeCorporationId()))
+                                .build()
+                )
+                .build();
+    }
+
+    private Mono<Map<UUID, IdentityWithoutEmployeeResponse>> findIdentities(final List<Employee> employees) {
+        return this.identityRepository.findIdentitiesByIdIn(ids(employees.stream().map(Employee::getIdentityId)))
+                .collectList()
+                .flatMap(
+                        identities -> this.mediaRepository.findMediaByIdIn(ids(identities.stream().map(Identity::getImageId)))
+                                .collectMap(MediaResponse::getId)
+                                .map(
+                                        images -> identities.stream()
+                                                .collect(
+                                                        Collectors.toMap(
+                                                                Identity::getId,
+                                                                identity -> IdentityWithoutEmployeeResponse.builder()
+                                                                        .id(identity.getId())
+                                                                        .authority(identity.getAuthority())
+                                                                        .username(identity.getUsername())
+                                                                        .password(identity.getPassword())
+                                                                        .email(identity.getEmail())
+                                                                        .phone(identity.getPhone())
+                                                                        .enabled(identity.getEnabled())
+                                                                        .image(identity.getImageId() == null ? null : images.get(identity.getImageId()))
+                                                                        .build()
+                                                        )
+                                                )
+                                )
+                );
+    }
+
+    private static Set<UUID> ids(final Stream<UUID> ids) {
+        return ids.filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+}
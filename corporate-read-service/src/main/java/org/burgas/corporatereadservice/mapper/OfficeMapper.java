@@ -0,0 +1,102 @@
+package org.burgas.corporatereadservice.mapper;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithoutOfficeResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithEmployeesResponse;
+import org.burgas.corporatereadservice.entity.*;
+import org.burgas.corporatereadservice.repository.*;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public final class OfficeMapper {
+
+    private final CorporationRepository corporationRepository;
+    private final AddressRepository addressRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final CorporationMapper corporationMapper;
+    private final EmployeeMapper employeeMapper;
+
+    public Mono<List<OfficeWithEmployeesResponse>> toResponses(final UUID corporationId, final List<Office> offices) {
+        if (offices.isEmpty())
+            return Mono.just(List.of());
+
+        return Mono.zip(
+                        this.corporationRepository.findCorporationById(corporationId)
+                                .flatMap(this.corporationMapper::toResponse)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty()),
+                        this.addressRepository.findAddressesByIdIn(offices.stream().map(Office::getAddressId).toList())
+                                .collectMap(AddressResponse::getId),
+                        this.findEmployees(corporationId),
+                        this.findDepartments(corporationId)
+                )
+                .map(
+                        tuple -> offices.stream()
+                                .map(
+                                        office -> OfficeWithEmployeesResponse.builder()
+                                                .corporation(tuple.getT1().orElse(null))
+                                                .address(tuple.getT2().get(office.getAddressId()))
+                                                .employees(tuple.getT3().getOrDefault(office.getAddressId(), List.of()))
+                                                .departments(tuple.getT4().getOrDefault(office.getAddressId(), List.of()))
+                                                .build()
+                                )
+                                .toList()
+                );
+    }
+
+    private Mono<Map<UUID, List<EmployeeWithoutOfficeResponse>>> findEmployees(final UUID corporationId) {
+        return this.employeeRepository.findEmployeesByCorporationId(corporationId)
+                .collectList()
+                .flatMap(
+                        employees -> this.employeeMapper.toEmployeesWithoutOffice(employees)
+                                .map(
+                                        responses -> {
+                                            Map<UUID, List<EmployeeWithoutOfficeResponse>> byOffice = new HashMap<>();
+                                            for (int i = 0; i < employees.size(); i++)
+                                                byOffice.computeIfAbsent(employees.get(i).getOfficeAddressId(), addressId -> new ArrayList<>())
+                                                        .add(responses.get(i));
+                                            return byOffice;
+                                        }
+                                )
+                );
+    }
+
+    private Mono<Map<UUID, List<DepartmentWithoutOfficesResponse>>> findDepartments(final UUID corporationId) {
+        return this.departmentRepository.findOfficeDepartmentsByCorporationId(corporationId)
+                .collectList()
+                .flatMap(
+                        officeDepartments -> this.departmentRepository.findDepartmentsByIdIn(
+                                        officeDepartments.stream().map(OfficeDepartment::getDepartmentId).collect(Collectors.toSet())
+                                )
+                                .collectMap(Department::getId)
+                                .map(
+                                        departments -> officeDepartments.stream()
+                                                .filter(officeDepartment -> departments.containsKey(officeDepartment.getDepartmentId()))
+                                                .collect(
+                                                        Collectors.groupingBy(
+                                                                OfficeDepartment::getAddressId,
+                                                                Collectors.mapping(
+                                                                        officeDepartment -> {
+                                                                            Department department = departments.get(officeDepartment.getDepartmentId());
+                                                                            return DepartmentWithoutOfficesResponse.builder()
+                                                                                    .id(department.getId())
+                                                                                    .name(department.getName())
+                                                                                    .description(department.getDescription())
+                                                                                    .build();
+                                                                        },
+                                                                        Collectors.toList()
+                                                                )
+                                                        )
+                                                )
+                                )
+                );
+    }
+}
@@ -0,0 +1,86 @@
+package org.burgas.corporatereadservice.mapper;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithoutOfficeResponse;
+import org.burgas.corporatecommon.dto.position.PositionWithEmployeeResponse;
+import org.burgas.corporatereadservice.entity.Department;
+import org.burgas.corporatereadservice.entity.Employee;
+import org.burgas.corporatereadservice.entity.Position;
+import org.burgas.corporatereadservice.repository.DepartmentRepository;
+import org.burgas.corporatereadservice.repository.EmployeeRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public final class PositionMapper {
+
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+
+    public Mono<List<PositionWithEmployeeResponse>> toResponses(final List<Position> positions) {
+        if (positions.isEmpty())
+            return Mono.just(List.of());
+
+        return Mono.zip(
+                        this.departmentRepository.findDepartmentsByIdIn(
+                                        positions.stream()
+                                                .map(Position::getDepartmentId)
+                                                .filter(Objects::nonNull)
+                                                .collect(Collectors.toSet())
+                                )
+                                .collectMap(Department::getId),
+                        this.findEmployees(positions)
+                )
+                .map(
+                        tuple -> positions.stream()
+                                .map(
+                                        position -> {
+                                            Department department = position.getDepartmentId() == null ? null :
+                                                    tuple.getT1().get(position.getDepartmentId());
+                                            return PositionWithEmployeeResponse.builder()
+                                                    .id(position.getId())
+                                                    .name(position.getName())
+                                                    .description(position.getDescription())
+                                                    .department(
+                                                            department == null ? null : DepartmentWithoutOfficesResponse.builder()
+                                                                    .id(department.getId())
+                                                                    .name(department.getName())
+                                                                    .description(department.getDescription())
+                                                                    .build()
+                                                    )
+                                                    .employee(tuple.getT2().get(position.getId()))
+                                                    .build();
+                                        }
+                                )
+                                .toList()
+                );
+    }
+
+    private Mono<Map<UUID, EmployeeWithoutOfficeResponse>> findEmployees(final List<Position> positions) {
+        return this.employeeRepository.findEmployeesByPositionIdIn(positions.stream().map(Position::getId).toList())
+                .collectList()
+                .flatMap(
+                        employees -> {
+                            Map<UUID, Employee> employeesByPosition = new HashMap<>();
+                            employees.forEach(employee -> employeesByPosition.putIfAbsent(employee.getPositionId(), employee));
+                            List<Employee> occupants = List.copyOf(employeesByPosition.values());
+
+                            return this.employeeMapper.toEmployeesWithoutOffice(occupants)
+                                    .map(
+                                            responses -> {
+                                                Map<UUID, EmployeeWithoutOfficeResponse> byPosition = new HashMap<>();
+                                                for (int i = 0; i < occupants.size(); i++)
+                                                    byPosition.put(occupants.get(i).getPositionId(), responses.get(i));
+                                                return byPosition;
+                                            }
+                                    );
+                        }
+                );
+    }
+}
@@ -0,0 +1,15 @@
+package org.burgas.corporatereadservice.message;
+
+import lombok.Getter;
+
+@Getter
+public enum CorporationMessages {
+
+    CORPORATION_NOT_FOUND("Corporation not found");
+
+    private final String message;
+
+    CorporationMessages(String message) {
+        this.message = message;
+    }
+}
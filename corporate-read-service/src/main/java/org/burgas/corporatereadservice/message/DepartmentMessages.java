@@ -0,0 +1,15 @@
+package org.burgas.corporatereadservice.message;
+
+import lombok.Getter;
+
+@Getter
+public enum DepartmentMessages {
+
+    DEPARTMENT_NOT_FOUND("Department not found");
+
+    private final String message;
+
+    DepartmentMessages(String message) {
+        this.message = message;
+    }
+}
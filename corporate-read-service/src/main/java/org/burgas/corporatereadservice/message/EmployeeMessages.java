@@ -0,0 +1,17 @@
+package org.burgas.corporatereadservice.message;
+
+import lombok.Getter;
+
+@Getter
+public enum EmployeeMessages {
+
+    IDENTITY_NOT_EMPLOYEE("Identity not employee"),
+    IDENTITY_NOT_DIRECTOR("Identity not director"),
+    EMPLOYEE_NOT_FOUND("Employee not found");
+
+    private final String message;
+
+    EmployeeMessages(String message) {
+        this.message = message;
+    }
+}
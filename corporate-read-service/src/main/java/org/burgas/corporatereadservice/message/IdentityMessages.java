@@ -0,0 +1,15 @@
+package org.burgas.corporatereadservice.message;
+
+import lombok.Getter;
+
+@Getter
+public enum IdentityMessages {
+
+    IDENTITY_NOT_AUTHENTICATED("Identity not authenticated");
+
+    private final String message;
+
+    IdentityMessages(String message) {
+        this.message = message;
+    }
+}
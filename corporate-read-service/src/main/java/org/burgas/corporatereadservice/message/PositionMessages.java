@@ -0,0 +1,15 @@
+package org.burgas.corporatereadservice.message;
+
+import lombok.Getter;
+
+@Getter
+public enum PositionMessages {
+
+    POSITION_NOT_FOUND("Position not found");
+
+    private final String message;
+
+    PositionMessages(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,39 @@
+package org.burgas.corporatereadservice.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class AddressRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<AddressResponse> findAddressesByIdIn(final Collection<UUID> addressIds) {
+        if (addressIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql("select a.* from address a where a.id = any(:addressIds)")
+                .bind("addressIds", addressIds.toArray(UUID[]::new))
+                .map(AddressRepository::toAddress)
+                .all();
+    }
+
+    private static AddressResponse toAddress(final Readable row) {
+        return AddressResponse.builder()
+                .id(row.get("id", UUID.class))
+                .country(row.get("country", String.class))
+                .city(row.get("city", String.class))
+                .street(row.get("street", String.class))
+                .house(row.get("house", String.class))
+                .apartment(row.get("apartment", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package org.burgas.corporatereadservice.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.entity.Corporation;
+import org.burgas.corporatereadservice.entity.Membership;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class CorporationRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Corporation> findCorporationById(final UUID corporationId) {
+        return this.databaseClient.sql("select c.* from corporation c where c.id = :corporationId")
+                .bind("corporationId", corporationId)
+                .map(CorporationRepository::toCorporation)
+                .one();
+    }
+
+    public Flux<Corporation> findCorporationsByIdIn(final Collection<UUID> corporationIds) {
+        if (corporationIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql("select c.* from corporation c where c.id = any(:corporationIds)")
+                .bind("corporationIds", corporationIds.toArray(UUID[]::new))
+                .map(CorporationRepository::toCorporation)
+                .all();
+    }
+
+    public Mono<Membership> findMembership(final UUID corporationId, final UUID identityId) {
+        return this.databaseClient.sql(
+                        """
+                        select :identityId = any(c.directors) as director,
+                               exists(
+                                   select 1 from employee e where e.office_corporation_id = c.id and e.identity_id = :identityId
+                               ) as employee
+                        from corporation c where c.id = :corporationId
+                        """
+                )
+                .bind("corporationId", corporationId)
+                .bind("identityId", identityId)
+                .map(
+                        row -> new Membership(
+                                Boolean.TRUE.equals(row.get("director", Boolean.class)),
+                                Boolean.TRUE.equals(row.get("employee", Boolean.class))
+                        )
+                )
+                .one();
+    }
+
+    private static Corporation toCorporation(final Readable row) {
+        UUID[] directors = row.get("directors", UUID[].class);
+        return Corporation.builder()
+                .id(row.get("id", UUID.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .officesAmount(row.get("offices_amount", Long.class))
+                .employeesAmount(row.get("employees_amount", Long.class))
+                .directors(directors == null ? List.of() : Arrays.asList(directors))
+                .imageId(row.get("image_id", UUID.class))
+                .build();
+    }
+}
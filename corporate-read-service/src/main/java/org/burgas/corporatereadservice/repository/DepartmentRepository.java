@@ -0,0 +1,124 @@
+package org.burgas.corporatereadservice.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.entity.Department;
+import org.burgas.corporatereadservice.entity.OfficeDepartment;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class DepartmentRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Department> findDepartmentById(final UUID departmentId) {
+        return this.databaseClient.sql("select d.* from department d where d.id = :departmentId")
+                .bind("departmentId", departmentId)
+                .map(DepartmentRepository::toDepartment)
+                .one();
+    }
+
+    public Flux<Department> findDepartmentsByCorporationId(final UUID corporationId) {
+        return this.databaseClient.sql("select d.* from department d where d.corporation_id = :corporationId order by d.id")
+                .bind("corporationId", corporationId)
+                .map(DepartmentRepository::toDepartment)
+                .all();
+    }
+
+    public Flux<Department> findDepartmentsByCorporationIdIn(final Collection<UUID> corporationIds) {
+        if (corporationIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql("select d.* from department d where d.corporation_id = any(:corporationIds) order by d.id")
+                .bind("corporationIds", corporationIds.toArray(UUID[]::new))
+                .map(DepartmentRepository::toDepartment)
+                .all();
+    }
+
+    public Flux<Department> findDepartmentsByIdIn(final Collection<UUID> departmentIds) {
+        if (departmentIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql("select d.* from department d where d.id = any(:departmentIds)")
+                .bind("departmentIds", departmentIds.toArray(UUID[]::new))
+                .map(DepartmentRepository::toDepartment)
+                .all();
+    }
+
+    public Mono<Boolean> findDepartmentEmployeeByIdentityId(final UUID departmentId, final UUID identityId) {
+        return this.databaseClient.sql(
+                        """
+                        select exists(
+                            select 1 from office_department od
+                            join employee e on e.office_corporation_id = od.office_corporation_id and e.office_address_id = od.office_address_id
+                            where od.department_id = d.id and e.identity_id = :identityId
+                        ) as employee
+                        from department d where d.id = :departmentId
+                        """
+                )
+                .bind("departmentId", departmentId)
+                .bind("identityId", identityId)
+                .map(row -> row.get("employee", Boolean.class))
+                .one();
+    }
+
+    public Mono<UUID> findCorporationIdByDepartmentId(final UUID departmentId) {
+        return this.databaseClient.sql("select d.corporation_id from department d where d.id = :departmentId")
+                .bind("departmentId", departmentId)
+                .map(row -> row.get("corporation_id", UUID.class))
+                .one();
+    }
+
+    public Flux<OfficeDepartment> findOfficeDepartmentsByDepartmentIdIn(final Collection<UUID> departmentIds) {
+        if (departmentIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql(
+                        """
+                        select od.office_corporation_id, od.office_address_id, od.department_id
+                        from office_department od where od.department_id = any(:departmentIds)
+                        order by od.office_corporation_id, od.office_address_id
+                        """
+                )
+                .bind("departmentIds", departmentIds.toArray(UUID[]::new))
+                .map(DepartmentRepository::toOfficeDepartment)
+                .all();
+    }
+
+    public Flux<OfficeDepartment> findOfficeDepartmentsByCorporationId(final UUID corporationId) {
+        return this.databaseClient.sql(
+                        """
+                        select od.office_corporation_id, od.office_address_id, od.department_id
+                        from office_department od where od.office_corporation_id = :corporationId
+                        order by od.department_id
+                        """
+                )
+                .bind("corporationId", corporationId)
+                .map(DepartmentRepository::toOfficeDepartment)
+                .all();
+    }
+
+    private static Department toDepartment(final Readable row) {
+        return Department.builder()
+                .id(row.get("id", UUID.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .corporationId(row.get("corporation_id", UUID.class))
+                .build();
+    }
+
+    private static OfficeDepartment toOfficeDepartment(final Readable row) {
+        return OfficeDepartment.builder()
+                .corporationId(row.get("office_corporation_id", UUID.class))
+                .addressId(row.get("office_address_id", UUID.class))
+                .departmentId(row.get("department_id", UUID.class))
+                .build();
+    }
+}
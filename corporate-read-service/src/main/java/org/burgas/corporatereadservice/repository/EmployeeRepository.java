@@ -0,0 +1,77 @@
+package org.burgas.corporatereadservice.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.entity.Employee;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class EmployeeRepository {
+
+    private static final int FETCH_SIZE = 256;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Employee> findEmployeeById(final UUID employeeId) {
+        return this.databaseClient.sql("select e.* from employee e where e.id = :employeeId")
+                .bind("employeeId", employeeId)
+                .map(EmployeeRepository::toEmployee)
+                .one();
+    }
+
+    public Flux<Employee> findEmployeesByCorporationId(final UUID corporationId) {
+        return this.databaseClient.sql("select e.* from employee e where e.office_corporation_id = :corporationId order by e.id")
+                .bind("corporationId", corporationId)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(EmployeeRepository::toEmployee)
+                .all();
+    }
+
+    public Flux<Employee> findEmployeesByCorporationIdAfter(final UUID corporationId, final UUID cursor, final int limit) {
+        return this.databaseClient.sql(
+                        """
+                        select e.* from employee e
+                        where e.office_corporation_id = :corporationId and e.id > :cursor
+                        order by e.id
+                        limit :limit
+                        """
+                )
+                .bind("corporationId", corporationId)
+                .bind("cursor", cursor)
+                .bind("limit", limit)
+                .map(EmployeeRepository::toEmployee)
+                .all();
+    }
+
+    public Flux<Employee> findEmployeesByPositionIdIn(final Collection<UUID> positionIds) {
+        if (positionIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql("select e.* from employee e where e.position_id = any(:positionIds) order by e.id")
+                .bind("positionIds", positionIds.toArray(UUID[]::new))
+                .map(EmployeeRepository::toEmployee)
+                .all();
+    }
+
+    private static Employee toEmployee(final Readable row) {
+        return Employee.builder()
+                .id(row.get("id", UUID.class))
+                .identityId(row.get("identity_id", UUID.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .patronymic(row.get("patronymic", String.class))
+                .about(row.get("about", String.class))
+                .addressId(row.get("address_id", UUID.class))
+                .officeCorporationId(row.get("office_corporation_id", UUID.class))
+                .officeAddressId(row.get("office_address_id", UUID.class))
+                .positionId(row.get("position_id", UUID.class))
+                .build();
+    }
+}
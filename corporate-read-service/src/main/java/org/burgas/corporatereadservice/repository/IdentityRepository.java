@@ -0,0 +1,64 @@
+package org.burgas.corporatereadservice.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.identity.Authority;
+import org.burgas.corporatecommon.identity.IdentityCredentials;
+import org.burgas.corporatereadservice.entity.Identity;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class IdentityRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Identity> findIdentitiesByIdIn(final Collection<UUID> identityIds) {
+        if (identityIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql("select i.* from identity i where i.id = any(:identityIds)")
+                .bind("identityIds", identityIds.toArray(UUID[]::new))
+                .map(IdentityRepository::toIdentity)
+                .all();
+    }
+
+    public Mono<IdentityCredentials> findIdentityCredentialsByEmail(final String email) {
+        return this.databaseClient.sql(
+                        """
+                        select i.id, i.email, i.password, i.authority, i.enabled, e.id as employee_id, e.office_corporation_id
+                        from identity i
+                        left join public.employee e on e.identity_id = i.id
+                        where i.email = :email
+                        """
+                )
+                .bind("email", email)
+                .map(
+                        row -> new IdentityCredentials(
+                                row.get("id", UUID.class), row.get("email", String.class), row.get("password", String.class),
+                                Authority.valueOf(row.get("authority", String.class)), row.get("enabled", Boolean.class),
+                                row.get("employee_id", UUID.class), row.get("office_corporation_id", UUID.class)
+                        )
+                )
+                .one();
+    }
+
+    private static Identity toIdentity(final Readable row) {
+        return Identity.builder()
+                .id(row.get("id", UUID.class))
+                .authority(Authority.valueOf(row.get("authority", String.class)))
+                .username(row.get("username", String.class))
+                .password(row.get("password", String.class))
+                .email(row.get("email", String.class))
+                .phone(row.get("phone", String.class))
+                .enabled(row.get("enabled", Boolean.class))
+                .imageId(row.get("image_id", UUID.class))
+                .build();
+    }
+}
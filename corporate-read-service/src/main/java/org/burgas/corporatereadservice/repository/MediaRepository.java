@@ -0,0 +1,46 @@
+package org.burgas.corporatereadservice.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.media.MediaResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class MediaRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<MediaResponse> findMediaByIdIn(final Collection<UUID> mediaIds) {
+        if (mediaIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql(
+                        """
+                        select m.id, m.name, m.content_type, m.format, m.size, m.etag, m.updated_at
+                        from media m where m.id = any(:mediaIds)
+                        """
+                )
+                .bind("mediaIds", mediaIds.toArray(UUID[]::new))
+                .map(MediaRepository::toMedia)
+                .all();
+    }
+
+    private static MediaResponse toMedia(final Readable row) {
+        return MediaResponse.builder()
+                .id(row.get("id", UUID.class))
+                .name(row.get("name", String.class))
+                .contentType(row.get("content_type", String.class))
+                .format(row.get("format", String.class))
+                .size(row.get("size", Long.class))
+                .etag(row.get("etag", String.class))
+                .updatedAt(row.get("updated_at", Instant.class))
+                .build();
+    }
+}
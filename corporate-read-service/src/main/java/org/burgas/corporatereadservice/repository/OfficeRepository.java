@@ -0,0 +1,30 @@
+package org.burgas.corporatereadservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.entity.Office;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class OfficeRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Office> findOfficesByCorporationId(final UUID corporationId) {
+        return this.databaseClient.sql(
+                        "select o.corporation_id, o.address_id from office o where o.corporation_id = :corporationId order by o.address_id"
+                )
+                .bind("corporationId", corporationId)
+                .map(
+                        row -> Office.builder()
+                                .corporationId(row.get("corporation_id", UUID.class))
+                                .addressId(row.get("address_id", UUID.class))
+                                .build()
+                )
+                .all();
+    }
+}
@@ -0,0 +1,79 @@
+package org.burgas.corporatereadservice.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.entity.Position;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PositionRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Position> findPositionById(final UUID positionId) {
+        return this.databaseClient.sql("select p.* from position p where p.id = :positionId")
+                .bind("positionId", positionId)
+                .map(PositionRepository::toPosition)
+                .one();
+    }
+
+    public Flux<Position> findPositionsByDepartmentId(final UUID departmentId) {
+        return this.databaseClient.sql("select p.* from position p where p.department_id = :departmentId order by p.id")
+                .bind("departmentId", departmentId)
+                .map(PositionRepository::toPosition)
+                .all();
+    }
+
+    public Flux<Position> findPositionsByCorporationId(final UUID corporationId) {
+        return this.databaseClient.sql(
+                        """
+                        select p.* from position p
+                            join public.department d on d.id = p.department_id
+                            where d.corporation_id = :corporationId
+                            order by p.id
+                        """
+                )
+                .bind("corporationId", corporationId)
+                .map(PositionRepository::toPosition)
+                .all();
+    }
+
+    public Flux<Position> findPositionsByIdIn(final Collection<UUID> positionIds) {
+        if (positionIds.isEmpty())
+            return Flux.empty();
+
+        return this.databaseClient.sql("select p.* from position p where p.id = any(:positionIds)")
+                .bind("positionIds", positionIds.toArray(UUID[]::new))
+                .map(PositionRepository::toPosition)
+                .all();
+    }
+
+    public Mono<UUID> findCorporationIdByPositionId(final UUID positionId) {
+        return this.databaseClient.sql(
+                        """
+                        select d.corporation_id from position p
+                            join public.department d on d.id = p.department_id
+                            where p.id = :positionId
+                        """
+                )
+                .bind("positionId", positionId)
+                .map(row -> row.get("corporation_id", UUID.class))
+                .one();
+    }
+
+    private static Position toPosition(final Readable row) {
+        return Position.builder()
+                .id(row.get("id", UUID.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .departmentId(row.get("department_id", UUID.class))
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package org.burgas.corporatereadservice.router;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.exception.DepartmentNotFoundException;
+import org.burgas.corporatereadservice.filter.DepartmentFilterFunction;
+import org.burgas.corporatereadservice.service.DepartmentService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.UUID;
+
+@Configuration
+@RequiredArgsConstructor
+public class DepartmentRouter {
+
+    private final DepartmentService departmentService;
+    private final DepartmentFilterFunction departmentFilterFunction;
+
+    @Bean
+    public RouterFunction<ServerResponse> departmentRoutes() {
+        return RouterFunctions.route()
+                .filter(this.departmentFilterFunction)
+                .GET(
+                        "/api/v1/departments/by-corporation", request ->
+                                this.departmentService.findByCorporation(
+                                                UUID.fromString(request.queryParam("corporationId").orElseThrow())
+                                        )
+                                        .flatMap(
+                                                departments -> ServerResponse
+                                                        .status(HttpStatus.OK)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .bodyValue(departments)
+                                        )
+                )
+                .GET(
+                        "/api/v1/departments/by-id", request ->
+                                this.departmentService.findById(
+                                                UUID.fromString(request.queryParam("departmentId").orElseThrow())
+                                        )
+                                        .flatMap(
+                                                department -> ServerResponse
+                                                        .status(HttpStatus.OK)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .bodyValue(department)
+                                        )
+                )
+                .onError(
+                        DepartmentNotFoundException.class, (throwable, serverRequest) ->
+                                ServerResponse
+                                        .status(HttpStatus.NOT_ACCEPTABLE)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(throwable.getMessage())
+                )
+                .build();
+    }
+}
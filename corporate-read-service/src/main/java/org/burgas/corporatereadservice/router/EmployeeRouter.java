@@ -0,0 +1,89 @@
+package org.burgas.corporatereadservice.router;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
+import org.burgas.corporatereadservice.exception.CorporationNotFoundException;
+import org.burgas.corporatereadservice.exception.EmployeeNotFoundException;
+import org.burgas.corporatereadservice.service.EmployeeService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.UUID;
+
+@Configuration
+@RequiredArgsConstructor
+public class EmployeeRouter {
+
+    private final EmployeeService employeeService;
+
+    @Bean
+    public RouterFunction<ServerResponse> employeeRoutes() {
+        return RouterFunctions.route()
+                .GET(
+                        "/api/v1/employees/by-corporation", request -> {
+                            UUID corporationId = UUID.fromString(request.queryParam("corporationId").orElseThrow());
+
+                            if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+                                return ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.APPLICATION_NDJSON)
+                                        .body(this.employeeService.streamByCorporationId(corporationId), EmployeeWithOfficeResponse.class);
+
+                            } else if (request.queryParam("cursor").isPresent() || request.queryParam("limit").isPresent()) {
+                                return this.employeeService.findByCorporationId(
+                                                corporationId,
+                                                request.queryParam("cursor").filter(cursor -> !cursor.isBlank()).map(UUID::fromString).orElse(null),
+                                                request.queryParam("limit").map(Integer::valueOf).orElse(null)
+                                        )
+                                        .flatMap(
+                                                page -> ServerResponse
+                                                        .status(HttpStatus.OK)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .bodyValue(page)
+                                        );
+
+                            } else {
+                                return this.employeeService.findByCorporationId(corporationId)
+                                        .flatMap(
+                                                employees -> ServerResponse
+                                                        .status(HttpStatus.OK)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .bodyValue(employees)
+                                        );
+                            }
+                        }
+                )
+                .GET(
+                        "/api/v1/employees/by-id", request ->
+                                this.employeeService.findById(
+                                                UUID.fromString(request.queryParam("employeeId").orElseThrow())
+                                        )
+                                        .flatMap(
+                                                employee -> ServerResponse
+                                                        .status(HttpStatus.OK)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .bodyValue(employee)
+                                        )
+                )
+                .onError(
+                        EmployeeNotFoundException.class, (throwable, serverRequest) ->
+                                ServerResponse
+                                        .status(HttpStatus.NOT_ACCEPTABLE)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(throwable.getMessage())
+                )
+                .onError(
+                        CorporationNotFoundException.class, (throwable, serverRequest) ->
+                                ServerResponse
+                                        .status(HttpStatus.NOT_ACCEPTABLE)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(throwable.getMessage())
+                )
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package org.burgas.corporatereadservice.router;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.config.PublicCacheProperties;
+import org.burgas.corporatereadservice.service.OfficeService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Configuration
+@RequiredArgsConstructor
+public class OfficeRouter {
+
+    private final OfficeService officeService;
+    private final PublicCacheProperties publicCacheProperties;
+    private final ObjectMapper objectMapper;
+
+    @Bean
+    public RouterFunction<ServerResponse> officeRoutes() {
+        return RouterFunctions.route()
+                .GET(
+                        "/api/v1/offices/by-corporation", request ->
+                                this.officeService.findByCorporationId(
+                                                UUID.fromString(request.queryParam("corporationId").orElseThrow())
+                                        )
+                                        .map(this::writeValueAsBytes)
+                                        .flatMap(
+                                                body -> {
+                                                    String etag = "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+                                                    if (request.headers().header("If-None-Match").contains(etag)) {
+                                                        return ServerResponse
+                                                                .status(HttpStatus.NOT_MODIFIED)
+                                                                .eTag(etag)
+                                                                .cacheControl(this.publicCacheProperties.cacheControl())
+                                                                .build();
+                                                    }
+                                                    return ServerResponse
+                                                            .status(HttpStatus.OK)
+                                                            .contentType(MediaType.APPLICATION_JSON)
+                                                            .eTag(etag)
+                                                            .cacheControl(this.publicCacheProperties.cacheControl())
+                                                            .bodyValue(body);
+                                                }
+                                        )
+                )
+                .build();
+    }
+
+    private byte[] writeValueAsBytes(final Object value) {
+        try {
+            return this.objectMapper.writeValueAsBytes(value);
+
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
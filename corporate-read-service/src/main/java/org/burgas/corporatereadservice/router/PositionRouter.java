@@ -0,0 +1,73 @@
+package org.burgas.corporatereadservice.router;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.exception.PositionNotFoundException;
+import org.burgas.corporatereadservice.filter.PositionFilterFunction;
+import org.burgas.corporatereadservice.service.PositionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.UUID;
+
+@Configuration
+@RequiredArgsConstructor
+public class PositionRouter {
+
+    private final PositionService positionService;
+    private final PositionFilterFunction positionFilterFunction;
+
+    @Bean
+    public RouterFunction<ServerResponse> positionRoutes() {
+        return RouterFunctions.route()
+                .filter(this.positionFilterFunction)
+                .GET(
+                        "/api/v1/positions/by-department", request ->
+                                this.positionService.findByDepartmentId(
+                                                UUID.fromString(request.queryParam("departmentId").orElseThrow())
+                                        )
+                                        .flatMap(
+                                                positions -> ServerResponse
+                                                        .status(HttpStatus.OK)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .bodyValue(positions)
+                                        )
+                )
+                .GET(
+                        "/api/v1/positions/by-corporation", request ->
+                                this.positionService.findByCorporationId(
+                                                UUID.fromString(request.queryParam("corporationId").orElseThrow())
+                                        )
+                                        .flatMap(
+                                                positions -> ServerResponse
+                                                        .status(HttpStatus.OK)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .bodyValue(positions)
+                                        )
+                )
+                .GET(
+                        "/api/v1/positions/by-id", request ->
+                                this.positionService.findById(
+                                                UUID.fromString(request.queryParam("positionId").orElseThrow())
+                                        )
+                                        .flatMap(
+                                                position -> ServerResponse
+                                                        .status(HttpStatus.OK)
+                                                        .contentType(MediaType.APPLICATION_JSON)
+                                                        .bodyValue(position)
+                                        )
+                )
+                .onError(
+                        PositionNotFoundException.class, (throwable, serverRequest) ->
+                                ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(throwable.getMessage())
+                )
+                .build();
+    }
+}
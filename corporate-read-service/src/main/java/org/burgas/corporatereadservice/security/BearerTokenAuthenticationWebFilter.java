@@ -0,0 +1,48 @@
+package org.burgas.corporatereadservice.security;
+
+import org.burgas.corporatecommon.security.IdentityPrincipal;
+import org.burgas.corporatecommon.security.TokenService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+public class BearerTokenAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public BearerTokenAuthenticationWebFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    public @NotNull Mono<Void> filter(@NotNull ServerWebExchange exchange, @NotNull WebFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length()))
+            return chain.filter(exchange);
+
+        Optional<IdentityPrincipal> identityPrincipal = this.tokenService.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        if (identityPrincipal.isEmpty()) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            return exchange.getResponse().setComplete();
+        }
+
+        IdentityPrincipal principal = identityPrincipal.get();
+        return chain.filter(exchange)
+                .contextWrite(
+                        ReactiveSecurityContextHolder.withAuthentication(
+                                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())
+                        )
+                );
+    }
+}
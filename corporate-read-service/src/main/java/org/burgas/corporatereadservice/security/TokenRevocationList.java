@@ -0,0 +1,61 @@
+package org.burgas.corporatereadservice.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporatecommon.config.TokenProperties;
+import org.burgas.corporatecommon.security.AbstractTokenRevocationList;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class TokenRevocationList extends AbstractTokenRevocationList {
+
+    private final DatabaseClient databaseClient;
+    private Disposable refresher;
+
+    public TokenRevocationList(DatabaseClient databaseClient, TokenProperties tokenProperties) {
+        super(tokenProperties);
+        this.databaseClient = databaseClient;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.refresher = Flux.interval(this.tokenProperties.getRevocationRefresh())
+                .startWith(0L)
+                .concatMap(
+                        tick -> this.refresh()
+                                .onErrorResume(
+                                        exception -> {
+                                            log.warn("Token revocation refresh failed: {}", exception.getMessage());
+                                            return Mono.empty();
+                                        }
+                                )
+                )
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (this.refresher != null)
+            this.refresher.dispose();
+    }
+
+    private Mono<Void> refresh() {
+        long horizon = this.horizon();
+        return this.databaseClient.sql("select identity_id, revoked_at from token_revocation where revoked_at >= :horizon")
+                .bind("horizon", horizon)
+                .map(row -> Map.entry(row.get("identity_id", UUID.class), row.get("revoked_at", Long.class)))
+                .all()
+                .doOnNext(entry -> this.merge(entry.getKey(), entry.getValue()))
+                .then(Mono.fromRunnable(() -> this.expire(horizon)));
+    }
+}
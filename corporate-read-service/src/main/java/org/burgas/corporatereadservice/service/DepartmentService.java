@@ -0,0 +1,40 @@
+package org.burgas.corporatereadservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
+import org.burgas.corporatereadservice.exception.CorporationNotFoundException;
+import org.burgas.corporatereadservice.exception.DepartmentNotFoundException;
+import org.burgas.corporatereadservice.mapper.DepartmentMapper;
+import org.burgas.corporatereadservice.repository.CorporationRepository;
+import org.burgas.corporatereadservice.repository.DepartmentRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.burgas.corporatereadservice.message.CorporationMessages.CORPORATION_NOT_FOUND;
+import static org.burgas.corporatereadservice.message.DepartmentMessages.DEPARTMENT_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class DepartmentService {
+
+    private final DepartmentRepository departmentRepository;
+    private final CorporationRepository corporationRepository;
+    private final DepartmentMapper departmentMapper;
+
+    public Mono<List<DepartmentWithOfficesResponse>> findByCorporation(final UUID corporationId) {
+        return this.corporationRepository.findCorporationById(corporationId)
+                .switchIfEmpty(Mono.error(() -> new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage())))
+                .flatMap(corporation -> this.departmentRepository.findDepartmentsByCorporationId(corporation.getId()).collectList())
+                .flatMap(this.departmentMapper::toResponses);
+    }
+
+    public Mono<DepartmentWithOfficesResponse> findById(final UUID departmentId) {
+        return this.departmentRepository.findDepartmentById(departmentId)
+                .switchIfEmpty(Mono.error(() -> new DepartmentNotFoundException(DEPARTMENT_NOT_FOUND.getMessage())))
+                .flatMap(department -> this.departmentMapper.toResponses(List.of(department)))
+                .map(responses -> responses.get(0));
+    }
+}
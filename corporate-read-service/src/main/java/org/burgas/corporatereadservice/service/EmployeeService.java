@@ -0,0 +1,80 @@
+package org.burgas.corporatereadservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.employee.EmployeePageResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
+import org.burgas.corporatereadservice.entity.Employee;
+import org.burgas.corporatereadservice.exception.EmployeeNotFoundException;
+import org.burgas.corporatereadservice.mapper.EmployeeMapper;
+import org.burgas.corporatereadservice.repository.EmployeeRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.burgas.corporatereadservice.message.EmployeeMessages.EMPLOYEE_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int STREAM_CHUNK_SIZE = 256;
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+
+    public Mono<List<EmployeeWithOfficeResponse>> findByCorporationId(final UUID corporationId) {
+        return this.employeeRepository.findEmployeesByCorporationId(corporationId)
+                .collectList()
+                .flatMap(this.employeeMapper::toResponses);
+    }
+
+    public Mono<EmployeePageResponse> findByCorporationId(final UUID corporationId, final UUID cursor, final Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        return this.employeeRepository.findEmployeesByCorporationIdAfter(
+                        corporationId, cursor == null ? FIRST_CURSOR : cursor, pageSize + 1
+                )
+                .collectList()
+                .flatMap(
+                        employees -> {
+                            boolean hasNext = employees.size() > pageSize;
+                            List<Employee> page = hasNext ? employees.subList(0, pageSize) : employees;
+                            return this.employeeMapper.toResponses(page)
+                                    .map(
+                                            responses -> EmployeePageResponse.builder()
+                                                    .employees(responses)
+                                                    .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                                                    .build()
+                                    );
+                        }
+                );
+    }
+
+    public Flux<EmployeeWithOfficeResponse> streamByCorporationId(final UUID corporationId) {
+        return this.findChunk(corporationId, FIRST_CURSOR)
+                .expand(
+                        chunk -> chunk.size() < STREAM_CHUNK_SIZE ? Mono.empty() :
+                                this.findChunk(corporationId, chunk.get(chunk.size() - 1).getId())
+                )
+                .filter(chunk -> !chunk.isEmpty())
+                .concatMap(this.employeeMapper::toResponses, 1)
+                .flatMapIterable(responses -> responses);
+    }
+
+    public Mono<EmployeeWithOfficeResponse> findById(final UUID employeeId) {
+        return this.employeeRepository.findEmployeeById(employeeId)
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(EMPLOYEE_NOT_FOUND.getMessage())))
+                .flatMap(employee -> this.employeeMapper.toResponses(List.of(employee)))
+                .map(responses -> responses.get(0));
+    }
+
+    private Mono<List<Employee>> findChunk(final UUID corporationId, final UUID cursor) {
+        return this.employeeRepository.findEmployeesByCorporationIdAfter(corporationId, cursor, STREAM_CHUNK_SIZE)
+                .collectList();
+    }
+}
@@ -0,0 +1,57 @@
+package org.burgas.corporatereadservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatereadservice.entity.Membership;
+import org.burgas.corporatereadservice.exception.CorporationNotFoundException;
+import org.burgas.corporatereadservice.exception.DepartmentNotFoundException;
+import org.burgas.corporatereadservice.exception.PositionNotFoundException;
+import org.burgas.corporatereadservice.repository.CorporationRepository;
+import org.burgas.corporatereadservice.repository.DepartmentRepository;
+import org.burgas.corporatereadservice.repository.PositionRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.burgas.corporatereadservice.message.CorporationMessages.CORPORATION_NOT_FOUND;
+import static org.burgas.corporatereadservice.message.DepartmentMessages.DEPARTMENT_NOT_FOUND;
+import static org.burgas.corporatereadservice.message.PositionMessages.POSITION_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class MembershipService {
+
+    private final CorporationRepository corporationRepository;
+    private final DepartmentRepository departmentRepository;
+    private final PositionRepository positionRepository;
+
+    public Mono<Boolean> isDirector(final UUID corporationId, final UUID identityId) {
+        return this.findMembership(corporationId, identityId)
+                .map(Membership::director);
+    }
+
+    public Mono<Boolean> isEmployeeOrDirector(final UUID corporationId, final UUID identityId) {
+        return this.findMembership(corporationId, identityId)
+                .map(membership -> membership.employee() || membership.director());
+    }
+
+    public Mono<Boolean> isDepartmentEmployee(final UUID departmentId, final UUID identityId) {
+        return this.departmentRepository.findDepartmentEmployeeByIdentityId(departmentId, identityId)
+                .switchIfEmpty(Mono.error(() -> new DepartmentNotFoundException(DEPARTMENT_NOT_FOUND.getMessage())));
+    }
+
+    public Mono<UUID> findCorporationIdByDepartment(final UUID departmentId) {
+        return this.departmentRepository.findCorporationIdByDepartmentId(departmentId)
+                .switchIfEmpty(Mono.error(() -> new DepartmentNotFoundException(DEPARTMENT_NOT_FOUND.getMessage())));
+    }
+
+    public Mono<UUID> findCorporationIdByPosition(final UUID positionId) {
+        return this.positionRepository.findCorporationIdByPositionId(positionId)
+                .switchIfEmpty(Mono.error(() -> new PositionNotFoundException(POSITION_NOT_FOUND.getMessage())));
+    }
+
+    private Mono<Membership> findMembership(final UUID corporationId, final UUID identityId) {
+        return this.corporationRepository.findMembership(corporationId, identityId)
+                .switchIfEmpty(Mono.error(() -> new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage())));
+    }
+}
@@ -0,0 +1,25 @@
+package org.burgas.corporatereadservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.office.OfficeWithEmployeesResponse;
+import org.burgas.corporatereadservice.mapper.OfficeMapper;
+import org.burgas.corporatereadservice.repository.OfficeRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OfficeService {
+
+    private final OfficeRepository officeRepository;
+    private final OfficeMapper officeMapper;
+
+    public Mono<List<OfficeWithEmployeesResponse>> findByCorporationId(final UUID corporationId) {
+        return this.officeRepository.findOfficesByCorporationId(corporationId)
+                .collectList()
+                .flatMap(offices -> this.officeMapper.toResponses(corporationId, offices));
+    }
+}
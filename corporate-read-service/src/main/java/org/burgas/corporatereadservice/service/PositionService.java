@@ -0,0 +1,46 @@
+package org.burgas.corporatereadservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.position.PositionWithEmployeeResponse;
+import org.burgas.corporatereadservice.exception.DepartmentNotFoundException;
+import org.burgas.corporatereadservice.exception.PositionNotFoundException;
+import org.burgas.corporatereadservice.mapper.PositionMapper;
+import org.burgas.corporatereadservice.repository.DepartmentRepository;
+import org.burgas.corporatereadservice.repository.PositionRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.burgas.corporatereadservice.message.DepartmentMessages.DEPARTMENT_NOT_FOUND;
+import static org.burgas.corporatereadservice.message.PositionMessages.POSITION_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class PositionService {
+
+    private final PositionRepository positionRepository;
+    private final DepartmentRepository departmentRepository;
+    private final PositionMapper positionMapper;
+
+    public Mono<List<PositionWithEmployeeResponse>> findByDepartmentId(final UUID departmentId) {
+        return this.departmentRepository.findDepartmentById(departmentId)
+                .switchIfEmpty(Mono.error(() -> new DepartmentNotFoundException(DEPARTMENT_NOT_FOUND.getMessage())))
+                .flatMap(department -> this.positionRepository.findPositionsByDepartmentId(department.getId()).collectList())
+                .flatMap(this.positionMapper::toResponses);
+    }
+
+    public Mono<List<PositionWithEmployeeResponse>> findByCorporationId(final UUID corporationId) {
+        return this.positionRepository.findPositionsByCorporationId(corporationId)
+                .collectList()
+                .flatMap(this.positionMapper::toResponses);
+    }
+
+    public Mono<PositionWithEmployeeResponse> findById(final UUID positionId) {
+        return this.positionRepository.findPositionById(positionId)
+                .switchIfEmpty(Mono.error(() -> new PositionNotFoundException(POSITION_NOT_FOUND.getMessage())))
+                .flatMap(position -> this.positionMapper.toResponses(List.of(position)))
+                .map(responses -> responses.get(0));
+    }
+}
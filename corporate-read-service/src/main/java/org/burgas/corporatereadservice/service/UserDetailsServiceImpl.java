@@ -0,0 +1,23 @@
+package org.burgas.corporatereadservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
+import org.burgas.corporatereadservice.repository.IdentityRepository;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class UserDetailsServiceImpl implements ReactiveUserDetailsService {
+
+    private final IdentityRepository identityRepository;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return this.identityRepository.findIdentityCredentialsByEmail(username)
+                .map(IdentityPrincipal::from)
+                .cast(UserDetails.class);
+    }
+}
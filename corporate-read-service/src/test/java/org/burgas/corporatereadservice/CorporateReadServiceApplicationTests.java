@@ -0,0 +1,13 @@
+package org.burgas.corporatereadservice;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class CorporateReadServiceApplicationTests {
+
+    @Test
+    void contextLoads() {
+    }
+
+}
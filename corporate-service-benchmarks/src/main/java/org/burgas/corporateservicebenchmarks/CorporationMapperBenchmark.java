@@ -0,0 +1,43 @@
+package org.burgas.corporateservicebenchmarks;
+
+import org.burgas.corporateservice.entity.Corporation;
+import org.burgas.corporateservice.mapper.CorporationMapper;
+import org.burgas.corporateservicebenchmarks.support.EntityGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CorporationMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int departments;
+
+    @Param({"1", "10", "50"})
+    private int offices;
+
+    private Corporation corporation;
+    private CorporationMapper corporationMapper;
+
+    @Setup
+    public void setUp() {
+        EntityGraph entityGraph = new EntityGraph(this.departments, this.offices, 0);
+        this.corporation = entityGraph.getCorporation();
+        this.corporationMapper = entityGraph.corporationMapper();
+    }
+
+    @Benchmark
+    public Object toResponse() {
+        return this.corporationMapper.toResponse(this.corporation);
+    }
+
+    @Benchmark
+    public Object toCorporationWithoutOfficesResponse() {
+        return this.corporationMapper.toCorporationWithoutOfficesResponse(this.corporation);
+    }
+}
@@ -0,0 +1,46 @@
+package org.burgas.corporateservicebenchmarks;
+
+import org.burgas.corporateservice.entity.Employee;
+import org.burgas.corporateservice.mapper.EmployeeMapper;
+import org.burgas.corporateservicebenchmarks.support.EntityGraph;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int employees;
+
+    @Param({"1", "10"})
+    private int offices;
+
+    private List<Employee> graph;
+    private EmployeeMapper employeeMapper;
+
+    @Setup
+    public void setUp() {
+        EntityGraph entityGraph = new EntityGraph(5, this.offices, this.employees);
+        this.graph = entityGraph.getEmployees();
+        this.employeeMapper = entityGraph.employeeMapper();
+    }
+
+    @Benchmark
+    public void toResponse(final Blackhole blackhole) {
+        for (Employee employee : this.graph)
+            blackhole.consume(this.employeeMapper.toResponse(employee));
+    }
+
+    @Benchmark
+    public Object toResponses() {
+        return this.employeeMapper.toResponses(this.graph);
+    }
+}
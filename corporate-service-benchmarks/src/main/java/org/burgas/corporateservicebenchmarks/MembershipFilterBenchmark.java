@@ -0,0 +1,98 @@
+package org.burgas.corporateservicebenchmarks;
+
+import org.burgas.corporatecommon.security.IdentityPrincipal;
+import org.burgas.corporateservice.filter.DepartmentFilterFunction;
+import org.burgas.corporateservice.filter.PositionFilterFunction;
+import org.burgas.corporateservice.service.MembershipService;
+import org.burgas.corporateservicebenchmarks.support.EntityGraph;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MembershipFilterBenchmark {
+
+    private static final List<HttpMessageConverter<?>> MESSAGE_CONVERTERS = List.of(new StringHttpMessageConverter());
+    private static final HandlerFunction<ServerResponse> NEXT = request -> ServerResponse.ok().build();
+
+    @Param({"10", "1000", "10000"})
+    private int employees;
+
+    private MembershipService membershipService;
+    private DepartmentFilterFunction departmentFilterFunction;
+    private PositionFilterFunction positionFilterFunction;
+    private ServerRequest departmentsByCorporation;
+    private ServerRequest departmentsById;
+    private ServerRequest positionsByDepartment;
+
+    @Setup
+    public void setUp() {
+        EntityGraph entityGraph = new EntityGraph(10, 5, this.employees);
+        this.membershipService = entityGraph.membershipService();
+        this.departmentFilterFunction = new DepartmentFilterFunction(this.membershipService);
+        this.positionFilterFunction = new PositionFilterFunction(this.membershipService);
+
+        IdentityPrincipal member = principal(entityGraph, this.employees - 1);
+        UUID corporationId = entityGraph.getCorporation().getId();
+        UUID departmentId = entityGraph.getCorporation().getDepartments().get(0).getId();
+
+        this.departmentsByCorporation = request(member, "/api/v1/departments/by-corporation", "corporationId", corporationId);
+        this.departmentsById = request(member, "/api/v1/departments/by-id", "departmentId", departmentId);
+        this.positionsByDepartment = request(member, "/api/v1/positions/by-department", "departmentId", departmentId);
+    }
+
+    @Benchmark
+    public ServerResponse departmentsByCorporation() throws Exception {
+        return this.departmentFilterFunction.filter(this.departmentsByCorporation, NEXT);
+    }
+
+    @Benchmark
+    public ServerResponse departmentsByCorporationUncached() throws Exception {
+        this.membershipService.invalidateAll();
+        return this.departmentFilterFunction.filter(this.departmentsByCorporation, NEXT);
+    }
+
+    @Benchmark
+    public ServerResponse departmentsById() throws Exception {
+        return this.departmentFilterFunction.filter(this.departmentsById, NEXT);
+    }
+
+    @Benchmark
+    public ServerResponse positionsByDepartment() throws Exception {
+        return this.positionFilterFunction.filter(this.positionsByDepartment, NEXT);
+    }
+
+    private static IdentityPrincipal principal(final EntityGraph entityGraph, final int index) {
+        var employee = entityGraph.getEmployees().get(index);
+        var identity = employee.getIdentity();
+        return new IdentityPrincipal(
+                identity.getId(), identity.getEmail(), null, identity.getAuthority(), true,
+                employee.getId(), entityGraph.getCorporation().getId()
+        );
+    }
+
+    private static ServerRequest request(
+            final IdentityPrincipal principal, final String path, final String parameter, final UUID value
+    ) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", path);
+        servletRequest.setParameter(parameter, value.toString());
+        servletRequest.setUserPrincipal(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())
+        );
+        return ServerRequest.create(servletRequest, MESSAGE_CONVERTERS);
+    }
+}
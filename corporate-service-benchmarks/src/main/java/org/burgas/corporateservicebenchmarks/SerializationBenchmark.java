@@ -0,0 +1,49 @@
+package org.burgas.corporateservicebenchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
+import org.burgas.corporateservicebenchmarks.support.EntityGraph;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int employees;
+
+    @Param({"10"})
+    private int departments;
+
+    private ObjectMapper objectMapper;
+    private List<EmployeeWithOfficeResponse> employeeResponses;
+    private CorporationWithOfficesResponse corporationResponse;
+
+    @Setup
+    public void setUp() {
+        EntityGraph entityGraph = new EntityGraph(this.departments, 5, this.employees);
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.employeeResponses = entityGraph.employeeMapper().toResponses(entityGraph.getEmployees());
+        this.corporationResponse = entityGraph.corporationMapper().toResponse(entityGraph.getCorporation());
+    }
+
+    @Benchmark
+    public byte[] employees() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.employeeResponses);
+    }
+
+    @Benchmark
+    public byte[] corporation() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.corporationResponse);
+    }
+}
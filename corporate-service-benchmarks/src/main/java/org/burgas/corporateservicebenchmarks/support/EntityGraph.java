@@ -0,0 +1,211 @@
+package org.burgas.corporateservicebenchmarks.support;
+
+import lombok.Getter;
+import org.burgas.corporatecommon.identity.Authority;
+import org.burgas.corporateservice.entity.*;
+import org.burgas.corporateservice.mapper.CorporationMapper;
+import org.burgas.corporateservice.mapper.EmployeeMapper;
+import org.burgas.corporateservice.repository.*;
+import org.burgas.corporateservice.service.MembershipService;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public final class EntityGraph {
+
+    private final Corporation corporation;
+    private final List<Office> offices;
+    private final List<Employee> employees;
+    private final Map<UUID, Address> addresses = new HashMap<>();
+    private final Map<UUID, Department> departments = new HashMap<>();
+    private final Map<UUID, Position> positions = new HashMap<>();
+    private final Map<UUID, Identity> identities = new HashMap<>();
+
+    private final CorporationRepository corporationRepository;
+    private final AddressRepository addressRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final PositionRepository positionRepository;
+
+    public EntityGraph(final int departmentsAmount, final int officesAmount, final int employeesAmount) {
+        Random random = new Random(42);
+        UUID corporationId = uuid(random);
+
+        this.offices = new ArrayList<>(officesAmount);
+        for (int i = 0; i < officesAmount; i++) {
+            Address address = this.address(random, "office-" + i);
+            this.offices.add(
+                    Office.builder()
+                            .officePK(OfficePK.builder().corporationId(corporationId).addressId(address.getId()).build())
+                            .employeesAmount(0L)
+                            .employees(new ArrayList<>())
+                            .departments(new ArrayList<>())
+                            .build()
+            );
+        }
+
+        List<Department> corporationDepartments = new ArrayList<>(departmentsAmount);
+        for (int i = 0; i < departmentsAmount; i++) {
+            Department department = Department.builder()
+                    .id(uuid(random))
+                    .name("department-" + i)
+                    .description("Department number " + i)
+                    .offices(new ArrayList<>(this.offices))
+                    .positions(new ArrayList<>())
+                    .build();
+            this.offices.forEach(office -> office.getDepartments().add(department));
+            corporationDepartments.add(department);
+            this.departments.put(department.getId(), department);
+        }
+
+        List<UUID> directors = List.of(uuid(random), uuid(random));
+        this.corporation = Corporation.builder()
+                .id(corporationId)
+                .name("corporation")
+                .description("Benchmark corporation")
+                .officesAmount((long) officesAmount)
+                .employeesAmount((long) employeesAmount)
+                .directors(directors)
+                .image(media(random, "corporation.png"))
+                .departments(corporationDepartments)
+                .build();
+        corporationDepartments.forEach(department -> department.setCorporation(this.corporation));
+
+        this.employees = new ArrayList<>(employeesAmount);
+        for (int i = 0; i < employeesAmount; i++) {
+            Department department = corporationDepartments.isEmpty() ? null : corporationDepartments.get(i % corporationDepartments.size());
+            Position position = Position.builder()
+                    .id(uuid(random))
+                    .name("position-" + i)
+                    .description("Position number " + i)
+                    .department(department)
+                    .build();
+            Identity identity = Identity.builder()
+                    .id(uuid(random))
+                    .authority(Authority.WORKER)
+                    .username("employee-" + i)
+                    .password("{noop}password")
+                    .email("employee-" + i + "@corporation.org")
+                    .phone("+7(999)-000-" + i)
+                    .enabled(true)
+                    .image(media(random, "employee-" + i + ".png"))
+                    .build();
+            Office office = this.offices.isEmpty() ? null : this.offices.get(i % this.offices.size());
+            Employee employee = Employee.builder()
+                    .id(uuid(random))
+                    .identity(identity)
+                    .firstName("first-name-" + i)
+                    .lastName("last-name-" + i)
+                    .patronymic("patronymic-" + i)
+                    .about("About employee number " + i)
+                    .address(this.address(random, "employee-" + i))
+                    .office(office)
+                    .position(position)
+                    .build();
+            identity.setEmployee(employee);
+            position.setEmployee(employee);
+            if (department != null)
+                department.getPositions().add(position);
+            if (office != null)
+                office.getEmployees().add(employee);
+
+            this.employees.add(employee);
+            this.positions.put(position.getId(), position);
+            this.identities.put(identity.getId(), identity);
+        }
+
+        Map<UUID, Corporation> corporations = Map.of(corporationId, this.corporation);
+        List<UUID> employeeIdentities = this.employees.stream()
+                .map(employee -> employee.getIdentity().getId())
+                .toList();
+
+        this.corporationRepository = InMemoryRepository.create(
+                CorporationRepository.class, corporations,
+                Map.of(
+                        "findCorporationsByIdIn", args -> ((Collection<?>) args[0]).stream()
+                                .map(corporations::get)
+                                .filter(Objects::nonNull)
+                                .toList(),
+                        "findDirectorsByCorporationId", args -> corporations.containsKey(args[0]) ? directors : List.of()
+                )
+        );
+        this.addressRepository = InMemoryRepository.create(AddressRepository.class, this.addresses);
+        this.employeeRepository = InMemoryRepository.create(
+                EmployeeRepository.class,
+                this.employees.stream().collect(Collectors.toMap(Employee::getId, Function.identity())),
+                Map.of("findIdentityIdsByCorporationId", args -> corporationId.equals(args[0]) ? employeeIdentities : List.of())
+        );
+        this.departmentRepository = InMemoryRepository.create(
+                DepartmentRepository.class, this.departments,
+                Map.of(
+                        "findCorporationIdByDepartmentId", args -> Optional.ofNullable(this.departments.get(args[0]))
+                                .map(department -> department.getCorporation().getId()),
+                        "findDepartmentEmployeeByIdentityId", args -> Optional.ofNullable(this.departments.get(args[0]))
+                                .map(
+                                        department -> department.getOffices()
+                                                .stream()
+                                                .flatMap(office -> office.getEmployees().stream())
+                                                .anyMatch(employee -> employee.getIdentity().getId().equals(args[1]))
+                                )
+                )
+        );
+        this.positionRepository = InMemoryRepository.create(
+                PositionRepository.class, this.positions,
+                Map.of(
+                        "findCorporationIdByPositionId", args -> Optional.ofNullable(this.positions.get(args[0]))
+                                .map(Position::getDepartment)
+                                .map(department -> department.getCorporation().getId())
+                )
+        );
+    }
+
+    public CorporationMapper corporationMapper() {
+        return new CorporationMapper(this.corporationRepository, this.addressRepository);
+    }
+
+    public EmployeeMapper employeeMapper() {
+        return new EmployeeMapper(
+                this.employeeRepository, InMemoryRepository.create(OfficeRepository.class, Map.of()), this.addressRepository,
+                this.corporationRepository, this.corporationMapper(),
+                InMemoryRepository.create(IdentityRepository.class, this.identities), this.positionRepository
+        );
+    }
+
+    public MembershipService membershipService() {
+        return new MembershipService(
+                this.corporationRepository, this.employeeRepository, this.departmentRepository, this.positionRepository
+        );
+    }
+
+    private Address address(final Random random, final String city) {
+        Address address = Address.builder()
+                .id(uuid(random))
+                .country("Russia")
+                .city(city)
+                .street("Street")
+                .house("1")
+                .apartment("10")
+                .build();
+        this.addresses.put(address.getId(), address);
+        return address;
+    }
+
+    private static Media media(final Random random, final String name) {
+        return Media.builder()
+                .id(uuid(random))
+                .name(name)
+                .contentType("image/png")
+                .format("png")
+                .size(1024L)
+                .etag(Integer.toHexString(name.hashCode()))
+                .updatedAt(Instant.EPOCH)
+                .build();
+    }
+
+    private static UUID uuid(final Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
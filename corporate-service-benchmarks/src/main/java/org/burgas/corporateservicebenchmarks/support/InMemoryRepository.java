@@ -0,0 +1,59 @@
+package org.burgas.corporateservicebenchmarks.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.function.Function;
+
+public final class InMemoryRepository implements InvocationHandler {
+
+    private final Class<?> type;
+    private final Map<?, ?> entities;
+    private final Map<String, Function<Object[], Object>> queries;
+
+    private InMemoryRepository(Class<?> type, Map<?, ?> entities, Map<String, Function<Object[], Object>> queries) {
+        this.type = type;
+        this.entities = entities;
+        this.queries = queries;
+    }
+
+    public static <R> R create(final Class<R> type, final Map<?, ?> entities) {
+        return create(type, entities, Map.of());
+    }
+
+    public static <R> R create(
+            final Class<R> type, final Map<?, ?> entities, final Map<String, Function<Object[], Object>> queries
+    ) {
+        return type.cast(
+                Proxy.newProxyInstance(
+                        type.getClassLoader(), new Class<?>[]{type}, new InMemoryRepository(type, entities, queries)
+                )
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Function<Object[], Object> query = this.queries.get(method.getName());
+        if (query != null)
+            return query.apply(args);
+
+        return switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(this.entities.get(args[0]));
+            case "existsById" -> this.entities.containsKey(args[0]);
+            case "findAllById" -> {
+                List<Object> found = new ArrayList<>();
+                for (Object id : (Iterable<?>) args[0]) {
+                    Object entity = this.entities.get(id);
+                    if (entity != null)
+                        found.add(entity);
+                }
+                yield found;
+            }
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemory" + this.type.getSimpleName();
+            default -> throw new UnsupportedOperationException(this.type.getSimpleName() + "." + method.getName());
+        };
+    }
+}
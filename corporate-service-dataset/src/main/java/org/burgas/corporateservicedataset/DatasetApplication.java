@@ -0,0 +1,50 @@
+package org.burgas.corporateservicedataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservicedataset.config.DatasetProperties;
+import org.burgas.corporateservicedataset.generator.CopyTable;
+import org.burgas.corporateservicedataset.generator.DatasetGenerator;
+import org.burgas.corporateservicedataset.generator.DatasetLoader;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@Slf4j
+public class DatasetApplication {
+
+    public static void main(String[] args) throws Exception {
+        DatasetProperties datasetProperties = bind(args);
+        Path directory = datasetProperties.getOutput() == null ?
+                Files.createTempDirectory("corporate-service-dataset") :
+                Files.createDirectories(datasetProperties.getOutput());
+
+        try {
+            long started = System.nanoTime();
+            List<CopyTable> tables = new DatasetGenerator(datasetProperties).generate(directory);
+            log.info("Generated dataset in {} ms into {}", (System.nanoTime() - started) / 1_000_000, directory);
+
+            started = System.nanoTime();
+            new DatasetLoader(datasetProperties).load(tables);
+            log.info("Loaded dataset into {} in {} ms", datasetProperties.getUrl(), (System.nanoTime() - started) / 1_000_000);
+
+        } finally {
+            if (datasetProperties.getOutput() == null)
+                FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    private static DatasetProperties bind(final String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        return new Binder(ConfigurationPropertySources.get(environment))
+                .bind("dataset", Bindable.of(DatasetProperties.class))
+                .orElseGet(DatasetProperties::new);
+    }
+}
@@ -0,0 +1,33 @@
+package org.burgas.corporateservicedataset.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.burgas.corporateservicedataset.generator.Distribution;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dataset")
+public class DatasetProperties {
+
+    private String url = "jdbc:postgresql://localhost:6000/corporate_service_db";
+    private String username = "postgres";
+    private String password = "postgres";
+    private boolean truncate = false;
+    private Path output;
+
+    private long seed = 42;
+    private int corporations = 10;
+    private int users = 1000;
+    private Distribution directorsPerCorporation = Distribution.valueOf("fixed:1");
+    private Distribution officesPerCorporation = Distribution.valueOf("uniform:1:200");
+    private Distribution departmentsPerCorporation = Distribution.valueOf("uniform:1:30");
+    private Distribution officesPerDepartment = Distribution.valueOf("uniform:1:5");
+    private Distribution positionsPerDepartment = Distribution.valueOf("uniform:1:10");
+    private Distribution employeesPerOffice = Distribution.valueOf("normal:100:50");
+    private double identityRatio = 1.0;
+    private double imageRatio = 0.1;
+    private String identityPassword = "password";
+}
@@ -0,0 +1,89 @@
+package org.burgas.corporateservicedataset.generator;
+
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Getter
+public final class CopyTable implements Closeable {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final String name;
+    private final List<String> columns;
+    private final Path file;
+    private final BufferedWriter writer;
+    private long rows;
+
+    public CopyTable(final Path directory, final String name, final String... columns) throws IOException {
+        this.name = name;
+        this.columns = List.of(columns);
+        this.file = directory.resolve(name + ".tsv");
+        this.writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8);
+    }
+
+    public void row(final Object... values) throws IOException {
+        if (values.length != this.columns.size())
+            throw new IllegalArgumentException(this.name + " expects " + this.columns.size() + " values, got " + values.length);
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0)
+                this.writer.write('\t');
+            this.writer.write(format(values[i]));
+        }
+        this.writer.write('\n');
+        this.rows++;
+    }
+
+    public String copyStatement() {
+        return "copy " + this.name + " (" + String.join(", ", this.columns) + ") from stdin";
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    private static String format(final Object value) {
+        if (value == null)
+            return "\\N";
+
+        if (value instanceof Boolean bool)
+            return bool ? "t" : "f";
+
+        if (value instanceof byte[] bytes)
+            return "\\\\x" + HEX.formatHex(bytes);
+
+        if (value instanceof Collection<?> collection)
+            return collection.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",", "{", "}"));
+
+        if (value instanceof UUID || value instanceof Number)
+            return value.toString();
+
+        String text = value.toString();
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            switch (character) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(character);
+            }
+        }
+        return escaped.toString();
+    }
+}
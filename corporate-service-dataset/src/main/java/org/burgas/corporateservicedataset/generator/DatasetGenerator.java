@@ -0,0 +1,183 @@
+package org.burgas.corporateservicedataset.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservicedataset.config.DatasetProperties;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+@Slf4j
+public final class DatasetGenerator {
+
+    private static final byte[] IMAGE = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNk+M9QDwADhgGAWjR9awAAAABJRU5ErkJggg=="
+    );
+    private static final List<String> CITIES = List.of(
+            "Москва", "Санкт-Петербург", "Новосибирск", "Екатеринбург", "Казань", "Нижний Новгород", "Волгоград", "Самара"
+    );
+    private static final List<String> STREETS = List.of(
+            "ул. Тверская", "ул. Мясницкая", "ул. Российская", "ул. Ленина", "пр. Мира", "ул. Садовая", "ул. Митино"
+    );
+
+    private final DatasetProperties datasetProperties;
+    private final Random random;
+    private final String passwordHash;
+    private final String imageEtag;
+
+    private long identities;
+    private long corporations;
+    private long employees;
+
+    public DatasetGenerator(final DatasetProperties datasetProperties) throws NoSuchAlgorithmException {
+        this.datasetProperties = datasetProperties;
+        this.random = new Random(datasetProperties.getSeed());
+        this.passwordHash = new BCryptPasswordEncoder().encode(datasetProperties.getIdentityPassword());
+        this.imageEtag = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(IMAGE));
+    }
+
+    public List<CopyTable> generate(final Path directory) throws IOException {
+        CopyTable media = new CopyTable(
+                directory, "media", "id", "name", "content_type", "format", "size", "data", "etag", "storage", "storage_key"
+        );
+        CopyTable identity = new CopyTable(
+                directory, "identity", "id", "authority", "username", "password", "email", "phone", "enabled", "image_id"
+        );
+        CopyTable address = new CopyTable(directory, "address", "id", "country", "city", "street", "house", "apartment");
+        CopyTable corporation = new CopyTable(
+                directory, "corporation",
+                "id", "name", "description", "offices_amount", "employees_amount", "directors", "image_id"
+        );
+        CopyTable office = new CopyTable(directory, "office", "corporation_id", "address_id", "employees_amount");
+        CopyTable department = new CopyTable(directory, "department", "id", "name", "description", "corporation_id");
+        CopyTable officeDepartment = new CopyTable(
+                directory, "office_department", "office_corporation_id", "office_address_id", "department_id"
+        );
+        CopyTable position = new CopyTable(directory, "position", "id", "name", "description", "department_id");
+        CopyTable employee = new CopyTable(
+                directory, "employee",
+                "id", "identity_id", "first_name", "last_name", "patronymic", "about", "address_id",
+                "office_corporation_id", "office_address_id", "position_id"
+        );
+        List<CopyTable> tables = List.of(
+                media, identity, address, corporation, office, department, officeDepartment, position, employee
+        );
+
+        try {
+            for (int i = 0; i < this.datasetProperties.getUsers(); i++)
+                this.identity(media, identity, "USER");
+
+            for (int i = 0; i < this.datasetProperties.getCorporations(); i++) {
+                UUID corporationId = this.uuid();
+
+                List<UUID> directors = new ArrayList<>();
+                int directorsAmount = Math.max(1, this.datasetProperties.getDirectorsPerCorporation().sample(this.random));
+                for (int j = 0; j < directorsAmount; j++)
+                    directors.add(this.identity(media, identity, "DIRECTOR"));
+
+                int officesAmount = Math.max(1, this.datasetProperties.getOfficesPerCorporation().sample(this.random));
+                List<UUID> offices = new ArrayList<>(officesAmount);
+                int[] officeEmployees = new int[officesAmount];
+                long corporationEmployees = 0;
+                for (int j = 0; j < officesAmount; j++) {
+                    UUID addressId = this.address(address);
+                    offices.add(addressId);
+                    officeEmployees[j] = this.datasetProperties.getEmployeesPerOffice().sample(this.random);
+                    corporationEmployees += officeEmployees[j];
+                    office.row(corporationId, addressId, officeEmployees[j]);
+                }
+
+                List<UUID> positions = new ArrayList<>();
+                int departmentsAmount = this.datasetProperties.getDepartmentsPerCorporation().sample(this.random);
+                for (int j = 0; j < departmentsAmount; j++) {
+                    UUID departmentId = this.uuid();
+                    department.row(departmentId, "Отдел " + (j + 1), "Описание отдела " + (j + 1) + " корпорации " + (i + 1), corporationId);
+
+                    int officesPerDepartment = Math.min(
+                            officesAmount, Math.max(1, this.datasetProperties.getOfficesPerDepartment().sample(this.random))
+                    );
+                    for (UUID addressId : this.pick(offices, officesPerDepartment))
+                        officeDepartment.row(corporationId, addressId, departmentId);
+
+                    int positionsAmount = this.datasetProperties.getPositionsPerDepartment().sample(this.random);
+                    for (int k = 0; k < positionsAmount; k++) {
+                        UUID positionId = this.uuid();
+                        position.row(positionId, "Должность " + (k + 1), "Описание должности " + (k + 1) + " отдела " + (j + 1), departmentId);
+                        positions.add(positionId);
+                    }
+                }
+
+                for (int j = 0; j < officesAmount; j++) {
+                    for (int k = 0; k < officeEmployees[j]; k++) {
+                        long number = ++this.employees;
+                        UUID identityId = this.random.nextDouble() < this.datasetProperties.getIdentityRatio() ?
+                                this.identity(media, identity, "WORKER") : null;
+                        UUID positionId = positions.isEmpty() ? null : positions.get(this.random.nextInt(positions.size()));
+                        employee.row(
+                                this.uuid(), identityId, "Имя " + number, "Фамилия " + number, "Отчество " + number,
+                                "Описание сотрудника " + number, this.address(address), corporationId, offices.get(j), positionId
+                        );
+                    }
+                }
+
+                long number = ++this.corporations;
+                corporation.row(
+                        corporationId, "Corporation " + number, "Описание корпорации Corporation " + number,
+                        officesAmount, corporationEmployees, directors, this.image(media, "corporation-" + number)
+                );
+                log.info(
+                        "Corporation {}: {} offices, {} departments, {} positions, {} employees",
+                        number, officesAmount, departmentsAmount, positions.size(), corporationEmployees
+                );
+            }
+
+        } finally {
+            for (CopyTable table : tables)
+                table.close();
+        }
+        return tables;
+    }
+
+    private UUID identity(final CopyTable media, final CopyTable identity, final String authority) throws IOException {
+        long number = ++this.identities;
+        UUID identityId = this.uuid();
+        identity.row(
+                identityId, authority, "identity-" + number, this.passwordHash, "identity-" + number + "@corporation.org",
+                String.format("+7%010d", number), true, this.image(media, "identity-" + number)
+        );
+        return identityId;
+    }
+
+    private UUID image(final CopyTable media, final String name) throws IOException {
+        if (this.random.nextDouble() >= this.datasetProperties.getImageRatio())
+            return null;
+
+        UUID mediaId = this.uuid();
+        media.row(mediaId, name + ".png", "image/png", "png", IMAGE.length, IMAGE, this.imageEtag, "DATABASE", this.imageEtag);
+        return mediaId;
+    }
+
+    private UUID address(final CopyTable address) throws IOException {
+        UUID addressId = this.uuid();
+        address.row(
+                addressId, "Российская Федерация", CITIES.get(this.random.nextInt(CITIES.size())),
+                STREETS.get(this.random.nextInt(STREETS.size())), String.valueOf(1 + this.random.nextInt(300)),
+                this.random.nextBoolean() ? String.valueOf(1 + this.random.nextInt(500)) : null
+        );
+        return addressId;
+    }
+
+    private List<UUID> pick(final List<UUID> values, final int amount) {
+        List<UUID> copy = new ArrayList<>(values);
+        for (int i = 0; i < amount; i++)
+            Collections.swap(copy, i, i + this.random.nextInt(copy.size() - i));
+        return copy.subList(0, amount);
+    }
+
+    private UUID uuid() {
+        return new UUID(this.random.nextLong(), this.random.nextLong());
+    }
+}
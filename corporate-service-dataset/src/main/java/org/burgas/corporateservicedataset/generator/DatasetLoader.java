@@ -0,0 +1,66 @@
+package org.burgas.corporateservicedataset.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservicedataset.config.DatasetProperties;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+public final class DatasetLoader {
+
+    private final DatasetProperties datasetProperties;
+
+    public DatasetLoader(final DatasetProperties datasetProperties) {
+        this.datasetProperties = datasetProperties;
+    }
+
+    public void load(final List<CopyTable> tables) throws SQLException, IOException {
+        try (
+                Connection connection = DriverManager.getConnection(
+                        this.datasetProperties.getUrl(), this.datasetProperties.getUsername(), this.datasetProperties.getPassword()
+                )
+        ) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                if (this.datasetProperties.isTruncate()) {
+                    statement.execute(
+                            tables.stream()
+                                    .map(CopyTable::getName)
+                                    .collect(Collectors.joining(", ", "truncate table ", " cascade"))
+                    );
+                    log.info("Truncated existing data");
+                }
+
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                for (CopyTable table : tables) {
+                    long started = System.nanoTime();
+                    try (Reader reader = Files.newBufferedReader(table.getFile(), StandardCharsets.UTF_8)) {
+                        long rows = copyManager.copyIn(table.copyStatement(), reader);
+                        log.info("Copied {} rows into {} in {} ms", rows, table.getName(), (System.nanoTime() - started) / 1_000_000);
+                    }
+                }
+                connection.commit();
+
+                connection.setAutoCommit(true);
+                for (CopyTable table : tables)
+                    statement.execute("analyze " + table.getName());
+
+            } catch (SQLException | IOException | RuntimeException exception) {
+                if (!connection.getAutoCommit())
+                    connection.rollback();
+                throw exception;
+            }
+        }
+    }
+}
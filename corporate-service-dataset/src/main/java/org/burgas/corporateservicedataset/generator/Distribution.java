@@ -0,0 +1,76 @@
+package org.burgas.corporateservicedataset.generator;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+public final class Distribution {
+
+    private final String specification;
+    private final ToIntFunction<Random> sampler;
+
+    private Distribution(final String specification, final ToIntFunction<Random> sampler) {
+        this.specification = specification;
+        this.sampler = sampler;
+    }
+
+    public static Distribution valueOf(final String specification) {
+        String[] parts = specification.trim().split(":");
+        try {
+            return switch (parts[0]) {
+                case "fixed" -> {
+                    int value = Integer.parseInt(parts[1]);
+                    yield new Distribution(specification, random -> value);
+                }
+                case "uniform" -> {
+                    int min = Integer.parseInt(parts[1]);
+                    int max = Integer.parseInt(parts[2]);
+                    yield new Distribution(specification, random -> min + random.nextInt(max - min + 1));
+                }
+                case "normal" -> {
+                    double mean = Double.parseDouble(parts[1]);
+                    double deviation = Double.parseDouble(parts[2]);
+                    yield new Distribution(
+                            specification, random -> (int) Math.max(0, Math.round(mean + deviation * random.nextGaussian()))
+                    );
+                }
+                case "exponential" -> {
+                    double mean = Double.parseDouble(parts[1]);
+                    yield new Distribution(
+                            specification, random -> (int) Math.round(-mean * Math.log(1 - random.nextDouble()))
+                    );
+                }
+                case "zipf" -> zipf(specification, Integer.parseInt(parts[1]), Double.parseDouble(parts[2]));
+                default -> throw new IllegalArgumentException("Unknown distribution: " + specification);
+            };
+
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException exception) {
+            throw new IllegalArgumentException("Malformed distribution: " + specification, exception);
+        }
+    }
+
+    private static Distribution zipf(final String specification, final int max, final double exponent) {
+        double[] cumulative = new double[max];
+        double total = 0;
+        for (int rank = 1; rank <= max; rank++) {
+            total += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        double sum = total;
+        return new Distribution(
+                specification, random -> {
+                    int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                    return (index < 0 ? -index - 1 : index) + 1;
+                }
+        );
+    }
+
+    public int sample(final Random random) {
+        return this.sampler.applyAsInt(random);
+    }
+
+    @Override
+    public String toString() {
+        return this.specification;
+    }
+}
@@ -0,0 +1,112 @@
+package org.burgas.corporateserviceloadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateserviceloadtest.config.LoadTestProperties;
+import org.burgas.corporateserviceloadtest.config.ThreadMode;
+import org.burgas.corporateserviceloadtest.environment.EmbeddedEnvironment;
+import org.burgas.corporateserviceloadtest.load.LoadGenerator;
+import org.burgas.corporateserviceloadtest.load.LoadReport;
+import org.burgas.corporateserviceloadtest.load.ScenarioSession;
+import org.burgas.corporateserviceloadtest.scenario.HttpScenarioParser;
+import org.burgas.corporateserviceloadtest.scenario.ScenarioRequest;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+public class LoadTestApplication {
+
+    private static final Duration COMPARISON_WARMUP = Duration.ofSeconds(60);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties loadTestProperties = bind(args);
+
+        List<ScenarioRequest> scenarioRequests = new HttpScenarioParser().parse(loadTestProperties.getScenarios())
+                .stream()
+                .filter(loadTestProperties::accepts)
+                .toList();
+        if (scenarioRequests.isEmpty())
+            throw new IllegalArgumentException("No requests in " + loadTestProperties.getScenarios() + " match the configured filters");
+
+        if (loadTestProperties.getTarget() != null && loadTestProperties.getThreads().size() > 1)
+            throw new IllegalArgumentException("Thread modes can only be compared against the embedded environment");
+        if (loadTestProperties.getThreads().contains(ThreadMode.VIRTUAL) && !JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE))
+            throw new IllegalStateException("Virtual threads need a Java 21 runtime, current is " + JavaVersion.getJavaVersion());
+        if (loadTestProperties.getThreads().size() > 1 && loadTestProperties.getWarmup().compareTo(COMPARISON_WARMUP) < 0)
+            log.warn(
+                    "Thread modes share one JIT-warmed JVM, so later modes run warmer; use --load-test.warmup={}s or longer to compare them",
+                    COMPARISON_WARMUP.toSeconds()
+            );
+
+        Map<String, LoadReport> loadReports = new LinkedHashMap<>();
+        for (ThreadMode threadMode : loadTestProperties.getThreads()) {
+            LoadReport loadReport = run(loadTestProperties, scenarioRequests, threadMode);
+            loadReport.print(System.out);
+            if (loadTestProperties.getReport() != null) {
+                Path report = report(loadTestProperties, threadMode);
+                loadReport.write(report);
+                log.info("Report written to {}", report.toAbsolutePath());
+            }
+            loadReports.put(threadMode.name().toLowerCase(Locale.ROOT), loadReport);
+        }
+
+        if (loadReports.size() > 1) {
+            System.out.println();
+            LoadReport.compare(loadReports, System.out);
+        }
+    }
+
+    private static LoadReport run(
+            final LoadTestProperties loadTestProperties, final List<ScenarioRequest> scenarioRequests, final ThreadMode threadMode
+    ) throws Exception {
+        try (
+                EmbeddedEnvironment embeddedEnvironment = loadTestProperties.getTarget() == null ?
+                        EmbeddedEnvironment.start(loadTestProperties, threadMode) : null
+        ) {
+            URI target = embeddedEnvironment == null ? loadTestProperties.getTarget() : embeddedEnvironment.getTarget();
+            log.info("Load testing {} on {} threads with {} scenario requests", target, threadMode, scenarioRequests.size());
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(loadTestProperties.getTimeout())
+                    .build();
+            ScenarioSession scenarioSession = new ScenarioSession(httpClient, target, loadTestProperties);
+            scenarioSession.open();
+
+            return new LoadGenerator(httpClient, scenarioSession, scenarioRequests, loadTestProperties).run();
+        }
+    }
+
+    private static Path report(final LoadTestProperties loadTestProperties, final ThreadMode threadMode) {
+        Path report = loadTestProperties.getReport();
+        if (loadTestProperties.getThreads().size() == 1)
+            return report;
+
+        String fileName = report.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String suffix = "-" + threadMode.name().toLowerCase(Locale.ROOT);
+        return report.resolveSibling(
+                extension < 0 ? fileName + suffix : fileName.substring(0, extension) + suffix + fileName.substring(extension)
+        );
+    }
+
+    private static LoadTestProperties bind(final String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        return new Binder(ConfigurationPropertySources.get(environment))
+                .bind("load-test", Bindable.of(LoadTestProperties.class))
+                .orElseGet(LoadTestProperties::new);
+    }
+}
@@ -0,0 +1,42 @@
+package org.burgas.corporateserviceloadtest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.burgas.corporateserviceloadtest.scenario.ScenarioRequest;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "load-test")
+public class LoadTestProperties {
+
+    private Path scenarios = Path.of("../request-test.http");
+    private URI target;
+    private Set<String> methods = new LinkedHashSet<>(List.of("GET"));
+    private String include;
+    private String exclude;
+    private int concurrency = 32;
+    private double rate = 0;
+    private Duration warmup = Duration.ofSeconds(5);
+    private Duration duration = Duration.ofSeconds(30);
+    private Duration timeout = Duration.ofSeconds(10);
+    private AuthenticationMode authentication = AuthenticationMode.BASIC;
+    private List<ThreadMode> threads = new ArrayList<>(List.of(ThreadMode.PLATFORM));
+    private int employees = 1000;
+    private Path report;
+
+    public boolean accepts(final ScenarioRequest scenarioRequest) {
+        return this.methods.stream().anyMatch(method -> method.equalsIgnoreCase(scenarioRequest.method())) &&
+               (this.include == null || Pattern.compile(this.include).matcher(scenarioRequest.label()).find()) &&
+               (this.exclude == null || !Pattern.compile(this.exclude).matcher(scenarioRequest.label()).find());
+    }
+}
@@ -0,0 +1,6 @@
+package org.burgas.corporateserviceloadtest.config;
+
+public enum ThreadMode {
+
+    PLATFORM, VIRTUAL
+}
@@ -0,0 +1,86 @@
+package org.burgas.corporateserviceloadtest.environment;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservice.CorporateServiceApplication;
+import org.burgas.corporateserviceloadtest.config.LoadTestProperties;
+import org.burgas.corporateserviceloadtest.config.ThreadMode;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.sql.SQLException;
+import java.util.Base64;
+
+@Slf4j
+public final class EmbeddedEnvironment implements AutoCloseable {
+
+    private final EmbeddedPostgres embeddedPostgres;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Getter
+    private final URI target;
+
+    private EmbeddedEnvironment(
+            final EmbeddedPostgres embeddedPostgres, final ConfigurableApplicationContext applicationContext, final URI target
+    ) {
+        this.embeddedPostgres = embeddedPostgres;
+        this.applicationContext = applicationContext;
+        this.target = target;
+    }
+
+    public static EmbeddedEnvironment start(final LoadTestProperties loadTestProperties, final ThreadMode threadMode)
+            throws IOException, SQLException {
+        EmbeddedPostgres embeddedPostgres = EmbeddedPostgres.builder().start();
+        try {
+            log.info("Embedded postgres started on port {}", embeddedPostgres.getPort());
+            Path mediaRoot = Files.createTempDirectory("corporate-service-media");
+            ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(CorporateServiceApplication.class)
+                    .run(
+                            "--server.port=0",
+                            "--spring.main.banner-mode=off",
+                            "--spring.threads.virtual.enabled=" + (threadMode == ThreadMode.VIRTUAL),
+                            "--spring.datasource.url=" + embeddedPostgres.getJdbcUrl("postgres", "postgres"),
+                            "--spring.datasource.username=postgres",
+                            "--spring.datasource.password=postgres",
+                            "--spring.jpa.show-sql=false",
+                            "--spring.jpa.properties.hibernate.generate_statistics=false",
+                            "--spring.jpa.properties.hibernate.format_sql=false",
+                            "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                            "--logging.level.root=WARN",
+                            "--logging.level.org.burgas.corporateserviceloadtest=INFO",
+                            "--logging.level.org.springframework.transaction.interceptor=WARN",
+                            "--media.storage.root=" + mediaRoot,
+                            "--security.token.secret=" + randomSecret(),
+                            "--security.csrf.secret=" + randomSecret()
+                    );
+
+            new FixtureLoader(embeddedPostgres.getPostgresDatabase()).load(loadTestProperties.getEmployees());
+            log.info("Loaded fixtures with {} additional employees", loadTestProperties.getEmployees());
+
+            String port = applicationContext.getEnvironment().getRequiredProperty("local.server.port");
+            return new EmbeddedEnvironment(embeddedPostgres, applicationContext, URI.create("http://localhost:" + port));
+
+        } catch (IOException | SQLException | RuntimeException exception) {
+            embeddedPostgres.close();
+            throw exception;
+        }
+    }
+
+    private static String randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.applicationContext.close();
+        this.embeddedPostgres.close();
+    }
+}
@@ -0,0 +1,70 @@
+package org.burgas.corporateserviceloadtest.environment;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public final class FixtureLoader {
+
+    private static final String FIXTURES = "fixtures.sql";
+    private static final String CORPORATION_ID = "19897db2-00f9-4bfb-99a0-7497e17f336a";
+    private static final String OFFICE_ADDRESS_ID = "79a9da7c-82cd-46db-94e2-d10a62dbeb4e";
+
+    private static final String INSERT_EMPLOYEES = """
+            with addresses as (
+                insert into address(country, city, street, house, apartment)
+                select 'Российская Федерация', 'Москва', 'ул. Тверская', number::text, null
+                from generate_series(1, ?) number
+                returning id, house
+            )
+            insert into employee(first_name, last_name, patronymic, about, address_id, office_corporation_id, office_address_id)
+            select 'Имя ' || house, 'Фамилия ' || house, 'Отчество ' || house, 'Описание сотрудника ' || house, id,
+                   cast(? as uuid), cast(? as uuid)
+            from addresses
+            """;
+
+    private static final String UPDATE_CORPORATION = """
+            update corporation set employees_amount = employees_amount + ? where id = cast(? as uuid)
+            """;
+
+    private static final String UPDATE_OFFICE = """
+            update office set employees_amount = employees_amount + ?
+            where corporation_id = cast(? as uuid) and address_id = cast(? as uuid)
+            """;
+
+    private final DataSource dataSource;
+
+    public FixtureLoader(final DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void load(final int employees) throws SQLException {
+        try (Connection connection = this.dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(FIXTURES));
+
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_EMPLOYEES)) {
+                insert.setInt(1, employees);
+                insert.setString(2, CORPORATION_ID);
+                insert.setString(3, OFFICE_ADDRESS_ID);
+                insert.executeUpdate();
+            }
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_CORPORATION)) {
+                update.setInt(1, employees);
+                update.setString(2, CORPORATION_ID);
+                update.executeUpdate();
+            }
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_OFFICE)) {
+                update.setInt(1, employees);
+                update.setString(2, CORPORATION_ID);
+                update.setString(3, OFFICE_ADDRESS_ID);
+                update.executeUpdate();
+            }
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.burgas.corporateserviceloadtest.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateserviceloadtest.config.LoadTestProperties;
+import org.burgas.corporateserviceloadtest.scenario.ScenarioRequest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+public final class LoadGenerator {
+
+    private final HttpClient httpClient;
+    private final ScenarioSession scenarioSession;
+    private final List<ScenarioRequest> scenarioRequests;
+    private final LoadTestProperties loadTestProperties;
+
+    private record Call(LoadGenerator loadGenerator, ScenarioRequest scenarioRequest, long intendedStart, LoadStatistics loadStatistics)
+            implements Runnable {
+
+        @Override
+        public void run() {
+            this.loadGenerator.send(this.scenarioRequest, this.intendedStart, this.loadStatistics);
+        }
+    }
+
+    public LoadGenerator(
+            final HttpClient httpClient, final ScenarioSession scenarioSession,
+            final List<ScenarioRequest> scenarioRequests, final LoadTestProperties loadTestProperties
+    ) {
+        this.httpClient = httpClient;
+        this.scenarioSession = scenarioSession;
+        this.scenarioRequests = scenarioRequests;
+        this.loadTestProperties = loadTestProperties;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        if (!this.loadTestProperties.getWarmup().isZero()) {
+            log.info("Warming up for {}", this.loadTestProperties.getWarmup());
+            this.run(this.loadTestProperties.getWarmup(), new LoadStatistics());
+        }
+
+        log.info(
+                "Running {} requests for {} with concurrency {} and {}",
+                this.scenarioRequests.size(), this.loadTestProperties.getDuration(), this.loadTestProperties.getConcurrency(),
+                this.loadTestProperties.getRate() > 0 ? "arrival rate " + this.loadTestProperties.getRate() + "/s" : "no think time"
+        );
+        LoadStatistics loadStatistics = new LoadStatistics();
+        long started = System.nanoTime();
+        this.run(this.loadTestProperties.getDuration(), loadStatistics);
+        return new LoadReport(loadStatistics, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void run(final Duration duration, final LoadStatistics loadStatistics) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(this.loadTestProperties.getConcurrency(), threadFactory());
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try {
+            if (this.loadTestProperties.getRate() > 0) {
+                this.open(executorService, deadline, loadStatistics);
+
+            } else {
+                this.closed(executorService, deadline, loadStatistics);
+            }
+
+        } finally {
+            executorService.shutdown();
+            long grace = Math.max(deadline - System.nanoTime(), 0) + this.loadTestProperties.getTimeout().toNanos();
+            if (!executorService.awaitTermination(grace, TimeUnit.NANOSECONDS)) {
+                List<Runnable> dropped = executorService.shutdownNow();
+                log.warn("{} requests were still queued when the run ended and are counted as failures", dropped.size());
+                dropped.stream()
+                        .filter(Call.class::isInstance)
+                        .map(Call.class::cast)
+                        .forEach(
+                                call -> call.loadStatistics().route(call.scenarioRequest().label())
+                                        .fail(System.nanoTime() - call.intendedStart())
+                        );
+            }
+        }
+    }
+
+    private void closed(final ExecutorService executorService, final long deadline, final LoadStatistics loadStatistics) {
+        for (int worker = 0; worker < this.loadTestProperties.getConcurrency(); worker++) {
+            int offset = worker;
+            executorService.execute(
+                    () -> {
+                        for (int i = offset; System.nanoTime() < deadline && !Thread.currentThread().isInterrupted(); i++)
+                            this.send(this.scenarioRequests.get(i % this.scenarioRequests.size()), System.nanoTime(), loadStatistics);
+                    }
+            );
+        }
+    }
+
+    private void open(final ExecutorService executorService, final long deadline, final LoadStatistics loadStatistics) {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / this.loadTestProperties.getRate());
+        long started = System.nanoTime();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = started + i * interval;
+            if (intendedStart >= deadline)
+                return;
+
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0)
+                LockSupport.parkNanos(delay);
+
+            ScenarioRequest scenarioRequest = this.scenarioRequests.get((int) (i % this.scenarioRequests.size()));
+            executorService.execute(new Call(this, scenarioRequest, intendedStart, loadStatistics));
+        }
+    }
+
+    private void send(final ScenarioRequest scenarioRequest, final long intendedStart, final LoadStatistics loadStatistics) {
+        RouteStatistics routeStatistics = loadStatistics.route(scenarioRequest.label());
+        try {
+            HttpResponse<Void> response = this.httpClient.send(
+                    this.scenarioSession.toHttpRequest(scenarioRequest), HttpResponse.BodyHandlers.discarding()
+            );
+            routeStatistics.record(response.statusCode(), System.nanoTime() - intendedStart);
+
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+        } catch (IOException | RuntimeException exception) {
+            routeStatistics.fail(System.nanoTime() - intendedStart);
+            log.debug("Request {} failed", scenarioRequest.label(), exception);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "load-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
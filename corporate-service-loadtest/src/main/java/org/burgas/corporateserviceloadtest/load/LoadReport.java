@@ -0,0 +1,82 @@
+package org.burgas.corporateserviceloadtest.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public record LoadReport(LoadStatistics loadStatistics, Duration elapsed) {
+
+    private static final String ROW = "%-72s %9s %10s %8s %9s %9s %9s %9s %9s%n";
+
+    public void print(final PrintStream printStream) {
+        printStream.printf(Locale.ROOT, ROW, "route", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        this.routesWithTotal().forEach(route -> printStream.printf(Locale.ROOT, ROW, (Object[]) this.row(route.getLabel(), route)));
+    }
+
+    public static void compare(final Map<String, LoadReport> loadReports, final PrintStream printStream) {
+        printStream.printf(Locale.ROOT, ROW, "threads", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        loadReports.forEach(
+                (name, loadReport) -> printStream.printf(
+                        Locale.ROOT, ROW, (Object[]) loadReport.row(name, loadReport.loadStatistics.total())
+                )
+        );
+    }
+
+    public void write(final Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("route,requests,throughput,successes,client_errors,server_errors,failures,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+        for (RouteStatistics route : this.routesWithTotal()) {
+            Histogram latencies = route.getLatencies();
+            lines.add(
+                    String.format(
+                            Locale.ROOT, "\"%s\",%d,%.2f,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f",
+                            route.getLabel().replace("\"", "\"\""), route.count(), this.throughput(route),
+                            route.getSuccesses().sum(), route.getClientErrors().sum(), route.getServerErrors().sum(),
+                            route.getFailures().sum(),
+                            millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                            millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                            millis(latencies.getMaxValue())
+                    )
+            );
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8);
+    }
+
+    private String[] row(final String label, final RouteStatistics route) {
+        Histogram latencies = route.getLatencies();
+        return new String[]{
+                label,
+                String.valueOf(route.count()),
+                String.format(Locale.ROOT, "%.1f", this.throughput(route)),
+                String.format(Locale.ROOT, "%.2f%%", route.count() == 0 ? 0.0 : 100.0 * route.errors() / route.count()),
+                String.format(Locale.ROOT, "%.2f", millis(latencies.getValueAtPercentile(50))),
+                String.format(Locale.ROOT, "%.2f", millis(latencies.getValueAtPercentile(90))),
+                String.format(Locale.ROOT, "%.2f", millis(latencies.getValueAtPercentile(99))),
+                String.format(Locale.ROOT, "%.2f", millis(latencies.getValueAtPercentile(99.9))),
+                String.format(Locale.ROOT, "%.2f", millis(latencies.getMaxValue()))
+        };
+    }
+
+    private List<RouteStatistics> routesWithTotal() {
+        List<RouteStatistics> routes = new ArrayList<>(this.loadStatistics.routes());
+        routes.add(this.loadStatistics.total());
+        return routes;
+    }
+
+    private double throughput(final RouteStatistics route) {
+        return route.count() / Math.max(this.elapsed.toNanos() / 1e9, 1e-9);
+    }
+
+    private static double millis(final long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,36 @@
+package org.burgas.corporateserviceloadtest.load;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class LoadStatistics {
+
+    private final Map<String, RouteStatistics> routes = new ConcurrentHashMap<>();
+
+    public RouteStatistics route(final String label) {
+        return this.routes.computeIfAbsent(label, RouteStatistics::new);
+    }
+
+    public List<RouteStatistics> routes() {
+        return this.routes.values()
+                .stream()
+                .sorted(Comparator.comparing(RouteStatistics::getLabel))
+                .toList();
+    }
+
+    public RouteStatistics total() {
+        RouteStatistics total = new RouteStatistics("TOTAL");
+        this.routes.values().forEach(
+                route -> {
+                    total.getLatencies().add(route.getLatencies());
+                    total.getSuccesses().add(route.getSuccesses().sum());
+                    total.getClientErrors().add(route.getClientErrors().sum());
+                    total.getServerErrors().add(route.getServerErrors().sum());
+                    total.getFailures().add(route.getFailures().sum());
+                }
+        );
+        return total;
+    }
+}
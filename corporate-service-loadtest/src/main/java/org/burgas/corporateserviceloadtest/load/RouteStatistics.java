@@ -0,0 +1,49 @@
+package org.burgas.corporateserviceloadtest.load;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+public final class RouteStatistics {
+
+    private final String label;
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public RouteStatistics(final String label) {
+        this.label = label;
+    }
+
+    public void record(final int status, final long latencyNanos) {
+        if (status >= 500) {
+            this.serverErrors.increment();
+
+        } else if (status >= 400) {
+            this.clientErrors.increment();
+
+        } else {
+            this.successes.increment();
+        }
+        this.latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    public void fail(final long latencyNanos) {
+        this.failures.increment();
+        this.latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    public long count() {
+        return this.successes.sum() + this.errors();
+    }
+
+    public long errors() {
+        return this.clientErrors.sum() + this.serverErrors.sum() + this.failures.sum();
+    }
+}
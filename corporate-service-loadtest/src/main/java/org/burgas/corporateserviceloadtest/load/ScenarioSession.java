@@ -0,0 +1,187 @@
+package org.burgas.corporateserviceloadtest.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.burgas.corporateserviceloadtest.config.AuthenticationMode;
+import org.burgas.corporateserviceloadtest.config.LoadTestProperties;
+import org.burgas.corporateserviceloadtest.scenario.ScenarioRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ScenarioSession {
+
+    private static final String CSRF_HEADER = "X-CSRF-TOKEN";
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+    private static final String ANONYMOUS = "";
+    private static final Duration TOKEN_RENEWAL = Duration.ofMinutes(1);
+
+    private final HttpClient httpClient;
+    private final URI target;
+    private final AuthenticationMode authenticationMode;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, BearerToken> bearerTokens = new ConcurrentHashMap<>();
+    private final Map<String, CsrfToken> csrfTokens = new ConcurrentHashMap<>();
+
+    private record BearerToken(String authorization, Instant expiresAt) {
+    }
+
+    private record CsrfToken(String cookie, String token) {
+    }
+
+    public ScenarioSession(final HttpClient httpClient, final URI target, final LoadTestProperties loadTestProperties) {
+        this.httpClient = httpClient;
+        this.target = target;
+        this.authenticationMode = loadTestProperties.getAuthentication();
+        this.timeout = loadTestProperties.getTimeout();
+    }
+
+    public void open() {
+        this.csrfToken(ANONYMOUS);
+    }
+
+    public HttpRequest toHttpRequest(final ScenarioRequest scenarioRequest) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(this.target.resolve(scenarioRequest.target()))
+                .timeout(this.timeout)
+                .method(
+                        scenarioRequest.method(),
+                        scenarioRequest.body() == null ?
+                                HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(scenarioRequest.body())
+                );
+
+        String basic = scenarioRequest.headers()
+                .entrySet()
+                .stream()
+                .filter(header -> header.getKey().equalsIgnoreCase("Authorization"))
+                .map(header -> this.basic(header.getValue()))
+                .findFirst()
+                .orElse(ANONYMOUS);
+
+        scenarioRequest.headers().forEach(
+                (name, value) -> {
+                    if (name.equalsIgnoreCase("Host")) {
+                        return;
+
+                    } else if (name.equalsIgnoreCase(CSRF_HEADER)) {
+                        CsrfToken csrfToken = this.csrfToken(basic);
+                        builder.header(CSRF_HEADER, csrfToken.token());
+                        builder.header("Cookie", csrfToken.cookie());
+
+                    } else if (name.equalsIgnoreCase("Authorization")) {
+                        builder.header(name, this.authorization(basic));
+
+                    } else {
+                        builder.header(name, value);
+                    }
+                }
+        );
+        return builder.build();
+    }
+
+    private String basic(final String value) {
+        String[] parts = value.trim().split("\\s+");
+        if (parts.length != 3 || !parts[0].equalsIgnoreCase("Basic"))
+            return value;
+
+        return "Basic " + Base64.getEncoder().encodeToString(
+                (parts[1] + ":" + parts[2]).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private String authorization(final String basic) {
+        if (this.authenticationMode == AuthenticationMode.BASIC || !basic.startsWith("Basic "))
+            return basic;
+
+        return this.bearerTokens.compute(
+                basic, (key, bearerToken) ->
+                        bearerToken != null && Instant.now().plus(TOKEN_RENEWAL).isBefore(bearerToken.expiresAt()) ?
+                                bearerToken : this.issue(key)
+        ).authorization();
+    }
+
+    private CsrfToken csrfToken(final String authorization) {
+        return this.csrfTokens.computeIfAbsent(authorization, this::fetchCsrfToken);
+    }
+
+    private CsrfToken fetchCsrfToken(final String authorization) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(this.target.resolve("/api/v1/security/csrf-token"))
+                .header("Accept", "application/json")
+                .timeout(this.timeout)
+                .GET();
+        if (!authorization.equals(ANONYMOUS))
+            builder.header("Authorization", authorization);
+
+        HttpResponse<String> response;
+        try {
+            response = this.httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+
+        } catch (IOException exception) {
+            throw new IllegalStateException("Csrf token request failed", exception);
+
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Csrf token request interrupted", exception);
+        }
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("Csrf token request failed with status " + response.statusCode());
+
+        String cookie = response.headers()
+                .allValues("Set-Cookie")
+                .stream()
+                .filter(value -> value.startsWith(CSRF_COOKIE + "="))
+                .map(value -> value.split(";", 2)[0])
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Csrf token response has no " + CSRF_COOKIE + " cookie"));
+
+        try {
+            return new CsrfToken(cookie, this.objectMapper.readTree(response.body()).path("token").asText());
+
+        } catch (IOException exception) {
+            throw new IllegalStateException("Csrf token response is not readable", exception);
+        }
+    }
+
+    private BearerToken issue(final String basic) {
+        CsrfToken csrfToken = this.csrfToken(basic);
+        try {
+            HttpResponse<String> response = this.httpClient.send(
+                    HttpRequest.newBuilder(this.target.resolve("/api/v1/security/token"))
+                            .header("Accept", "application/json")
+                            .header("Authorization", basic)
+                            .header(CSRF_HEADER, csrfToken.token())
+                            .header("Cookie", csrfToken.cookie())
+                            .timeout(this.timeout)
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            if (response.statusCode() != 200)
+                throw new IllegalStateException("Token request failed with status " + response.statusCode());
+
+            JsonNode token = this.objectMapper.readTree(response.body());
+            JsonNode expiresAt = token.path("expiresAt");
+            return new BearerToken(
+                    token.path("tokenType").asText("Bearer") + " " + token.path("token").asText(),
+                    expiresAt.isNumber() ?
+                            Instant.ofEpochMilli((long) (expiresAt.asDouble() * 1000)) : Instant.parse(expiresAt.asText())
+            );
+
+        } catch (IOException exception) {
+            throw new IllegalStateException("Token request failed", exception);
+
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Token request interrupted", exception);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.burgas.corporateserviceloadtest.scenario;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class HttpScenarioParser {
+
+    private static final String SEPARATOR = "###";
+    private static final Pattern REQUEST_LINE = Pattern.compile(
+            "^(GET|POST|PUT|PATCH|DELETE|HEAD|OPTIONS)\\s+(\\S+)(?:\\s+HTTP/\\S+)?$"
+    );
+    private static final Pattern HEADER = Pattern.compile("^([A-Za-z0-9-]+)\\s*:\\s*(.*)$");
+
+    public List<ScenarioRequest> parse(final Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        List<ScenarioRequest> scenarioRequests = new ArrayList<>();
+
+        int start = 0;
+        String name = "";
+        for (int i = 0; i <= lines.size(); i++) {
+            if (i == lines.size() || lines.get(i).startsWith(SEPARATOR)) {
+                ScenarioRequest scenarioRequest = this.parseBlock(name, lines, start, i);
+                if (scenarioRequest != null)
+                    scenarioRequests.add(scenarioRequest);
+
+                if (i < lines.size())
+                    name = lines.get(i).substring(SEPARATOR.length()).trim();
+                start = i + 1;
+            }
+        }
+        return scenarioRequests;
+    }
+
+    private ScenarioRequest parseBlock(final String name, final List<String> lines, final int start, final int end) {
+        int i = start;
+        while (i < end && (lines.get(i).isBlank() || isComment(lines.get(i))))
+            i++;
+
+        if (i == end)
+            return null;
+
+        Matcher requestLine = REQUEST_LINE.matcher(lines.get(i).trim());
+        if (!requestLine.matches())
+            throw new IllegalArgumentException("Malformed request line " + (i + 1) + ": " + lines.get(i));
+
+        int line = i + 1;
+        StringBuilder target = new StringBuilder(requestLine.group(2));
+        while (++i < end && !lines.get(i).isBlank() && Character.isWhitespace(lines.get(i).charAt(0)))
+            target.append(lines.get(i).trim());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (; i < end && !lines.get(i).isBlank(); i++) {
+            if (isComment(lines.get(i)))
+                continue;
+
+            Matcher header = HEADER.matcher(lines.get(i).trim());
+            if (!header.matches())
+                throw new IllegalArgumentException("Malformed header " + (i + 1) + ": " + lines.get(i));
+
+            headers.put(header.group(1), header.group(2).trim());
+        }
+
+        String body = String.join("\n", lines.subList(Math.min(i, end), end)).strip();
+        return new ScenarioRequest(
+                name, line, requestLine.group(1), target.toString(), headers, body.isEmpty() ? null : body
+        );
+    }
+
+    private static boolean isComment(final String line) {
+        String trimmed = line.trim();
+        return trimmed.startsWith("#") || trimmed.startsWith("//");
+    }
+}
@@ -0,0 +1,31 @@
+package org.burgas.corporateserviceloadtest.scenario;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public record ScenarioRequest(String name, int line, String method, String target, Map<String, String> headers, String body) {
+
+    public String path() {
+        int query = this.target.indexOf('?');
+        return query < 0 ? this.target : this.target.substring(0, query);
+    }
+
+    public String label() {
+        int query = this.target.indexOf('?');
+        String parameters = query < 0 ? "" : Arrays.stream(this.target.substring(query + 1).split("&"))
+                .filter(parameter -> !parameter.isBlank())
+                .map(parameter -> parameter.split("=", 2)[0])
+                .collect(Collectors.joining("&", "?", ""));
+
+        String accept = this.headers.entrySet().stream()
+                .filter(header -> header.getKey().equalsIgnoreCase("Accept"))
+                .map(Map.Entry::getValue)
+                .filter(value -> !value.equals("application/json"))
+                .findFirst()
+                .map(value -> " [" + value + "]")
+                .orElse("");
+
+        return this.method + " " + this.path() + parameters + accept;
+    }
+}
@@ -3,7 +3,7 @@ package org.burgas.corporateservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"org.burgas.corporateservice", "org.burgas.corporatecommon"})
 public class CorporateServiceApplication {
 
     public static void main(String[] args) {
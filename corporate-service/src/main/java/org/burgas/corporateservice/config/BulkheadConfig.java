@@ -0,0 +1,25 @@
+package org.burgas.corporateservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporateservice.filter.BulkheadFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    private final BulkheadProperties bulkheadProperties;
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize, MeterRegistry meterRegistry
+    ) {
+        return new FilterRegistrationBean<>(new BulkheadFilter(this.bulkheadProperties, maximumPoolSize, meterRegistry));
+    }
+}
@@ -0,0 +1,43 @@
+package org.burgas.corporateservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    private int reservedConnections = 3;
+    private Duration maxWait = Duration.ofSeconds(2);
+    private Group reads = new Group(0.5);
+    private Group writes = new Group(0.3);
+    private Group media = new Group(0.2);
+    private List<String> mediaPaths = new ArrayList<>(List.of("/api/v1/*/upload-image", "/api/v1/*/change-image"));
+    private List<String> excludedPaths = new ArrayList<>(
+            List.of("/actuator/**", "/api/v1/security/csrf-token", "/api/v1/corporations", "/api/v1/media/by-id")
+    );
+    private List<String> excludedMediaTypes = new ArrayList<>(List.of("application/x-ndjson"));
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        private double share;
+
+        public Group() {
+        }
+
+        public Group(double share) {
+            this.share = share;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.burgas.corporateservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class CorporationCatalogConfig {
+
+    private final Environment environment;
+
+    @Bean
+    public ThreadPoolTaskExecutor corporationCatalogExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(1);
+        threadPoolTaskExecutor.setMaxPoolSize(1);
+        threadPoolTaskExecutor.setQueueCapacity(1);
+        threadPoolTaskExecutor.setThreadNamePrefix("corporation-catalog-");
+        threadPoolTaskExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(this.environment));
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return threadPoolTaskExecutor;
+    }
+}
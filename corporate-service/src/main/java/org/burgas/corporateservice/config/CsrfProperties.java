@@ -0,0 +1,23 @@
+package org.burgas.corporateservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.csrf")
+public class CsrfProperties {
+
+    private String secret;
+    private Duration timeToLive = Duration.ofHours(12);
+    private String cookieName = "XSRF-TOKEN";
+    private String headerName = "X-CSRF-TOKEN";
+    private String parameterName = "_csrf";
+    private boolean cookieSecure = false;
+    private String cookieSameSite = "Strict";
+}
@@ -0,0 +1,23 @@
+package org.burgas.corporateservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.burgas.corporateservice.entity.MediaStorageType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "media.storage")
+public class MediaStorageProperties {
+
+    private MediaStorageType type = MediaStorageType.FILESYSTEM;
+    private Path root = Path.of("media");
+    private boolean migrate = false;
+    private int migrateBatchSize = 100;
+    private Duration gracePeriod = Duration.ofHours(1);
+}
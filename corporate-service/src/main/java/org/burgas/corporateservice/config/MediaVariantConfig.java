@@ -0,0 +1,47 @@
+package org.burgas.corporateservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@EnableAsync
+@Configuration
+@RequiredArgsConstructor
+public class MediaVariantConfig {
+
+    private static final int POOL_SIZE = 2;
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public ThreadPoolTaskExecutor mediaVariantExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(POOL_SIZE);
+        threadPoolTaskExecutor.setMaxPoolSize(POOL_SIZE);
+        threadPoolTaskExecutor.setQueueCapacity(QUEUE_CAPACITY);
+        threadPoolTaskExecutor.setThreadNamePrefix("media-variant-");
+        threadPoolTaskExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(this.environment));
+        Counter rejected = Counter.builder("media.variants.rejected")
+                .description("Variant generations rejected because the executor queue was full")
+                .register(this.meterRegistry);
+        threadPoolTaskExecutor.setRejectedExecutionHandler(
+                (runnable, executor) -> {
+                    rejected.increment();
+                    log.warn("Media variant generation rejected, the executor queue is full");
+                }
+        );
+        threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        threadPoolTaskExecutor.setAwaitTerminationSeconds(30);
+        return threadPoolTaskExecutor;
+    }
+}
@@ -0,0 +1,21 @@
+package org.burgas.corporateservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+@RequiredArgsConstructor
+public class PublicCacheConfig {
+
+    private final PublicCacheProperties publicCacheProperties;
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registrationBean = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registrationBean.setUrlPatterns(this.publicCacheProperties.getEtagPaths());
+        return registrationBean;
+    }
+}
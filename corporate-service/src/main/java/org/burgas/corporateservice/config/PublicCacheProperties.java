@@ -0,0 +1,27 @@
+package org.burgas.corporateservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "public-cache")
+public class PublicCacheProperties {
+
+    private Duration sharedMaxAge = Duration.ofSeconds(10);
+    private Duration staleWhileRevalidate = Duration.ofSeconds(60);
+    private List<String> etagPaths = List.of("/api/v1/corporations/by-id", "/api/v1/offices/by-corporation");
+
+    public CacheControl cacheControl() {
+        return CacheControl.maxAge(Duration.ZERO)
+                .sMaxAge(this.sharedMaxAge)
+                .staleWhileRevalidate(this.staleWhileRevalidate);
+    }
+}
@@ -0,0 +1,44 @@
+package org.burgas.corporateservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.burgas.corporateservice.filter.RouteMetricsFilter;
+import org.burgas.corporateservice.metrics.RequestMetrics;
+import org.burgas.corporateservice.metrics.SessionMetricsListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "route-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RouteMetricsConfig {
+
+    @Bean
+    public static HibernatePropertiesCustomizer sessionMetricsHibernatePropertiesCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SessionMetricsListener.class.getName()
+        );
+    }
+
+    @Bean
+    public FilterRegistrationBean<RouteMetricsFilter> routeMetricsFilter(
+            MeterRegistry meterRegistry, EntityManagerFactory entityManagerFactory
+    ) {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RequestMetrics.entityLoaded());
+
+        FilterRegistrationBean<RouteMetricsFilter> filterRegistrationBean = new FilterRegistrationBean<>(new RouteMetricsFilter(meterRegistry));
+        filterRegistrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return filterRegistrationBean;
+    }
+}
@@ -1,17 +1,22 @@
 package org.burgas.corporateservice.config;
 
 import lombok.RequiredArgsConstructor;
-import org.burgas.corporateservice.service.UserDetailsServiceImpl;
+import org.burgas.corporatecommon.security.TokenService;
+import org.burgas.corporateservice.security.BearerTokenAuthenticationFilter;
+import org.burgas.corporateservice.security.CachingAuthenticationProvider;
+import org.burgas.corporateservice.security.SignedCsrfTokenRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.csrf.CsrfFilter;
 import org.springframework.security.web.csrf.XorCsrfTokenRequestAttributeHandler;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -19,21 +24,20 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
 
-import static org.burgas.corporateservice.entity.Authority.*;
+import static org.burgas.corporatecommon.identity.Authority.*;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final UserDetailsServiceImpl userDetailsService;
-    private final PasswordEncoder passwordEncoder;
+    private final CachingAuthenticationProvider cachingAuthenticationProvider;
+    private final TokenService tokenService;
+    private final SignedCsrfTokenRepository signedCsrfTokenRepository;
 
     @Bean
     public AuthenticationManager authenticationManager() {
-        DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider(this.userDetailsService);
-        daoAuthenticationProvider.setPasswordEncoder(this.passwordEncoder);
-        return new ProviderManager(daoAuthenticationProvider);
+        return new ProviderManager(this.cachingAuthenticationProvider);
     }
 
     @Bean
@@ -41,6 +45,12 @@ public class SecurityConfig {
         return new XorCsrfTokenRequestAttributeHandler();
     }
 
+    private CsrfFilter csrfFilter() {
+        CsrfFilter csrfFilter = new CsrfFilter(this.signedCsrfTokenRepository);
+        csrfFilter.setRequestHandler(this.xorCsrfTokenRequestAttributeHandler());
+        return csrfFilter;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration corsConfiguration = new CorsConfiguration();
@@ -62,12 +72,15 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
-                .csrf(csrf -> csrf.csrfTokenRequestHandler(this.xorCsrfTokenRequestAttributeHandler()))
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .cors(cors -> cors.configurationSource(this.corsConfigurationSource()))
                 .httpBasic(
                         httpBasic -> httpBasic.
                                 securityContextRepository(this.requestAttributeSecurityContextRepository())
                 )
+                .addFilterBefore(new BearerTokenAuthenticationFilter(this.tokenService), BasicAuthenticationFilter.class)
+                .addFilterAfter(this.csrfFilter(), BasicAuthenticationFilter.class)
                 .authenticationManager(this.authenticationManager())
                 .authorizeHttpRequests(
                         httpRequests -> httpRequests
@@ -81,11 +94,17 @@ public class SecurityConfig {
                                         "/api/v1/corporations/by-id",
 
                                         "/api/v1/offices/by-corporation",
-                                        "/api/v1/offices/by-id"
+                                        "/api/v1/offices/by-id",
+
+                                        "/api/v1/media/by-id",
+
+                                        "/actuator/health"
                                 )
                                 .permitAll()
 
                                 .requestMatchers(
+                                        "/api/v1/security/token",
+
                                         "/api/v1/identities/by-id",
                                         "/api/v1/identities/update",
                                         "/api/v1/identities/delete",
@@ -151,13 +170,19 @@ public class SecurityConfig {
 
                                         "/api/v1/positions/create",
                                         "/api/v1/positions/update",
-                                        "/api/v1/positions/delete"
+                                        "/api/v1/positions/delete",
+
+                                        "/api/v1/employees/import"
                                 )
                                 .hasAnyAuthority(DIRECTOR.getAuthority())
 
                                 .requestMatchers(
                                         "/api/v1/identities",
-                                        "/api/v1/identities/enable-disable"
+                                        "/api/v1/identities/enable-disable",
+
+                                        "/api/v1/cache/statistics",
+
+                                        "/actuator/prometheus"
                                 )
                                 .hasAnyAuthority(ADMIN.getAuthority())
                 )
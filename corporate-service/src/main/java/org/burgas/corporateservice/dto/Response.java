@@ -1,4 +0,0 @@
-package org.burgas.corporateservice.dto;
-
-public abstract class Response {
-}
@@ -0,0 +1,18 @@
+package org.burgas.corporateservice.dto.cache;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class CacheRegionResponse extends Response {
+
+    private String region;
+    private Long hitCount;
+    private Long missCount;
+    private Long putCount;
+    private Double hitRatio;
+}
@@ -0,0 +1,15 @@
+package org.burgas.corporateservice.dto.employee;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class EmployeeImportError extends Response {
+
+    private Long row;
+    private String message;
+}
@@ -0,0 +1,18 @@
+package org.burgas.corporateservice.dto.employee;
+
+import lombok.*;
+import org.burgas.corporatecommon.dto.Response;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public final class EmployeeImportResponse extends Response {
+
+    private Long imported;
+    private Long failed;
+    private List<EmployeeImportError> errors;
+}
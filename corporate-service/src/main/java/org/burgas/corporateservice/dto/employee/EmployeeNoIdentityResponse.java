@@ -1,10 +1,10 @@
 package org.burgas.corporateservice.dto.employee;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
-import org.burgas.corporateservice.dto.office.OfficeWithoutEmployeesResponse;
-import org.burgas.corporateservice.dto.position.PositionWithoutEmployeeResponse;
-import org.burgas.corporateservice.entity.Address;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
+import org.burgas.corporatecommon.dto.position.PositionWithoutEmployeeResponse;
 
 import java.util.UUID;
 
@@ -20,7 +20,7 @@ public final class EmployeeNoIdentityResponse extends Response {
     private String lastName;
     private String patronymic;
     private String about;
-    private Address address;
+    private AddressResponse address;
     private PositionWithoutEmployeeResponse position;
     private OfficeWithoutEmployeesResponse office;
 }
@@ -1,10 +1,10 @@
 package org.burgas.corporateservice.dto.identity;
 
 import lombok.*;
-import org.burgas.corporateservice.dto.Response;
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.media.MediaResponse;
+import org.burgas.corporatecommon.identity.Authority;
 import org.burgas.corporateservice.dto.employee.EmployeeNoIdentityResponse;
-import org.burgas.corporateservice.entity.Authority;
-import org.burgas.corporateservice.entity.Media;
 
 import java.util.UUID;
 
@@ -23,5 +23,5 @@ public final class IdentityWithEmployeeResponse extends Response {
     private String phone;
     private Boolean enabled;
     private EmployeeNoIdentityResponse employee;
-    private Media image;
+    private MediaResponse image;
 }
@@ -2,6 +2,8 @@ package org.burgas.corporateservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -10,6 +12,8 @@ import java.util.UUID;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "corporation")
 @Getter
 @Setter
 @Builder
@@ -20,11 +24,8 @@ import java.util.UUID;
         name = "corporation-entity-graph",
         attributeNodes = {
                 @NamedAttributeNode(value = "image"),
-                @NamedAttributeNode(value = "departments", subgraph = "department-subgraph")
-        },
-        subgraphs = @NamedSubgraph(
-                name = "department-subgraph", attributeNodes = @NamedAttributeNode(value = "offices")
-        )
+                @NamedAttributeNode(value = "departments")
+        }
 )
 public final class Corporation extends AbstractEntity {
 
@@ -39,10 +40,10 @@ public final class Corporation extends AbstractEntity {
     @Column(name = "description", unique = true, nullable = false)
     private String description;
 
-    @Column(name = "offices_amount")
+    @Column(name = "offices_amount", updatable = false)
     private Long officesAmount;
 
-    @Column(name = "employees_amount")
+    @Column(name = "employees_amount", updatable = false)
     private Long employeesAmount;
 
     @JdbcTypeCode(value = SqlTypes.ARRAY)
@@ -53,9 +54,10 @@ public final class Corporation extends AbstractEntity {
     @JoinColumn(name = "image_id", referencedColumnName = "id", unique = true)
     private Media image;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "corporation-departments")
     @OneToMany(
             mappedBy = "corporation", targetEntity = Department.class,
-            cascade = CascadeType.ALL, fetch = FetchType.EAGER
+            cascade = CascadeType.ALL, fetch = FetchType.LAZY
     )
     private List<Department> departments;
 }
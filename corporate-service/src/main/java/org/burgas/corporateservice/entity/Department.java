@@ -2,6 +2,8 @@ package org.burgas.corporateservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 import java.util.UUID;
@@ -9,6 +11,8 @@ import java.util.UUID;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "department")
 @Getter
 @Setter
 @Builder
@@ -19,8 +23,7 @@ import java.util.UUID;
         name = "department-entity-graph",
         attributeNodes = {
                 @NamedAttributeNode(value = "offices"),
-                @NamedAttributeNode(value = "corporation"),
-                @NamedAttributeNode(value = "positions")
+                @NamedAttributeNode(value = "corporation")
         }
 )
 public final class Department extends AbstractEntity {
@@ -37,7 +40,7 @@ public final class Department extends AbstractEntity {
     private String description;
 
     @ManyToMany(
-            mappedBy = "departments", fetch = FetchType.EAGER,
+            mappedBy = "departments", fetch = FetchType.LAZY,
             cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.DETACH, CascadeType.REFRESH}
     )
     private List<Office> offices;
@@ -51,6 +54,7 @@ public final class Department extends AbstractEntity {
     @JoinColumn(name = "corporation_id", referencedColumnName = "id")
     private Corporation corporation;
 
-    @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "department-positions")
+    @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Position> positions;
 }
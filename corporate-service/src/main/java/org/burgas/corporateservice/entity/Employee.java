@@ -18,10 +18,14 @@ import java.util.UUID;
         attributeNodes = {
                 @NamedAttributeNode(value = "address"),
                 @NamedAttributeNode(value = "office"),
-                @NamedAttributeNode(value = "identity"),
+                @NamedAttributeNode(value = "identity", subgraph = "identity-subgraph"),
                 @NamedAttributeNode(value = "position", subgraph = "position-subgraph")
         },
         subgraphs = {
+                @NamedSubgraph(
+                        name = "identity-subgraph",
+                        attributeNodes = @NamedAttributeNode(value = "image")
+                ),
                 @NamedSubgraph(
                         name = "position-subgraph",
                         attributeNodes = @NamedAttributeNode(value = "department")
@@ -2,6 +2,7 @@ package org.burgas.corporateservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.burgas.corporatecommon.identity.Authority;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -27,7 +28,8 @@ import java.util.UUID;
                         name = "employee-subgraph",
                         attributeNodes = {
                                 @NamedAttributeNode(value = "address"),
-                                @NamedAttributeNode(value = "office")
+                                @NamedAttributeNode(value = "office"),
+                                @NamedAttributeNode(value = "position")
                         }
                 )
         }
@@ -58,10 +60,10 @@ public final class Identity extends AbstractEntity implements UserDetails {
     @Column(name = "enabled", nullable = false)
     private Boolean enabled;
 
-    @OneToOne(mappedBy = "identity", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToOne(mappedBy = "identity", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Employee employee;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "image_id", referencedColumnName = "id", unique = true)
     private Media image;
 
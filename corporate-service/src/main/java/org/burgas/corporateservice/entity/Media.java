@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
@@ -32,7 +33,27 @@ public final class Media extends File {
     @Column(name = "size", nullable = false)
     private Long size;
 
+    @Column(name = "etag", insertable = false, updatable = false)
+    private String etag;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Instant updatedAt;
+
+    @JsonIgnore
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage", insertable = false, updatable = false)
+    private MediaStorageType storage;
+
+    @JsonIgnore
+    @Column(name = "storage_key", insertable = false, updatable = false)
+    private String storageKey;
+
+    @JsonIgnore
+    @Column(name = "parent_id", updatable = false)
+    private UUID parentId;
+
     @JsonIgnore
-    @Column(name = "data", nullable = false)
-    private byte[] data;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant", updatable = false)
+    private MediaVariant variant;
 }
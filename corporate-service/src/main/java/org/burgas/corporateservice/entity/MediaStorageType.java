@@ -0,0 +1,7 @@
+package org.burgas.corporateservice.entity;
+
+public enum MediaStorageType {
+
+    DATABASE,
+    FILESYSTEM
+}
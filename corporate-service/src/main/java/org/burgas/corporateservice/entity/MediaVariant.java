@@ -0,0 +1,16 @@
+package org.burgas.corporateservice.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum MediaVariant {
+
+    SMALL(64),
+    MEDIUM(256);
+
+    private final int size;
+
+    MediaVariant(int size) {
+        this.size = size;
+    }
+}
@@ -15,22 +15,7 @@ import java.util.List;
 @NamedEntityGraph(
         name = "office-entity-graph",
         attributeNodes = {
-                @NamedAttributeNode(value = "employees", subgraph = "employees-subgraph"),
-                @NamedAttributeNode(value = "departments", subgraph = "departments-subgraph")
-        },
-        subgraphs = {
-                @NamedSubgraph(
-                        name = "employees-subgraph",
-                        attributeNodes = {
-                                @NamedAttributeNode(value = "address")
-                        }
-                ),
-                @NamedSubgraph(
-                        name = "departments-subgraph",
-                        attributeNodes = {
-                                @NamedAttributeNode(value = "corporation")
-                        }
-                )
+                @NamedAttributeNode(value = "departments")
         }
 )
 public final class Office extends AbstractEntity {
@@ -38,10 +23,10 @@ public final class Office extends AbstractEntity {
     @EmbeddedId
     private OfficePK officePK;
 
-    @Column(name = "employees_amount", nullable = false)
+    @Column(name = "employees_amount", nullable = false, updatable = false)
     private Long employeesAmount;
 
-    @OneToMany(mappedBy = "office", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "office", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Employee> employees;
 
     @ManyToMany
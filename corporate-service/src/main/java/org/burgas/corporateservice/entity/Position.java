@@ -2,10 +2,14 @@ package org.burgas.corporateservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "position")
 @Getter
 @Setter
 @Builder
@@ -16,7 +20,20 @@ import java.util.UUID;
         name = "position-entity-graph",
         attributeNodes = {
                 @NamedAttributeNode(value = "department"),
-                @NamedAttributeNode(value = "employee")
+                @NamedAttributeNode(value = "employee", subgraph = "employee-subgraph")
+        },
+        subgraphs = {
+                @NamedSubgraph(
+                        name = "employee-subgraph",
+                        attributeNodes = {
+                                @NamedAttributeNode(value = "address"),
+                                @NamedAttributeNode(value = "identity", subgraph = "identity-subgraph")
+                        }
+                ),
+                @NamedSubgraph(
+                        name = "identity-subgraph",
+                        attributeNodes = @NamedAttributeNode(value = "image")
+                )
         }
 )
 public final class Position extends AbstractEntity {
@@ -36,6 +53,6 @@ public final class Position extends AbstractEntity {
     @JoinColumn(name = "department_id", referencedColumnName = "id")
     private Department department;
 
-    @OneToOne(mappedBy = "position", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToOne(mappedBy = "position", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Employee employee;
 }
@@ -0,0 +1,6 @@
+package org.burgas.corporateservice.event;
+
+import java.util.UUID;
+
+public record MediaUploadedEvent(UUID mediaId, String etag) {
+}
@@ -0,0 +1,8 @@
+package org.burgas.corporateservice.exception;
+
+public class WrongImportFormatException extends RuntimeException {
+
+    public WrongImportFormatException(String message) {
+        super(message);
+    }
+}
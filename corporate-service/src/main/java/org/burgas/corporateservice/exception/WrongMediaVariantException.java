@@ -0,0 +1,8 @@
+package org.burgas.corporateservice.exception;
+
+public class WrongMediaVariantException extends RuntimeException {
+
+    public WrongMediaVariantException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,149 @@
+package org.burgas.corporateservice.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservice.config.BulkheadProperties;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final String BULKHEAD_FULL = "Service is busy, try again later";
+
+    private final BulkheadProperties bulkheadProperties;
+    private final Map<String, Semaphore> semaphores;
+    private final Map<String, Counter> rejections;
+    private final List<PathPattern> mediaPaths;
+    private final List<PathPattern> excludedPaths;
+    private final List<MediaType> excludedMediaTypes;
+
+    public BulkheadFilter(BulkheadProperties bulkheadProperties, int maximumPoolSize, MeterRegistry meterRegistry) {
+        this.bulkheadProperties = bulkheadProperties;
+        int connections = Math.max(1, maximumPoolSize - bulkheadProperties.getReservedConnections());
+
+        this.semaphores = Map.of(
+                "reads", new Semaphore(permits(bulkheadProperties.getReads(), connections)),
+                "writes", new Semaphore(permits(bulkheadProperties.getWrites(), connections)),
+                "media", new Semaphore(permits(bulkheadProperties.getMedia(), connections))
+        );
+        this.rejections = Map.of(
+                "reads", rejectionCounter("reads", meterRegistry),
+                "writes", rejectionCounter("writes", meterRegistry),
+                "media", rejectionCounter("media", meterRegistry)
+        );
+        this.semaphores.forEach(
+                (group, semaphore) -> {
+                    Gauge.builder("http.server.bulkhead.available", semaphore, Semaphore::availablePermits)
+                            .tag("group", group)
+                            .register(meterRegistry);
+                    log.info("Bulkhead {} sized to {} of {} connections", group, semaphore.availablePermits(), connections);
+                }
+        );
+
+        this.mediaPaths = bulkheadProperties.getMediaPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.excludedPaths = bulkheadProperties.getExcludedPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.excludedMediaTypes = bulkheadProperties.getExcludedMediaTypes().stream().map(MediaType::parseMediaType).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        if (
+                HttpMethod.OPTIONS.matches(request.getMethod()) || matches(this.excludedPaths, path) ||
+                this.accepts(request.getHeader(HttpHeaders.ACCEPT))
+        ) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String group = this.group(request.getMethod(), path);
+        Semaphore semaphore = this.semaphores.get(group);
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(this.bulkheadProperties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            this.rejections.get(group).increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(("\"" + BULKHEAD_FULL + "\"").getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private String group(final String method, final PathContainer path) {
+        if (matches(this.mediaPaths, path))
+            return "media";
+
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? "reads" : "writes";
+    }
+
+    private boolean accepts(final String accept) {
+        if (accept == null || this.excludedMediaTypes.isEmpty())
+            return false;
+
+        try {
+            return MediaType.parseMediaTypes(accept)
+                    .stream()
+                    .anyMatch(mediaType -> this.excludedMediaTypes.stream().anyMatch(mediaType::equalsTypeAndSubtype));
+
+        } catch (InvalidMediaTypeException exception) {
+            return false;
+        }
+    }
+
+    private static boolean matches(final List<PathPattern> pathPatterns, final PathContainer path) {
+        for (PathPattern pathPattern : pathPatterns) {
+            if (pathPattern.matches(path))
+                return true;
+        }
+        return false;
+    }
+
+    private static int permits(final BulkheadProperties.Group group, final int connections) {
+        return Math.max(1, (int) Math.floor(group.getShare() * connections));
+    }
+
+    private static Counter rejectionCounter(final String group, final MeterRegistry meterRegistry) {
+        return Counter.builder("http.server.bulkhead.rejected")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+}
@@ -1,14 +1,13 @@
 package org.burgas.corporateservice.filter;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
 import org.burgas.corporateservice.dto.corporation.CorporationRequest;
-import org.burgas.corporateservice.entity.Corporation;
-import org.burgas.corporateservice.entity.Identity;
 import org.burgas.corporateservice.exception.IdentityNotAuthenticatedException;
 import org.burgas.corporateservice.exception.IdentityNotAuthorizedException;
 import org.burgas.corporateservice.exception.IdentityNotDirectorException;
 import org.burgas.corporateservice.message.IdentityMessages;
-import org.burgas.corporateservice.service.CorporationService;
+import org.burgas.corporateservice.service.MembershipService;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -22,7 +21,7 @@ import static org.burgas.corporateservice.message.CorporationMessages.IDENTITY_N
 @RequiredArgsConstructor
 public class CorporationFilterFunction implements HandlerFilterFunction<ServerResponse, ServerResponse> {
 
-    private final CorporationService corporationService;
+    private final MembershipService membershipService;
 
     @Override
     public @NotNull ServerResponse filter(@NotNull ServerRequest request, @NotNull HandlerFunction<ServerResponse> next) throws Exception {
@@ -39,9 +38,9 @@ public class CorporationFilterFunction implements HandlerFilterFunction<ServerRe
                 UUID identityId = request.param("alreadyDirectorId")
                         .map(UUID::fromString)
                         .orElseThrow();
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (identity.getId().equals(identityId)) {
+                if (identity.id().equals(identityId)) {
                     return next.handle(request);
 
                 } else {
@@ -63,9 +62,9 @@ public class CorporationFilterFunction implements HandlerFilterFunction<ServerRe
 
                 CorporationRequest corporationRequest = request.body(CorporationRequest.class);
                 UUID identityId = corporationRequest.getDirectorId();
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (identity.getId().equals(identityId)) {
+                if (identity.id().equals(identityId)) {
                     request.attributes().put("corporationRequest", corporationRequest);
                     return next.handle(request);
 
@@ -90,13 +89,12 @@ public class CorporationFilterFunction implements HandlerFilterFunction<ServerRe
 
             if (authentication.isAuthenticated()) {
 
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
                 UUID corporationId = request.param("corporationId")
                         .map(UUID::fromString)
                         .orElseThrow();
-                Corporation corporation = this.corporationService.findCorporation(corporationId);
 
-                if (corporation.getDirectors().contains(identity.getId())) {
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
                     return next.handle(request);
 
                 } else {
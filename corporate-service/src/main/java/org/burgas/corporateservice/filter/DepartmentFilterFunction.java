@@ -1,17 +1,13 @@
 package org.burgas.corporateservice.filter;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
 import org.burgas.corporateservice.dto.department.DepartmentRequest;
-import org.burgas.corporateservice.entity.Corporation;
-import org.burgas.corporateservice.entity.Department;
-import org.burgas.corporateservice.entity.Employee;
-import org.burgas.corporateservice.entity.Identity;
 import org.burgas.corporateservice.exception.CorporationNotFoundException;
 import org.burgas.corporateservice.exception.EmployeeNotFoundException;
 import org.burgas.corporateservice.exception.IdentityNotAuthenticatedException;
 import org.burgas.corporateservice.exception.IdentityNotDirectorException;
-import org.burgas.corporateservice.service.CorporationService;
-import org.burgas.corporateservice.service.DepartmentServiceImpl;
+import org.burgas.corporateservice.service.MembershipService;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -31,8 +27,7 @@ import static org.burgas.corporateservice.message.IdentityMessages.IDENTITY_NOT_
 @RequiredArgsConstructor
 public class DepartmentFilterFunction implements HandlerFilterFunction<ServerResponse, ServerResponse> {
 
-    private final CorporationService corporationService;
-    private final DepartmentServiceImpl departmentService;
+    private final MembershipService membershipService;
 
     @Override
     public @NotNull ServerResponse filter(@NotNull ServerRequest request, @NotNull HandlerFunction<ServerResponse> next) throws Exception {
@@ -49,18 +44,9 @@ public class DepartmentFilterFunction implements HandlerFilterFunction<ServerRes
                         .map(UUID::fromString)
                         .orElseThrow();
 
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                Corporation corporation = this.corporationService.findCorporation(corporationId);
-                Employee corporationEmployee = corporation.getDepartments()
-                        .stream()
-                        .flatMap(department -> department.getOffices().stream())
-                        .flatMap(office -> office.getEmployees().stream())
-                        .filter(employee -> employee.getIdentity().getId().equals(identity.getId()))
-                        .findFirst()
-                        .orElse(null);
-
-                if (corporationEmployee != null) {
+                if (this.membershipService.isEmployeeOrDirector(corporationId, identity.id())) {
                     return next.handle(request);
 
                 } else {
@@ -84,17 +70,9 @@ public class DepartmentFilterFunction implements HandlerFilterFunction<ServerRes
                         .map(UUID::fromString)
                         .orElseThrow();
 
-                Department department = this.departmentService.findDepartment(departmentId);
-
-                Identity identity = (Identity) authentication.getPrincipal();
-                Employee departmentEmployee = department.getOffices()
-                        .stream()
-                        .flatMap(office -> office.getEmployees().stream())
-                        .filter(employee -> employee.getIdentity().getId().equals(identity.getId()))
-                        .findFirst()
-                        .orElse(null);
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (departmentEmployee != null) {
+                if (this.membershipService.isDepartmentEmployee(departmentId, identity.id())) {
                     return next.handle(request);
 
                 } else {
@@ -117,10 +95,9 @@ public class DepartmentFilterFunction implements HandlerFilterFunction<ServerRes
                 UUID corporationId = departmentRequest.getCorporationId();
 
                 if (corporationId != null) {
-                    Corporation corporation = this.corporationService.findCorporation(corporationId);
-                    Identity identity = (Identity) authentication.getPrincipal();
+                    IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                    if (corporation.getDirectors().contains(identity.getId())) {
+                    if (this.membershipService.isDirector(corporationId, identity.id())) {
                         request.attributes().put("departmentRequest", departmentRequest);
                         return next.handle(request);
 
@@ -147,11 +124,10 @@ public class DepartmentFilterFunction implements HandlerFilterFunction<ServerRes
                 DepartmentRequest departmentRequest = request.body(DepartmentRequest.class);
                 UUID departmentId = departmentRequest.getId();
 
-                Department department = this.departmentService.findDepartment(departmentId);
-                Corporation corporation = department.getCorporation();
-                Identity identity = (Identity) authentication.getPrincipal();
+                UUID corporationId = this.membershipService.findCorporationIdByDepartment(departmentId);
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (corporation.getDirectors().contains(identity.getId())) {
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
                     request.attributes().put("departmentRequest", departmentRequest);
                     return next.handle(request);
 
@@ -175,11 +151,10 @@ public class DepartmentFilterFunction implements HandlerFilterFunction<ServerRes
                         .map(UUID::fromString)
                         .orElseThrow();
 
-                Department department = this.departmentService.findDepartment(departmentId);
-                Corporation corporation = department.getCorporation();
-                Identity identity = (Identity) authentication.getPrincipal();
+                UUID corporationId = this.membershipService.findCorporationIdByDepartment(departmentId);
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (corporation.getDirectors().contains(identity.getId())) {
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
                     return next.handle(request);
 
                 } else {
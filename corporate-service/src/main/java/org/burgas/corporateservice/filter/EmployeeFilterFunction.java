@@ -1,13 +1,11 @@
 package org.burgas.corporateservice.filter;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
 import org.burgas.corporateservice.dto.employee.EmployeeRequest;
-import org.burgas.corporateservice.entity.Corporation;
-import org.burgas.corporateservice.entity.Employee;
-import org.burgas.corporateservice.entity.Identity;
 import org.burgas.corporateservice.entity.OfficePK;
 import org.burgas.corporateservice.exception.*;
-import org.burgas.corporateservice.service.CorporationService;
+import org.burgas.corporateservice.service.MembershipService;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -28,7 +26,7 @@ import static org.burgas.corporateservice.message.IdentityMessages.IDENTITY_NOT_
 @RequiredArgsConstructor
 public class EmployeeFilterFunction implements HandlerFilterFunction<ServerResponse, ServerResponse> {
 
-    private final CorporationService corporationService;
+    private final MembershipService membershipService;
 
     @Override
     public @NotNull ServerResponse filter(@NotNull ServerRequest request, @NotNull HandlerFunction<ServerResponse> next) throws Exception {
@@ -42,12 +40,12 @@ public class EmployeeFilterFunction implements HandlerFilterFunction<ServerRespo
             if (authentication.isAuthenticated()) {
                 EmployeeRequest employeeRequest = request.body(EmployeeRequest.class);
                 UUID identityId = employeeRequest.getIdentityId();
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (identity.getId().equals(identityId)) {
-                    Corporation corporation = this.corporationService.findCorporation(employeeRequest.getOffice().getCorporationId());
+                if (identity.id().equals(identityId)) {
+                    UUID corporationId = employeeRequest.getOffice() == null ? null : employeeRequest.getOffice().getCorporationId();
 
-                    if (corporation.getDirectors().contains(identity.getId())) {
+                    if (this.membershipService.isDirector(corporationId, identity.id())) {
                         request.attributes().put("employeeRequest", employeeRequest);
                         return next.handle(request);
 
@@ -63,6 +61,31 @@ public class EmployeeFilterFunction implements HandlerFilterFunction<ServerRespo
                 throw new IdentityNotAuthenticatedException(IDENTITY_NOT_AUTHENTICATED.getMessage());
             }
 
+        } else if (
+                request.path().equals("/api/v1/employees/import")
+        ) {
+
+            Authentication authentication = request.principal()
+                    .map(Authentication.class::cast)
+                    .orElseThrow();
+
+            if (authentication.isAuthenticated()) {
+                UUID corporationId = request.param("corporationId")
+                        .map(UUID::fromString)
+                        .orElseThrow(() -> new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage()));
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
+
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
+                    return next.handle(request);
+
+                } else {
+                    throw new IdentityNotDirectorException(IDENTITY_NOT_DIRECTOR.getMessage());
+                }
+
+            } else {
+                throw new IdentityNotAuthenticatedException(IDENTITY_NOT_AUTHENTICATED.getMessage());
+            }
+
         } else if (
                 request.path().equals("/api/v1/employees/delete")
         ) {
@@ -75,9 +98,9 @@ public class EmployeeFilterFunction implements HandlerFilterFunction<ServerRespo
                 UUID employeeId = request.param("employeeId")
                         .map(UUID::fromString)
                         .orElseThrow();
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (identity.getEmployee().getId().equals(employeeId)) {
+                if (employeeId.equals(identity.employeeId())) {
                     return next.handle(request);
 
                 } else {
@@ -98,20 +121,20 @@ public class EmployeeFilterFunction implements HandlerFilterFunction<ServerRespo
 
             if (authentication.isAuthenticated()) {
 
-                Identity identity = (Identity) authentication.getPrincipal();
-                Employee employee = identity.getEmployee();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (employee != null) {
+                if (identity.employeeId() != null) {
 
                     UUID employeeId = request.param("employeeId")
                             .map(UUID::fromString)
                             .orElseThrow(() -> new EmployeeNotFoundException(EMPLOYEE_NOT_FOUND.getMessage()));
                     OfficePK officePK = request.body(OfficePK.class);
 
-                    if (officePK.getCorporationId().equals(employee.getOffice().getOfficePK().getCorporationId())) {
-                        Corporation corporation = this.corporationService.findCorporation(officePK.getCorporationId());
-
-                        if (employee.getId().equals(employeeId) || corporation.getDirectors().contains(identity.getId())) {
+                    if (officePK.getCorporationId().equals(identity.corporationId())) {
+                        if (
+                                identity.employeeId().equals(employeeId) ||
+                                this.membershipService.isDirector(officePK.getCorporationId(), identity.id())
+                        ) {
                             request.attributes().put("officePK", officePK);
                             return next.handle(request);
 
@@ -1,8 +1,8 @@
 package org.burgas.corporateservice.filter;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
 import org.burgas.corporateservice.dto.identity.IdentityRequest;
-import org.burgas.corporateservice.entity.Identity;
 import org.burgas.corporateservice.exception.IdentityNotAuthenticatedException;
 import org.burgas.corporateservice.exception.IdentityNotAuthorizedException;
 import org.burgas.corporateservice.message.IdentityMessages;
@@ -42,9 +42,9 @@ public class IdentityFilterFunction implements HandlerFilterFunction<ServerRespo
                 UUID identityId = request.param("identityId")
                         .map(UUID::fromString)
                         .orElseThrow();
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (identity.getId().equals(identityId)) {
+                if (identity.id().equals(identityId)) {
                     return next.handle(request);
 
                 } else {
@@ -66,9 +66,9 @@ public class IdentityFilterFunction implements HandlerFilterFunction<ServerRespo
 
                 IdentityRequest identityRequest = request.body(IdentityRequest.class);
                 UUID identityId = identityRequest.getId();
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (identity.getId().equals(identityId)) {
+                if (identity.id().equals(identityId)) {
                     request.attributes().put("identityRequest", identityRequest);
                     return next.handle(request);
 
@@ -1,15 +1,13 @@
 package org.burgas.corporateservice.filter;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
 import org.burgas.corporateservice.dto.office.OfficeRequest;
-import org.burgas.corporateservice.entity.Corporation;
-import org.burgas.corporateservice.entity.Identity;
 import org.burgas.corporateservice.entity.OfficePK;
-import org.burgas.corporateservice.exception.CorporationNotFoundException;
 import org.burgas.corporateservice.exception.IdentityNotAuthenticatedException;
 import org.burgas.corporateservice.exception.IdentityNotDirectorException;
 import org.burgas.corporateservice.message.IdentityMessages;
-import org.burgas.corporateservice.repository.CorporationRepository;
+import org.burgas.corporateservice.service.MembershipService;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -18,17 +16,15 @@ import org.springframework.web.servlet.function.HandlerFunction;
 import org.springframework.web.servlet.function.ServerRequest;
 import org.springframework.web.servlet.function.ServerResponse;
 
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
-import static org.burgas.corporateservice.message.CorporationMessages.CORPORATION_NOT_FOUND;
 import static org.burgas.corporateservice.message.CorporationMessages.IDENTITY_NOT_DIRECTOR;
 
 @Component
 @RequiredArgsConstructor
 public class OfficeFilterFunction implements HandlerFilterFunction<ServerResponse, ServerResponse> {
 
-    private final CorporationRepository corporationRepository;
+    private final MembershipService membershipService;
 
     @Override
     public @NotNull ServerResponse filter(@NotNull ServerRequest request, @NotNull HandlerFunction<ServerResponse> next) throws Exception {
@@ -44,10 +40,9 @@ public class OfficeFilterFunction implements HandlerFilterFunction<ServerRespons
 
                 OfficeRequest officeRequest = request.body(OfficeRequest.class);
                 UUID corporationId = officeRequest.getOffice().getCorporationId();
-                Corporation corporation = getCorporation(corporationId);
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (corporation.getDirectors().contains(identity.getId())) {
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
                     request.attributes().put("officeRequest", officeRequest);
                     return next.handle(request);
 
@@ -70,10 +65,9 @@ public class OfficeFilterFunction implements HandlerFilterFunction<ServerRespons
 
                 OfficePK officePK = request.body(OfficePK.class);
                 UUID corporationId = officePK.getCorporationId();
-                Corporation corporation = getCorporation(corporationId);
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
-                if (corporation.getDirectors().contains(identity.getId())) {
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
                     request.attributes().put("officePK", officePK);
                     return next.handle(request);
 
@@ -88,11 +82,4 @@ public class OfficeFilterFunction implements HandlerFilterFunction<ServerRespons
 
         return next.handle(request);
     }
-
-    private Corporation getCorporation(UUID corporationId) {
-        return this.corporationRepository.findById(
-                        corporationId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : corporationId
-                )
-                .orElseThrow(() -> new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage()));
-    }
 }
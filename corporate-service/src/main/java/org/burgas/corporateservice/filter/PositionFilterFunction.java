@@ -1,14 +1,12 @@
 package org.burgas.corporateservice.filter;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
 import org.burgas.corporateservice.dto.position.PositionRequest;
-import org.burgas.corporateservice.entity.*;
 import org.burgas.corporateservice.exception.IdentityNotAuthenticatedException;
 import org.burgas.corporateservice.exception.IdentityNotDirectorException;
 import org.burgas.corporateservice.exception.IdentityNotEmployeeException;
-import org.burgas.corporateservice.service.CorporationService;
-import org.burgas.corporateservice.service.DepartmentServiceImpl;
-import org.burgas.corporateservice.service.PositionServiceImpl;
+import org.burgas.corporateservice.service.MembershipService;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -27,9 +25,7 @@ import static org.burgas.corporateservice.message.IdentityMessages.IDENTITY_NOT_
 @RequiredArgsConstructor
 public class PositionFilterFunction implements HandlerFilterFunction<ServerResponse, ServerResponse> {
 
-    private final PositionServiceImpl positionService;
-    private final DepartmentServiceImpl departmentService;
-    private final CorporationService corporationService;
+    private final MembershipService membershipService;
 
     @Override
     public @NotNull ServerResponse filter(@NotNull ServerRequest request, @NotNull HandlerFunction<ServerResponse> next) throws Exception {
@@ -41,22 +37,13 @@ public class PositionFilterFunction implements HandlerFilterFunction<ServerRespo
                     .orElseThrow();
 
             if (authentication.isAuthenticated()) {
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
                 UUID departmentId = request.param("departmentId")
                         .map(UUID::fromString)
                         .orElseThrow();
 
-                Department department = this.departmentService.findDepartment(departmentId);
-
-                Employee departmentEmployee = department.getOffices()
-                        .stream()
-                        .flatMap(office -> office.getEmployees().stream())
-                        .filter(employee -> employee.getIdentity().getId().equals(identity.getId()))
-                        .findFirst()
-                        .orElse(null);
-
-                if (departmentEmployee != null) {
+                if (this.membershipService.isDepartmentEmployee(departmentId, identity.id())) {
                     return next.handle(request);
 
                 } else {
@@ -75,23 +62,13 @@ public class PositionFilterFunction implements HandlerFilterFunction<ServerRespo
                     .orElseThrow();
 
             if (authentication.isAuthenticated()) {
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
                 UUID corporationId = request.param("corporationId")
                         .map(UUID::fromString)
                         .orElseThrow();
 
-                Corporation corporation = this.corporationService.findCorporation(corporationId);
-
-                Employee corporationEmployee = corporation.getDepartments()
-                        .stream()
-                        .flatMap(department -> department.getOffices().stream())
-                        .flatMap(office -> office.getEmployees().stream())
-                        .filter(employee -> employee.getIdentity().getId().equals(identity.getId()))
-                        .findFirst()
-                        .orElse(null);
-
-                if (corporationEmployee != null) {
+                if (this.membershipService.isEmployeeOrDirector(corporationId, identity.id())) {
                     return next.handle(request);
 
                 } else {
@@ -111,17 +88,15 @@ public class PositionFilterFunction implements HandlerFilterFunction<ServerRespo
                     .orElseThrow();
 
             if (authentication.isAuthenticated()) {
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
                 UUID positionId = request.param("positionId")
                         .map(UUID::fromString)
                         .orElseThrow();
 
-                Position position = this.positionService.findPosition(positionId);
-
-                Corporation corporation = position.getDepartment().getCorporation();
+                UUID corporationId = this.membershipService.findCorporationIdByPosition(positionId);
 
-                if (corporation.getDirectors().contains(identity.getId())) {
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
                     return next.handle(request);
 
                 } else {
@@ -140,15 +115,14 @@ public class PositionFilterFunction implements HandlerFilterFunction<ServerRespo
                     .orElseThrow();
 
             if (authentication.isAuthenticated()) {
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
                 PositionRequest positionRequest = request.body(PositionRequest.class);
                 UUID departmentId = positionRequest.getDepartmentId();
 
-                Department department = this.departmentService.findDepartment(departmentId);
-                Corporation corporation = department.getCorporation();
+                UUID corporationId = this.membershipService.findCorporationIdByDepartment(departmentId);
 
-                if (corporation.getDirectors().contains(identity.getId())) {
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
                     request.attributes().put("positionRequest", positionRequest);
                     return next.handle(request);
 
@@ -168,15 +142,14 @@ public class PositionFilterFunction implements HandlerFilterFunction<ServerRespo
                     .orElseThrow();
 
             if (authentication.isAuthenticated()) {
-                Identity identity = (Identity) authentication.getPrincipal();
+                IdentityPrincipal identity = (IdentityPrincipal) authentication.getPrincipal();
 
                 PositionRequest positionRequest = request.body(PositionRequest.class);
                 UUID positionId = positionRequest.getId();
 
-                Position position = this.positionService.findPosition(positionId);
-                Corporation corporation = position.getDepartment().getCorporation();
+                UUID corporationId = this.membershipService.findCorporationIdByPosition(positionId);
 
-                if (corporation.getDirectors().contains(identity.getId())) {
+                if (this.membershipService.isDirector(corporationId, identity.id())) {
                     request.attributes().put("positionRequest", positionRequest);
                     return next.handle(request);
 
@@ -0,0 +1,86 @@
+package org.burgas.corporateservice.filter;
+
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.burgas.corporateservice.metrics.RequestMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+public class RouteMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadMXBean threadMXBean;
+
+    public RouteMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.threadMXBean = ManagementFactory.getThreadMXBean() instanceof ThreadMXBean sunThreadMXBean &&
+                            sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled() ?
+                sunThreadMXBean : null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RequestMetrics requestMetrics = RequestMetrics.begin();
+        long allocatedBefore = this.allocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+
+        } finally {
+            long allocatedAfter = this.allocatedBytes();
+            RequestMetrics.end();
+
+            Tags tags = Tags.of(
+                    "method", request.getMethod(),
+                    "uri", route(request, response),
+                    "status", String.valueOf(response.getStatus())
+            );
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .tags(tags)
+                    .register(this.meterRegistry)
+                    .record(requestMetrics.getStatements());
+            DistributionSummary.builder("http.server.requests.entity.loads")
+                    .tags(tags)
+                    .register(this.meterRegistry)
+                    .record(requestMetrics.getEntityLoads());
+            Timer.builder("http.server.requests.connection.acquire")
+                    .tags(tags)
+                    .register(this.meterRegistry)
+                    .record(requestMetrics.getConnectionAcquisitionNanos(), TimeUnit.NANOSECONDS);
+
+            if (allocatedBefore >= 0 && allocatedAfter >= allocatedBefore) {
+                DistributionSummary.builder("http.server.requests.allocated")
+                        .baseUnit("bytes")
+                        .tags(tags)
+                        .register(this.meterRegistry)
+                        .record(allocatedAfter - allocatedBefore);
+            }
+        }
+    }
+
+    private long allocatedBytes() {
+        return this.threadMXBean == null ? -1 : this.threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static String route(final HttpServletRequest request, final HttpServletResponse response) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern)
+            return pattern;
+
+        return response.getStatus() == HttpStatus.NOT_FOUND.value() ? "NOT_FOUND" : "UNKNOWN";
+    }
+}
@@ -1,22 +1,18 @@
 package org.burgas.corporateservice.mapper;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithOfficesResponse;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
 import org.burgas.corporateservice.dto.corporation.CorporationRequest;
-import org.burgas.corporateservice.dto.corporation.CorporationWithOfficesResponse;
-import org.burgas.corporateservice.dto.corporation.CorporationWithoutOfficesResponse;
-import org.burgas.corporateservice.dto.department.DepartmentWithOfficesResponse;
-import org.burgas.corporateservice.dto.department.DepartmentWithoutOfficesResponse;
-import org.burgas.corporateservice.dto.office.OfficeWithoutEmployeesResponse;
 import org.burgas.corporateservice.entity.Corporation;
-import org.burgas.corporateservice.entity.Employee;
-import org.burgas.corporateservice.entity.Office;
 import org.burgas.corporateservice.exception.EmptyDirectorIdException;
 import org.burgas.corporateservice.exception.WrongDirectorIdException;
 import org.burgas.corporateservice.mapper.contract.EntityMapper;
 import org.burgas.corporateservice.repository.AddressRepository;
 import org.burgas.corporateservice.repository.CorporationRepository;
-import org.burgas.corporateservice.repository.EmployeeRepository;
-import org.burgas.corporateservice.repository.OfficeRepository;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
@@ -31,8 +27,6 @@ import static org.burgas.corporateservice.message.CorporationMessages.*;
 public final class CorporationMapper implements EntityMapper<CorporationRequest, Corporation, CorporationWithOfficesResponse> {
 
     private final CorporationRepository corporationRepository;
-    private final OfficeRepository officeRepository;
-    private final EmployeeRepository employeeRepository;
     private final AddressRepository addressRepository;
 
     @Override
@@ -41,8 +35,6 @@ public final class CorporationMapper implements EntityMapper<CorporationRequest,
             throw new EmptyDirectorIdException(CORPORATION_DIRECTOR_ID_EMPTY.getMessage());
 
         UUID corporationId = this.handleData(corporationRequest.getId(), UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)));
-        List<Office> offices = this.officeRepository.findOfficesByCorporationId(corporationId);
-        List<Employee> employees = this.employeeRepository.findEmployeesByCorporationId(corporationId);
 
         return this.corporationRepository.findById(corporationId)
                 .map(
@@ -52,15 +44,13 @@ public final class CorporationMapper implements EntityMapper<CorporationRequest,
 
                             String corporationName = this.handleData(corporationRequest.getName(), corporation.getName());
                             String corporationDescription = this.handleData(corporationRequest.getDescription(), corporation.getDescription());
-                            long officesAmount = offices == null || offices.isEmpty() ? 0L : offices.size();
-                            long employeesAmount = employees == null || employees.isEmpty() ? 0L : employees.size();
 
                             return Corporation.builder()
                                     .id(corporation.getId())
                                     .name(corporationName)
                                     .description(corporationDescription)
-                                    .officesAmount(officesAmount)
-                                    .employeesAmount(employeesAmount)
+                                    .officesAmount(corporation.getOfficesAmount())
+                                    .employeesAmount(corporation.getEmployeesAmount())
                                     .directors(corporation.getDirectors())
                                     .build();
                         }
@@ -73,15 +63,13 @@ public final class CorporationMapper implements EntityMapper<CorporationRequest,
                             String corporationDescription = this.handleDataThrowable(
                                     corporationRequest.getDescription(), CORPORATION_FIELD_DESCRIPTION_EMPTY.getMessage()
                             );
-                            long officeAmount = offices == null || offices.isEmpty() ? 0L : offices.size();
-                            long employeesAmount = employees == null || employees.isEmpty() ? 0L : employees.size();
                             ArrayList<UUID> directors = new ArrayList<>(List.of(corporationRequest.getDirectorId()));
 
                             return Corporation.builder()
                                     .name(corporationName)
                                     .description(corporationDescription)
-                                    .officesAmount(officeAmount)
-                                    .employeesAmount(employeesAmount)
+                                    .officesAmount(0L)
+                                    .employeesAmount(0L)
                                     .directors(directors)
                                     .build();
                         }
@@ -97,7 +85,7 @@ public final class CorporationMapper implements EntityMapper<CorporationRequest,
                 .officesAmount(corporation.getOfficesAmount())
                 .employeesAmount(corporation.getEmployeesAmount())
                 .directors(corporation.getDirectors())
-                .image(corporation.getImage())
+                .image(this.toMediaResponse(corporation.getImage()))
                 .departments(
                         corporation.getDepartments() == null ? null :
                         corporation.getDepartments()
@@ -112,7 +100,7 @@ public final class CorporationMapper implements EntityMapper<CorporationRequest,
                                                                 .stream()
                                                                 .map(
                                                                         office -> OfficeWithoutEmployeesResponse.builder()
-                                                                                .address(this.addressRepository.findById(office.getOfficePK().getAddressId()).orElse(null))
+                                                                                .address(this.addressRepository.findById(office.getOfficePK().getAddressId()).map(this::toAddressResponse).orElse(null))
                                                                                 .build()
                                                                 )
                                                                 .toList()
@@ -132,7 +120,7 @@ public final class CorporationMapper implements EntityMapper<CorporationRequest,
                 .officesAmount(corporation.getOfficesAmount())
                 .employeesAmount(corporation.getEmployeesAmount())
                 .directors(corporation.getDirectors())
-                .image(corporation.getImage())
+                .image(this.toMediaResponse(corporation.getImage()))
                 .departments(
                         corporation.getDepartments() == null ? null :
                                 corporation.getDepartments()
@@ -1,9 +1,9 @@
 package org.burgas.corporateservice.mapper;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
 import org.burgas.corporateservice.dto.department.DepartmentRequest;
-import org.burgas.corporateservice.dto.department.DepartmentWithOfficesResponse;
-import org.burgas.corporateservice.dto.office.OfficeWithoutEmployeesResponse;
 import org.burgas.corporateservice.entity.Corporation;
 import org.burgas.corporateservice.entity.Department;
 import org.burgas.corporateservice.mapper.contract.EntityMapper;
@@ -85,7 +85,7 @@ public final class DepartmentMapper implements EntityMapper<DepartmentRequest, D
                                 .stream()
                                 .map(
                                         office -> OfficeWithoutEmployeesResponse.builder()
-                                                .address(this.addressRepository.findById(office.getOfficePK().getAddressId()).orElse(null))
+                                                .address(this.addressRepository.findById(office.getOfficePK().getAddressId()).map(this::toAddressResponse).orElse(null))
                                                 .corporation(
                                                         this.corporationRepository.findById(office.getOfficePK().getCorporationId())
                                                                 .map(this.corporationMapper::toCorporationWithoutOfficesResponse)
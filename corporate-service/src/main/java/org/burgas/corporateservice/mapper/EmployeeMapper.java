@@ -1,12 +1,14 @@
 package org.burgas.corporateservice.mapper;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
+import org.burgas.corporatecommon.dto.identity.IdentityWithoutEmployeeResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithoutEmployeesResponse;
+import org.burgas.corporatecommon.dto.position.PositionWithoutEmployeeResponse;
 import org.burgas.corporateservice.dto.employee.EmployeeNoIdentityResponse;
 import org.burgas.corporateservice.dto.employee.EmployeeRequest;
-import org.burgas.corporateservice.dto.employee.EmployeeWithOfficeResponse;
-import org.burgas.corporateservice.dto.identity.IdentityWithoutEmployeeResponse;
-import org.burgas.corporateservice.dto.office.OfficeWithoutEmployeesResponse;
-import org.burgas.corporateservice.dto.position.PositionWithoutEmployeeResponse;
 import org.burgas.corporateservice.entity.*;
 import org.burgas.corporateservice.exception.CorporationNotFoundException;
 import org.burgas.corporateservice.exception.EntityFieldEmptyException;
@@ -18,8 +20,8 @@ import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.burgas.corporateservice.message.CorporationMessages.CORPORATION_NOT_FOUND;
 import static org.burgas.corporateservice.message.EmployeeMessages.*;
@@ -97,13 +99,11 @@ public final class EmployeeMapper implements EntityMapper<EmployeeRequest, Emplo
                             }
                             OfficePK officePK = getOfficePK(employeeRequest);
 
-                            Corporation corporation = this.corporationRepository.findById(officePK.getCorporationId())
-                                    .orElseThrow(() -> new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage()));
-                            corporation.setEmployeesAmount(corporation.getEmployeesAmount() + 1);
-
                             Office office = this.officeRepository.findById(officePK)
                                     .orElseThrow(() -> new OfficeNotFoundException(OFFICE_NOT_FOUND.getMessage()));
-                            office.setEmployeesAmount(office.getEmployeesAmount() + 1);
+                            this.officeRepository.incrementEmployeesAmount(officePK.getCorporationId(), officePK.getAddressId(), 1);
+                            if (this.corporationRepository.incrementEmployeesAmount(officePK.getCorporationId(), 1) == 0)
+                                throw new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage());
 
                             UUID identityId = this.handleData(
                                     employeeRequest.getIdentityId(), UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8))
@@ -157,6 +157,58 @@ public final class EmployeeMapper implements EntityMapper<EmployeeRequest, Emplo
 
     @Override
     public EmployeeWithOfficeResponse toResponse(Employee employee) {
+        return this.toResponse(employee, getOffice(employee));
+    }
+
+    public List<EmployeeWithOfficeResponse> toResponses(final List<Employee> employees) {
+        if (employees.isEmpty())
+            return new ArrayList<>();
+
+        Set<UUID> addressIds = new HashSet<>();
+        Set<UUID> corporationIds = new HashSet<>();
+        employees.stream()
+                .map(Employee::getOffice)
+                .filter(Objects::nonNull)
+                .forEach(
+                        office -> {
+                            addressIds.add(office.getOfficePK().getAddressId());
+                            corporationIds.add(office.getOfficePK().getCorporationId());
+                        }
+                );
+
+        Map<UUID, AddressResponse> addresses = addressIds.isEmpty() ? Map.of() :
+                this.addressRepository.findAllById(addressIds)
+                        .stream()
+                        .collect(Collectors.toMap(Address::getId, this::toAddressResponse));
+
+        Map<UUID, CorporationWithoutOfficesResponse> corporations = corporationIds.isEmpty() ? Map.of() :
+                this.corporationRepository.findCorporationsByIdIn(corporationIds)
+                        .stream()
+                        .collect(
+                                Collectors.toMap(
+                                        Corporation::getId, this.corporationMapper::toCorporationWithoutOfficesResponse,
+                                        (first, second) -> first
+                                )
+                        );
+
+        return employees.stream()
+                .map(
+                        employee -> this.toResponse(
+                                employee,
+                                Optional.ofNullable(employee.getOffice())
+                                        .map(
+                                                office -> OfficeWithoutEmployeesResponse.builder()
+                                                        .address(addresses.get(office.getOfficePK().getAddressId()))
+                                                        .corporation(corporations.get(office.getOfficePK().getCorporationId()))
+                                                        .build()
+                                        )
+                                        .orElse(null)
+                        )
+                )
+                .collect(Collectors.toList());
+    }
+
+    private EmployeeWithOfficeResponse toResponse(final Employee employee, final OfficeWithoutEmployeesResponse office) {
         return EmployeeWithOfficeResponse.builder()
                 .id(employee.getId())
                 .identity(
@@ -170,7 +222,7 @@ public final class EmployeeMapper implements EntityMapper<EmployeeRequest, Emplo
                                                 .email(identity.getEmail())
                                                 .phone(identity.getPhone())
                                                 .enabled(identity.getEnabled())
-                                                .image(identity.getImage())
+                                                .image(this.toMediaResponse(identity.getImage()))
                                                 .build()
                                 )
                                 .orElse(null)
@@ -179,7 +231,7 @@ public final class EmployeeMapper implements EntityMapper<EmployeeRequest, Emplo
                 .lastName(employee.getLastName())
                 .patronymic(employee.getPatronymic())
                 .about(employee.getAbout())
-                .address(employee.getAddress())
+                .address(this.toAddressResponse(employee.getAddress()))
                 .position(
                         Optional.ofNullable(employee.getPosition())
                                 .map(
@@ -191,7 +243,7 @@ public final class EmployeeMapper implements EntityMapper<EmployeeRequest, Emplo
                                 )
                                 .orElse(null)
                 )
-                .office(getOffice(employee))
+                .office(office)
                 .build();
     }
 
@@ -202,7 +254,7 @@ public final class EmployeeMapper implements EntityMapper<EmployeeRequest, Emplo
                 .lastName(employee.getLastName())
                 .patronymic(employee.getPatronymic())
                 .about(employee.getAbout())
-                .address(employee.getAddress())
+                .address(this.toAddressResponse(employee.getAddress()))
                 .position(
                         Optional.ofNullable(employee.getPosition())
                                 .map(
@@ -222,7 +274,7 @@ public final class EmployeeMapper implements EntityMapper<EmployeeRequest, Emplo
         return Optional.ofNullable(employee.getOffice())
                 .map(
                         office -> OfficeWithoutEmployeesResponse.builder()
-                                .address(this.addressRepository.findById(office.getOfficePK().getAddressId()).orElse(null))
+                                .address(this.addressRepository.findById(office.getOfficePK().getAddressId()).map(this::toAddressResponse).orElse(null))
                                 .corporation(
                                         this.corporationRepository.findById(office.getOfficePK().getCorporationId())
                                                 .map(this.corporationMapper::toCorporationWithoutOfficesResponse)
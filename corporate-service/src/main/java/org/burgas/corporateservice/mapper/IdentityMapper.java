@@ -1,9 +1,9 @@
 package org.burgas.corporateservice.mapper;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.identity.Authority;
 import org.burgas.corporateservice.dto.identity.IdentityRequest;
 import org.burgas.corporateservice.dto.identity.IdentityWithEmployeeResponse;
-import org.burgas.corporateservice.entity.Authority;
 import org.burgas.corporateservice.entity.Identity;
 import org.burgas.corporateservice.mapper.contract.EntityMapper;
 import org.burgas.corporateservice.repository.IdentityRepository;
@@ -71,7 +71,7 @@ public final class IdentityMapper implements EntityMapper<IdentityRequest, Ident
                                 .map(this.employeeMapper::toEmployeeNoIdentityResponse)
                                 .orElse(null)
                 )
-                .image(identity.getImage())
+                .image(this.toMediaResponse(identity.getImage()))
                 .build();
     }
 }
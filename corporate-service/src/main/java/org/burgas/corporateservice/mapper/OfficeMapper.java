@@ -1,11 +1,11 @@
 package org.burgas.corporateservice.mapper;
 
 import lombok.RequiredArgsConstructor;
-import org.burgas.corporateservice.dto.department.DepartmentWithoutOfficesResponse;
-import org.burgas.corporateservice.dto.employee.EmployeeWithoutOfficeResponse;
-import org.burgas.corporateservice.dto.identity.IdentityWithoutEmployeeResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithoutOfficeResponse;
+import org.burgas.corporatecommon.dto.identity.IdentityWithoutEmployeeResponse;
+import org.burgas.corporatecommon.dto.office.OfficeWithEmployeesResponse;
 import org.burgas.corporateservice.dto.office.OfficeRequest;
-import org.burgas.corporateservice.dto.office.OfficeWithEmployeesResponse;
 import org.burgas.corporateservice.entity.*;
 import org.burgas.corporateservice.exception.CorporationNotFoundException;
 import org.burgas.corporateservice.exception.EntityFieldEmptyException;
@@ -103,10 +103,8 @@ public final class OfficeMapper implements EntityMapper<OfficeRequest, Office, O
                                     this.employeeRepository.findAllById(officeRequest.getEmployeeIds() == null ?
                                             new ArrayList<>() : officeRequest.getEmployeeIds());
 
-                            Corporation corporation = this.corporationRepository.findById(build.getCorporationId())
-                                    .orElseThrow(() -> new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage()));
-                            corporation.setOfficesAmount(corporation.getOfficesAmount() + 1);
-                            this.corporationRepository.save(corporation);
+                            if (this.corporationRepository.incrementOfficesAmount(build.getCorporationId(), 1) == 0)
+                                throw new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage());
 
                             return Office.builder()
                                     .officePK(build)
@@ -122,11 +120,11 @@ public final class OfficeMapper implements EntityMapper<OfficeRequest, Office, O
     public OfficeWithEmployeesResponse toResponse(Office office) {
         return OfficeWithEmployeesResponse.builder()
                 .corporation(
-                        this.corporationRepository.findById(office.getOfficePK().getCorporationId())
+                        this.corporationRepository.findCorporationById(office.getOfficePK().getCorporationId())
                                 .map(this.corporationMapper::toResponse)
                                 .orElse(null)
                 )
-                .address(this.addressRepository.findById(office.getOfficePK().getAddressId()).orElse(null))
+                .address(this.addressRepository.findById(office.getOfficePK().getAddressId()).map(this::toAddressResponse).orElse(null))
                 .employees(
                         this.employeeRepository.findEmployeesByOffice(office)
                                 .stream()
@@ -144,7 +142,7 @@ public final class OfficeMapper implements EntityMapper<OfficeRequest, Office, O
                                                                                 .email(identity.getEmail())
                                                                                 .phone(identity.getPhone())
                                                                                 .enabled(identity.getEnabled())
-                                                                                .image(identity.getImage())
+                                                                                .image(this.toMediaResponse(identity.getImage()))
                                                                                 .build()
                                                                 )
                                                                 .orElse(null)
@@ -153,7 +151,7 @@ public final class OfficeMapper implements EntityMapper<OfficeRequest, Office, O
                                                 .lastName(employee.getLastName())
                                                 .patronymic(employee.getPatronymic())
                                                 .about(employee.getAbout())
-                                                .address(employee.getAddress())
+                                                .address(this.toAddressResponse(employee.getAddress()))
                                                 .build()
                                 )
                                 .toList()
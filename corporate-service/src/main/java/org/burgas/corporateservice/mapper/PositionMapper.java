@@ -1,11 +1,11 @@
 package org.burgas.corporateservice.mapper;
 
 import lombok.RequiredArgsConstructor;
-import org.burgas.corporateservice.dto.department.DepartmentWithoutOfficesResponse;
-import org.burgas.corporateservice.dto.employee.EmployeeWithoutOfficeResponse;
-import org.burgas.corporateservice.dto.identity.IdentityWithoutEmployeeResponse;
+import org.burgas.corporatecommon.dto.department.DepartmentWithoutOfficesResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithoutOfficeResponse;
+import org.burgas.corporatecommon.dto.identity.IdentityWithoutEmployeeResponse;
+import org.burgas.corporatecommon.dto.position.PositionWithEmployeeResponse;
 import org.burgas.corporateservice.dto.position.PositionRequest;
-import org.burgas.corporateservice.dto.position.PositionWithEmployeeResponse;
 import org.burgas.corporateservice.entity.Department;
 import org.burgas.corporateservice.entity.Position;
 import org.burgas.corporateservice.mapper.contract.EntityMapper;
@@ -104,7 +104,7 @@ public final class PositionMapper implements EntityMapper<PositionRequest, Posit
                                                                                 .email(identity.getEmail())
                                                                                 .phone(identity.getPhone())
                                                                                 .enabled(identity.getEnabled())
-                                                                                .image(identity.getImage())
+                                                                                .image(this.toMediaResponse(identity.getImage()))
                                                                                 .build()
                                                                 )
                                                                 .orElse(null)
@@ -113,7 +113,7 @@ public final class PositionMapper implements EntityMapper<PositionRequest, Posit
                                                 .lastName(employee.getLastName())
                                                 .patronymic(employee.getPatronymic())
                                                 .about(employee.getAbout())
-                                                .address(employee.getAddress())
+                                                .address(this.toAddressResponse(employee.getAddress()))
                                                 .build()
                                 )
                                 .orElse(null)
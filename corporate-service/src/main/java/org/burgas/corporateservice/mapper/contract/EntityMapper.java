@@ -1,8 +1,12 @@
 package org.burgas.corporateservice.mapper.contract;
 
+import org.burgas.corporatecommon.dto.Response;
+import org.burgas.corporatecommon.dto.address.AddressResponse;
+import org.burgas.corporatecommon.dto.media.MediaResponse;
 import org.burgas.corporateservice.dto.Request;
-import org.burgas.corporateservice.dto.Response;
 import org.burgas.corporateservice.entity.AbstractEntity;
+import org.burgas.corporateservice.entity.Address;
+import org.burgas.corporateservice.entity.Media;
 import org.burgas.corporateservice.exception.EntityFieldEmptyException;
 import org.springframework.stereotype.Component;
 
@@ -19,6 +23,31 @@ public interface EntityMapper<T extends Request, S extends AbstractEntity, V ext
         return requestData;
     }
 
+    default AddressResponse toAddressResponse(final Address address) {
+        return address == null ? null :
+                AddressResponse.builder()
+                        .id(address.getId())
+                        .country(address.getCountry())
+                        .city(address.getCity())
+                        .street(address.getStreet())
+                        .house(address.getHouse())
+                        .apartment(address.getApartment())
+                        .build();
+    }
+
+    default MediaResponse toMediaResponse(final Media media) {
+        return media == null ? null :
+                MediaResponse.builder()
+                        .id(media.getId())
+                        .name(media.getName())
+                        .contentType(media.getContentType())
+                        .format(media.getFormat())
+                        .size(media.getSize())
+                        .etag(media.getEtag())
+                        .updatedAt(media.getUpdatedAt())
+                        .build();
+    }
+
     S toEntity(T t);
 
     V toResponse(S s);
@@ -21,7 +21,15 @@ public enum EmployeeMessages {
     EMPLOYEE_OFFICE_FIELD_EMPTY("Employee office field is empty"),
     EMPLOYEE_OFFICE_ID_EMPTY("Employee office id is empty"),
     EMPLOYEE_OFFICE_CORPORATION_FIELD_EMPTY("Employee office corporation field is empty"),
-    EMPLOYEE_OFFICE_ADDRESS_FIELD_EMPTY("Employee office address field is empty");
+    EMPLOYEE_OFFICE_ADDRESS_FIELD_EMPTY("Employee office address field is empty"),
+    EMPLOYEE_IMPORT_WRONG_FORMAT("Employee import supports only application/x-ndjson and text/csv"),
+    EMPLOYEE_IMPORT_MALFORMED_ROW("Employee import row is malformed"),
+    EMPLOYEE_IMPORT_IDENTITY_NOT_FOUND("Employee identity not found"),
+    EMPLOYEE_IMPORT_IDENTITY_ALREADY_EMPLOYEE("Employee identity already belongs to an employee"),
+    EMPLOYEE_IMPORT_POSITION_NOT_FOUND("Employee position not found in corporation"),
+    EMPLOYEE_IMPORT_POSITION_OCCUPIED("Employee position already belongs to an employee"),
+    EMPLOYEE_IMPORT_OFFICE_NOT_FOUND("Employee office not found in corporation"),
+    EMPLOYEE_IMPORT_ABOUT_NOT_UNIQUE("Employee about field is not unique");
 
     private final String message;
 
@@ -5,7 +5,10 @@ import lombok.Getter;
 @Getter
 public enum MediaMessages {
 
-    MEDIA_NOT_FOUND("Media not found");
+    MEDIA_NOT_FOUND("Media not found"),
+    MEDIA_CHANGED_WHILE_READING("Media changed while reading"),
+    MEDIA_RANGE_NOT_SATISFIABLE("Media range not satisfiable"),
+    WRONG_MEDIA_VARIANT("Wrong media variant");
 
     private final String message;
 
@@ -0,0 +1,44 @@
+package org.burgas.corporateservice.metrics;
+
+import lombok.Getter;
+
+@Getter
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entityLoads;
+    private long connectionAcquisitions;
+    private long connectionAcquisitionNanos;
+
+    public static RequestMetrics begin() {
+        RequestMetrics requestMetrics = new RequestMetrics();
+        CURRENT.set(requestMetrics);
+        return requestMetrics;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static void statementPrepared() {
+        RequestMetrics requestMetrics = CURRENT.get();
+        if (requestMetrics != null)
+            requestMetrics.statements++;
+    }
+
+    public static void entityLoaded() {
+        RequestMetrics requestMetrics = CURRENT.get();
+        if (requestMetrics != null)
+            requestMetrics.entityLoads++;
+    }
+
+    public static void connectionAcquired(final long nanos) {
+        RequestMetrics requestMetrics = CURRENT.get();
+        if (requestMetrics != null) {
+            requestMetrics.connectionAcquisitions++;
+            requestMetrics.connectionAcquisitionNanos += nanos;
+        }
+    }
+}
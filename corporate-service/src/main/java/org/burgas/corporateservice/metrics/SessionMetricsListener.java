@@ -0,0 +1,23 @@
+package org.burgas.corporateservice.metrics;
+
+import org.hibernate.SessionEventListener;
+
+public class SessionMetricsListener implements SessionEventListener {
+
+    private long connectionAcquisitionStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        this.connectionAcquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestMetrics.connectionAcquired(System.nanoTime() - this.connectionAcquisitionStart);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        RequestMetrics.statementPrepared();
+    }
+}
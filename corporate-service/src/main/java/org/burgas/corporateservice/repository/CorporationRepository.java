@@ -1,13 +1,17 @@
 package org.burgas.corporateservice.repository;
 
+import jakarta.persistence.QueryHint;
 import org.burgas.corporateservice.entity.Corporation;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,12 +20,67 @@ import java.util.UUID;
 public interface CorporationRepository extends JpaRepository<Corporation, UUID> {
 
     @Override
-    @Query(value = "select c from org.burgas.corporateservice.entity.Corporation c join fetch c.departments")
+    @Query(
+            value = """
+                    select c from org.burgas.corporateservice.entity.Corporation c
+                    left join fetch c.image
+                    join fetch c.departments
+                    """
+    )
     @NotNull List<Corporation> findAll();
 
-    @Override
     @EntityGraph(value = "corporation-entity-graph", type = EntityGraph.EntityGraphType.LOAD)
-    @NotNull Optional<Corporation> findById(@NotNull UUID uuid);
+    Optional<Corporation> findCorporationById(final UUID corporationId);
+
+    @Query(
+            value = """
+                    select c from org.burgas.corporateservice.entity.Corporation c
+                    left join fetch c.image
+                    left join fetch c.departments
+                    where c.id in :corporationIds
+                    """
+    )
+    List<Corporation> findCorporationsByIdIn(final Collection<UUID> corporationIds);
+
+    @Query(
+            nativeQuery = true,
+            value = "select unnest(c.directors) from corporation c where c.id = :corporationId"
+    )
+    List<UUID> findDirectorsByCorporationId(final UUID corporationId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "public.corporation"))
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = "update corporation c set employees_amount = c.employees_amount + :delta where c.id = :corporationId"
+    )
+    int incrementEmployeesAmount(final UUID corporationId, final long delta);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "public.corporation"))
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = "update corporation c set offices_amount = c.offices_amount + :delta where c.id = :corporationId"
+    )
+    int incrementOfficesAmount(final UUID corporationId, final long delta);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "public.corporation"))
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    update corporation c set offices_amount = counts.offices_amount, employees_amount = counts.employees_amount
+                    from (
+                        select c.id,
+                               (select count(*) from office o where o.corporation_id = c.id) as offices_amount,
+                               (select count(*) from employee e where e.office_corporation_id = c.id) as employees_amount
+                        from corporation c
+                    ) counts
+                    where c.id = counts.id
+                    and (c.offices_amount <> counts.offices_amount or c.employees_amount <> counts.employees_amount)
+                    """
+    )
+    int reconcileAmounts();
 
     @Modifying
     @Query(
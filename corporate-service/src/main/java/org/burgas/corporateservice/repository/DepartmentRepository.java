@@ -21,6 +21,25 @@ public interface DepartmentRepository extends JpaRepository<Department, UUID> {
     )
     List<Department> findDepartmentsByCorporationId(final UUID corporationId);
 
+    @Query(
+            nativeQuery = true,
+            value = "select d.corporation_id from department d where d.id = :departmentId"
+    )
+    Optional<UUID> findCorporationIdByDepartmentId(final UUID departmentId);
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select exists(
+                        select 1 from office_department od
+                        join employee e on e.office_corporation_id = od.office_corporation_id and e.office_address_id = od.office_address_id
+                        where od.department_id = d.id and e.identity_id = :identityId
+                    )
+                    from department d where d.id = :departmentId
+                    """
+    )
+    Optional<Boolean> findDepartmentEmployeeByIdentityId(final UUID departmentId, final UUID identityId);
+
     @Override
     @EntityGraph(value = "department-entity-graph", type = EntityGraph.EntityGraphType.LOAD)
     @NotNull Optional<Department> findById(@NotNull UUID uuid);
@@ -0,0 +1,11 @@
+package org.burgas.corporateservice.repository;
+
+import org.burgas.corporateservice.dto.employee.EmployeeRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface EmployeeBatchRepository {
+
+    void insertEmployees(final UUID corporationId, final List<EmployeeRequest> employeeRequests);
+}
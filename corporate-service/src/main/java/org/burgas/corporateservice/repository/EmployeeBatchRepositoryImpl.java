@@ -0,0 +1,69 @@
+package org.burgas.corporateservice.repository;
+
+import org.burgas.corporateservice.dto.employee.EmployeeRequest;
+import org.burgas.corporateservice.entity.Address;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class EmployeeBatchRepositoryImpl implements EmployeeBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public EmployeeBatchRepositoryImpl(
+            JdbcTemplate jdbcTemplate, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    private record Row(UUID employeeId, UUID addressId, EmployeeRequest employeeRequest) {
+    }
+
+    @Override
+    public void insertEmployees(final UUID corporationId, final List<EmployeeRequest> employeeRequests) {
+        List<Row> rows = new ArrayList<>(employeeRequests.size());
+        employeeRequests.forEach(employeeRequest -> rows.add(new Row(UUID.randomUUID(), UUID.randomUUID(), employeeRequest)));
+
+        this.jdbcTemplate.batchUpdate(
+                "insert into address (id, country, city, street, house, apartment) values (?, ?, ?, ?, ?, ?)",
+                rows, this.batchSize,
+                (preparedStatement, row) -> {
+                    Address address = row.employeeRequest().getAddress();
+                    preparedStatement.setObject(1, row.addressId());
+                    preparedStatement.setString(2, address.getCountry());
+                    preparedStatement.setString(3, address.getCity());
+                    preparedStatement.setString(4, address.getStreet());
+                    preparedStatement.setString(5, address.getHouse());
+                    preparedStatement.setString(6, address.getApartment());
+                }
+        );
+        this.jdbcTemplate.batchUpdate(
+                """
+                        insert into employee (
+                            id, identity_id, first_name, last_name, patronymic, about,
+                            address_id, office_corporation_id, office_address_id, position_id
+                        )
+                        values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                rows, this.batchSize,
+                (preparedStatement, row) -> {
+                    EmployeeRequest employeeRequest = row.employeeRequest();
+                    preparedStatement.setObject(1, row.employeeId());
+                    preparedStatement.setObject(2, employeeRequest.getIdentityId());
+                    preparedStatement.setString(3, employeeRequest.getFirstName());
+                    preparedStatement.setString(4, employeeRequest.getLastName());
+                    preparedStatement.setString(5, employeeRequest.getPatronymic());
+                    preparedStatement.setString(6, employeeRequest.getAbout());
+                    preparedStatement.setObject(7, row.addressId());
+                    preparedStatement.setObject(8, corporationId);
+                    preparedStatement.setObject(9, employeeRequest.getOffice().getAddressId());
+                    preparedStatement.setObject(10, employeeRequest.getPositionId());
+                }
+        );
+    }
+}
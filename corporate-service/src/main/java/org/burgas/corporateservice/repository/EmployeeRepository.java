@@ -3,30 +3,67 @@ package org.burgas.corporateservice.repository;
 import org.burgas.corporateservice.entity.Employee;
 import org.burgas.corporateservice.entity.Office;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
+public interface EmployeeRepository extends JpaRepository<Employee, UUID>, EmployeeBatchRepository {
 
+    @EntityGraph(value = "employee-entity-graph", type = EntityGraph.EntityGraphType.FETCH)
     @Query(
-            nativeQuery = true,
             value = """
-                    select e.* from employee e
-                    join public.office o on o.corporation_id = e.office_corporation_id and o.address_id = e.office_address_id
-                    join public.corporation c on c.id = o.corporation_id
-                    where c.id = :corporationId
+                    select e from Employee e
+                    where e.office.officePK.corporationId = :corporationId
                     """
     )
     List<Employee> findEmployeesByCorporationId(final UUID corporationId);
 
+    @EntityGraph(value = "employee-entity-graph", type = EntityGraph.EntityGraphType.FETCH)
+    @Query(
+            value = """
+                    select e from Employee e
+                    where e.office.officePK.corporationId = :corporationId and e.id > :cursor
+                    order by e.id
+                    """
+    )
+    List<Employee> findEmployeesByCorporationIdAfter(final UUID corporationId, final UUID cursor, final Limit limit);
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select e.identity_id from employee e
+                    where e.office_corporation_id = :corporationId and e.identity_id is not null
+                    """
+    )
+    List<UUID> findIdentityIdsByCorporationId(final UUID corporationId);
+
+    @Query(
+            nativeQuery = true,
+            value = "select e.identity_id from employee e where e.identity_id in (:identityIds)"
+    )
+    List<UUID> findIdentityIdsByIdentityIdIn(final Collection<UUID> identityIds);
+
+    @Query(
+            nativeQuery = true,
+            value = "select e.about from employee e where e.about in (:abouts)"
+    )
+    List<String> findAboutsByAboutIn(final Collection<String> abouts);
+
+    @Query(
+            nativeQuery = true,
+            value = "select e.position_id from employee e where e.position_id in (:positionIds)"
+    )
+    List<UUID> findPositionIdsByPositionIdIn(final Collection<UUID> positionIds);
+
     @EntityGraph(value = "employee-entity-graph", type = EntityGraph.EntityGraphType.FETCH)
     List<Employee> findEmployeesByOffice(Office office);
 
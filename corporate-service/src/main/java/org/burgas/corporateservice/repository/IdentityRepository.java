@@ -1,5 +1,6 @@
 package org.burgas.corporateservice.repository;
 
+import org.burgas.corporatecommon.identity.IdentityCredentials;
 import org.burgas.corporateservice.entity.Identity;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,8 +25,24 @@ public interface IdentityRepository extends JpaRepository<Identity, UUID> {
     @EntityGraph(value = "identity-entity-graph", type = EntityGraph.EntityGraphType.FETCH)
     @NotNull Optional<Identity> findById(@NotNull UUID uuid);
 
-    @EntityGraph(value = "identity-entity-graph", type = EntityGraph.EntityGraphType.FETCH)
-    Optional<Identity> findIdentityByEmail(String email);
+    @Query(
+            value = """
+                    select new org.burgas.corporatecommon.identity.IdentityCredentials(
+                        i.id, i.email, i.password, i.authority, i.enabled, e.id, o.officePK.corporationId
+                    )
+                    from org.burgas.corporateservice.entity.Identity i
+                    left join i.employee e
+                    left join e.office o
+                    where i.email = :email
+                    """
+    )
+    Optional<IdentityCredentials> findIdentityCredentialsByEmail(final String email);
+
+    @Query(
+            nativeQuery = true,
+            value = "select i.id from identity i where i.id in (:identityIds)"
+    )
+    List<UUID> findIdentityIdsByIdIn(final Collection<UUID> identityIds);
 
     @Modifying
     @Query(
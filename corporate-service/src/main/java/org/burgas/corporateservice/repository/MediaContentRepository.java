@@ -0,0 +1,12 @@
+package org.burgas.corporateservice.repository;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface MediaContentRepository {
+
+    String writeData(final UUID mediaId, final InputStream inputStream, final long size);
+
+    boolean readData(final UUID mediaId, final String etag, final long offset, final long length, final OutputStream outputStream);
+}
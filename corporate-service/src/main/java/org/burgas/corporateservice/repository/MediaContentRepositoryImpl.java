@@ -0,0 +1,65 @@
+package org.burgas.corporateservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class MediaContentRepositoryImpl implements MediaContentRepository {
+
+    private static final int CHUNK_SIZE = 256 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @SneakyThrows
+    public String writeData(final UUID mediaId, final InputStream inputStream, final long size) {
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Media size exceeds " + Integer.MAX_VALUE + " bytes");
+
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, messageDigest)) {
+            this.jdbcTemplate.update(
+                    "update media set data = ? where id = ?",
+                    preparedStatement -> {
+                        preparedStatement.setBinaryStream(1, digestInputStream, (int) size);
+                        preparedStatement.setObject(2, mediaId);
+                    }
+            );
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean readData(final UUID mediaId, final String etag, final long offset, final long length, final OutputStream outputStream) {
+        long position = offset;
+        long remaining = length;
+
+        while (remaining > 0) {
+            int chunkSize = (int) Math.min(CHUNK_SIZE, remaining);
+            List<byte[]> chunks = this.jdbcTemplate.query(
+                    "select substring(data from ? for ?) from media where id = ? and etag = ?",
+                    (resultSet, rowNum) -> resultSet.getBytes(1),
+                    (int) position + 1, chunkSize, mediaId, etag
+            );
+            if (chunks.isEmpty() || chunks.get(0) == null || chunks.get(0).length == 0)
+                return false;
+
+            byte[] chunk = chunks.get(0);
+            outputStream.write(chunk);
+            position += chunk.length;
+            remaining -= chunk.length;
+        }
+        outputStream.flush();
+        return true;
+    }
+}
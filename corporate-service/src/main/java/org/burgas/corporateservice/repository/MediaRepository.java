@@ -1,11 +1,87 @@
 package org.burgas.corporateservice.repository;
 
+import jakarta.persistence.QueryHint;
 import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporateservice.entity.MediaStorageType;
+import org.burgas.corporateservice.entity.MediaVariant;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface MediaRepository extends JpaRepository<Media, UUID> {
+public interface MediaRepository extends JpaRepository<Media, UUID>, MediaContentRepository {
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select m.* from media m
+                    where m.storage = :storage and m.id > :cursor
+                    order by m.id
+                    limit :limit
+                    """
+    )
+    List<Media> findMediaByStorageAfter(final String storage, final UUID cursor, final int limit);
+
+    Optional<Media> findMediaByParentIdAndVariant(final UUID parentId, final MediaVariant variant);
+
+    List<Media> findMediaByParentId(final UUID parentId);
+
+    boolean existsMediaByStorageAndStorageKey(final MediaStorageType storage, final String storageKey);
+
+    @Query(
+            value = """
+                    select distinct m.storageKey from org.burgas.corporateservice.entity.Media m
+                    where m.storage = :storage and m.storageKey in :storageKeys
+                    """
+    )
+    List<String> findStorageKeysByStorageAndStorageKeyIn(final MediaStorageType storage, final Collection<String> storageKeys);
+
+    @Modifying
+    @Query(
+            value = """
+                    update org.burgas.corporateservice.entity.Media m
+                    set m.storage = :storage, m.storageKey = :storageKey, m.etag = :etag, m.updatedAt = :updatedAt
+                    where m.id = :mediaId
+                    """
+    )
+    void updateContent(
+            final UUID mediaId, final MediaStorageType storage, final String storageKey, final String etag, final Instant updatedAt
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "public.media"))
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = "update media m set data = null where m.id = :mediaId and m.storage <> 'DATABASE'"
+    )
+    void deleteUnreferencedData(final UUID mediaId);
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select m.id from media m
+                    where m.parent_id is null and m.variants_etag is distinct from m.etag
+                    and m.content_type like 'image/%' and m.updated_at < :before
+                    order by m.updated_at
+                    limit :limit
+                    """
+    )
+    List<UUID> findMediaIdsWithoutVariants(final Instant before, final int limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "public.media"))
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = "update media m set variants_etag = :etag where m.id = :mediaId and m.etag = :etag"
+    )
+    void updateVariantsEtag(final UUID mediaId, final String etag);
 }
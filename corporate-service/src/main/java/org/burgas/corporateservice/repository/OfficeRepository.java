@@ -1,12 +1,15 @@
 package org.burgas.corporateservice.repository;
 
+import jakarta.persistence.QueryHint;
 import org.burgas.corporateservice.entity.Office;
 import org.burgas.corporateservice.entity.OfficePK;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -26,6 +29,39 @@ public interface OfficeRepository extends JpaRepository<Office, OfficePK> {
     )
     List<Office> findOfficesByCorporationId(final UUID corporationId);
 
+    @Query(
+            nativeQuery = true,
+            value = "select o.address_id from office o where o.corporation_id = :corporationId"
+    )
+    List<UUID> findAddressIdsByCorporationId(final UUID corporationId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "public.office"))
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    update office o set employees_amount = o.employees_amount + :delta
+                    where o.corporation_id = :corporationId and o.address_id = :addressId
+                    """
+    )
+    int incrementEmployeesAmount(final UUID corporationId, final UUID addressId, final long delta);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "public.office"))
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    update office o set employees_amount = counts.amount
+                    from (
+                        select o.corporation_id, o.address_id, count(e.id) as amount from office o
+                        left join employee e on e.office_corporation_id = o.corporation_id and e.office_address_id = o.address_id
+                        group by o.corporation_id, o.address_id
+                    ) counts
+                    where o.corporation_id = counts.corporation_id and o.address_id = counts.address_id
+                    and o.employees_amount <> counts.amount
+                    """
+    )
+    int reconcileEmployeesAmount();
 
     @Modifying
     @Query(
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +31,26 @@ public interface PositionRepository extends JpaRepository<Position, UUID> {
     )
     List<Position> findPositionsByCorporationId(final UUID corporationId);
 
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select d.corporation_id from position p
+                        join public.department d on d.id = p.department_id
+                        where p.id = :positionId
+                    """
+    )
+    Optional<UUID> findCorporationIdByPositionId(final UUID positionId);
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                    select p.id from position p
+                        join public.department d on d.id = p.department_id
+                        where d.corporation_id = :corporationId and p.id in (:positionIds)
+                    """
+    )
+    List<UUID> findPositionIdsByCorporationIdAndIdIn(final UUID corporationId, final Collection<UUID> positionIds);
+
     @Override
     @EntityGraph(value = "position-entity-graph", type = EntityGraph.EntityGraphType.LOAD)
     @NotNull Optional<Position> findById(@NotNull UUID uuid);
@@ -0,0 +1,39 @@
+package org.burgas.corporateservice.router;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporateservice.service.CacheStatisticsService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+@Configuration
+@RequiredArgsConstructor
+public class CacheRouter {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Bean
+    public RouterFunction<ServerResponse> cacheRoutes() {
+        return RouterFunctions.route()
+                .GET(
+                        "/api/v1/cache/statistics", request ->
+                                ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .body(this.cacheStatisticsService.findAll())
+                )
+                .DELETE(
+                        "/api/v1/cache/statistics", request -> {
+                            this.cacheStatisticsService.clear();
+                            return ServerResponse
+                                    .status(HttpStatus.NO_CONTENT)
+                                    .build();
+                        }
+                )
+                .build();
+    }
+}
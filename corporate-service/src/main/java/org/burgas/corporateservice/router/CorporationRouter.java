@@ -1,12 +1,14 @@
 package org.burgas.corporateservice.router;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporateservice.config.PublicCacheProperties;
 import org.burgas.corporateservice.dto.corporation.CorporationRequest;
 import org.burgas.corporateservice.exception.CorporationNotFoundException;
 import org.burgas.corporateservice.exception.EmptyDirectorIdException;
 import org.burgas.corporateservice.exception.MediaNotFoundException;
 import org.burgas.corporateservice.exception.WrongDirectorIdException;
 import org.burgas.corporateservice.filter.CorporationFilterFunction;
+import org.burgas.corporateservice.service.CorporationCatalogService;
 import org.burgas.corporateservice.service.CorporationService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,24 +27,34 @@ import java.util.UUID;
 public class CorporationRouter {
 
     private final CorporationService corporationService;
+    private final CorporationCatalogService corporationCatalogService;
     private final CorporationFilterFunction corporationFilterFunction;
+    private final PublicCacheProperties publicCacheProperties;
 
     @Bean
     public RouterFunction<ServerResponse> corporationRoutes() {
         return RouterFunctions.route()
                 .filter(this.corporationFilterFunction)
                 .GET(
-                        "/api/v1/corporations", request ->
-                                ServerResponse
-                                        .status(HttpStatus.OK)
-                                        .contentType(MediaType.APPLICATION_JSON)
-                                        .body(this.corporationService.findAll())
+                        "/api/v1/corporations", request -> {
+                            CorporationCatalogService.Snapshot snapshot = this.corporationCatalogService.findSnapshot();
+                            return request.checkNotModified(snapshot.etag())
+                                    .orElseGet(
+                                            () -> ServerResponse
+                                                    .status(HttpStatus.OK)
+                                                    .contentType(MediaType.APPLICATION_JSON)
+                                                    .eTag(snapshot.etag())
+                                                    .cacheControl(this.publicCacheProperties.cacheControl())
+                                                    .body(snapshot.body())
+                                    );
+                        }
                 )
                 .GET(
                         "/api/v1/corporations/by-id", request ->
                                 ServerResponse
                                         .status(HttpStatus.OK)
                                         .contentType(MediaType.APPLICATION_JSON)
+                                        .cacheControl(this.publicCacheProperties.cacheControl())
                                         .body(
                                                 this.corporationService.findById(
                                                         UUID.fromString(request.param("corporationId").orElseThrow())
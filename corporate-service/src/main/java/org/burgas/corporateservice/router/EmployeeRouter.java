@@ -1,12 +1,16 @@
 package org.burgas.corporateservice.router;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.burgas.corporateservice.dto.employee.EmployeeRequest;
 import org.burgas.corporateservice.entity.OfficePK;
 import org.burgas.corporateservice.exception.EmployeeNotFoundException;
 import org.burgas.corporateservice.exception.EmployeeOfficeMatchesException;
+import org.burgas.corporateservice.exception.CorporationNotFoundException;
 import org.burgas.corporateservice.exception.EntityFieldEmptyException;
+import org.burgas.corporateservice.exception.WrongImportFormatException;
 import org.burgas.corporateservice.filter.EmployeeFilterFunction;
+import org.burgas.corporateservice.service.EmployeeImportService;
 import org.burgas.corporateservice.service.EmployeeServiceImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +21,9 @@ import org.springframework.web.servlet.function.RouterFunction;
 import org.springframework.web.servlet.function.RouterFunctions;
 import org.springframework.web.servlet.function.ServerResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
@@ -25,22 +32,52 @@ import java.util.UUID;
 public class EmployeeRouter {
 
     private final EmployeeServiceImpl employeeService;
+    private final EmployeeImportService employeeImportService;
     private final EmployeeFilterFunction employeeFilterFunction;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public RouterFunction<ServerResponse> employeeRoutes() {
         return RouterFunctions.route()
                 .filter(this.employeeFilterFunction)
                 .GET(
-                        "/api/v1/employees/by-corporation", request ->
-                                ServerResponse
+                        "/api/v1/employees/by-corporation", request -> {
+                            UUID corporationId = UUID.fromString(request.param("corporationId").orElseThrow());
+
+                            if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+                                return ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.APPLICATION_NDJSON)
+                                        .build(
+                                                (servletRequest, servletResponse) -> {
+                                                    OutputStream outputStream = servletResponse.getOutputStream();
+                                                    this.employeeService.streamByCorporationId(
+                                                            corporationId, employee -> this.writeLine(outputStream, employee)
+                                                    );
+                                                    outputStream.flush();
+                                                    return null;
+                                                }
+                                        );
+
+                            } else if (request.param("cursor").isPresent() || request.param("limit").isPresent()) {
+                                return ServerResponse
                                         .status(HttpStatus.OK)
                                         .contentType(MediaType.APPLICATION_JSON)
                                         .body(
                                                 this.employeeService.findByCorporationId(
-                                                        UUID.fromString(request.param("corporationId").orElseThrow())
+                                                        corporationId,
+                                                        request.param("cursor").filter(cursor -> !cursor.isBlank()).map(UUID::fromString).orElse(null),
+                                                        request.param("limit").map(Integer::valueOf).orElse(null)
                                                 )
-                                        )
+                                        );
+
+                            } else {
+                                return ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .body(this.employeeService.findByCorporationId(corporationId));
+                            }
+                        }
                 )
                 .GET(
                         "/api/v1/employees/by-office", request ->
@@ -105,6 +142,19 @@ public class EmployeeRouter {
                                                 )
                                         )
                 )
+                .POST(
+                        "/api/v1/employees/import", request ->
+                                ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .body(
+                                                this.employeeImportService.importEmployees(
+                                                        UUID.fromString(request.param("corporationId").orElseThrow()),
+                                                        request.headers().contentType().orElse(MediaType.APPLICATION_OCTET_STREAM),
+                                                        request.servletRequest().getInputStream()
+                                                )
+                                        )
+                )
                 .onError(
                         DataIntegrityViolationException.class, (throwable, serverRequest) ->
                                 ServerResponse
@@ -133,6 +183,30 @@ public class EmployeeRouter {
                                         .contentType(MediaType.APPLICATION_JSON)
                                         .body(throwable.getMessage())
                 )
+                .onError(
+                        CorporationNotFoundException.class, (throwable, serverRequest) ->
+                                ServerResponse
+                                        .status(HttpStatus.NOT_ACCEPTABLE)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .body(throwable.getMessage())
+                )
+                .onError(
+                        WrongImportFormatException.class, (throwable, serverRequest) ->
+                                ServerResponse
+                                        .status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .body(throwable.getMessage())
+                )
                 .build();
     }
+
+    private void writeLine(final OutputStream outputStream, final Object value) {
+        try {
+            outputStream.write(this.objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
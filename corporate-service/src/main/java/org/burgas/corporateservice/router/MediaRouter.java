@@ -2,19 +2,30 @@ package org.burgas.corporateservice.router;
 
 import lombok.RequiredArgsConstructor;
 import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporateservice.entity.MediaVariant;
 import org.burgas.corporateservice.exception.MediaNotFoundException;
+import org.burgas.corporateservice.exception.WrongMediaVariantException;
 import org.burgas.corporateservice.service.MediaService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.servlet.function.RouterFunction;
 import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
 import org.springframework.web.servlet.function.ServerResponse;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.burgas.corporateservice.message.MediaMessages.MEDIA_RANGE_NOT_SATISFIABLE;
+import static org.burgas.corporateservice.message.MediaMessages.WRONG_MEDIA_VARIANT;
+
 @Configuration
 @RequiredArgsConstructor
 public class MediaRouter {
@@ -26,11 +37,65 @@ public class MediaRouter {
         return RouterFunctions.route()
                 .GET(
                         "/api/v1/media/by-id", request -> {
-                            Media media = this.mediaService.findById(UUID.fromString(request.param("mediaId").orElseThrow()));
+                            MediaVariant variant = request.param("variant")
+                                    .map(
+                                            name -> Arrays.stream(MediaVariant.values())
+                                                    .filter(mediaVariant -> mediaVariant.name().equalsIgnoreCase(name))
+                                                    .findFirst()
+                                                    .orElseThrow(() -> new WrongMediaVariantException(WRONG_MEDIA_VARIANT.getMessage()))
+                                    )
+                                    .orElse(null);
+                            Media media = this.mediaService.findVariant(
+                                    UUID.fromString(request.param("mediaId").orElseThrow()), variant
+                            );
+                            String eTag = "\"" + media.getEtag() + "\"";
+
+                            Optional<ServerResponse> notModified = request.checkNotModified(media.getUpdatedAt(), eTag);
+                            if (notModified.isPresent())
+                                return notModified.get();
+
+                            long size = media.getSize();
+                            HttpRange range = this.findRange(request, eTag);
+                            if (range == null) {
+                                return ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.parseMediaType(media.getContentType()))
+                                        .contentLength(size)
+                                        .eTag(eTag)
+                                        .lastModified(media.getUpdatedAt())
+                                        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                                        .build(
+                                                (servletRequest, servletResponse) -> {
+                                                    this.mediaService.transferTo(media, 0, size, servletResponse.getOutputStream());
+                                                    return null;
+                                                }
+                                        );
+                            }
+
+                            long start = size == 0 ? 0 : this.rangeStart(range, size);
+                            long end = size == 0 ? -1 : range.getRangeEnd(size);
+                            if (start < 0 || start > end) {
+                                return ServerResponse
+                                        .status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                                        .body(MEDIA_RANGE_NOT_SATISFIABLE.getMessage());
+                            }
+
                             return ServerResponse
-                                    .status(HttpStatus.OK)
+                                    .status(HttpStatus.PARTIAL_CONTENT)
                                     .contentType(MediaType.parseMediaType(media.getContentType()))
-                                    .body(media);
+                                    .contentLength(end - start + 1)
+                                    .eTag(eTag)
+                                    .lastModified(media.getUpdatedAt())
+                                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                                    .build(
+                                            (servletRequest, servletResponse) -> {
+                                                this.mediaService.transferTo(media, start, end - start + 1, servletResponse.getOutputStream());
+                                                return null;
+                                            }
+                                    );
                         }
                 )
                 .onError(
@@ -40,6 +105,13 @@ public class MediaRouter {
                                         .contentType(MediaType.APPLICATION_JSON)
                                         .body(throwable.getMessage())
                 )
+                .onError(
+                        WrongMediaVariantException.class, (throwable, serverRequest) ->
+                                ServerResponse
+                                        .status(HttpStatus.BAD_REQUEST)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .body(throwable.getMessage())
+                )
                 .onError(
                         MediaNotFoundException.class, (throwable, serverRequest) ->
                                 ServerResponse
@@ -49,4 +121,29 @@ public class MediaRouter {
                 )
                 .build();
     }
+
+    private HttpRange findRange(final ServerRequest request, final String eTag) {
+        List<HttpRange> ranges;
+        try {
+            ranges = request.headers().range();
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+        if (ranges.size() != 1)
+            return null;
+
+        String ifRange = request.headers().firstHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag))
+            return null;
+
+        return ranges.get(0);
+    }
+
+    private long rangeStart(final HttpRange range, final long size) {
+        try {
+            return range.getRangeStart(size);
+        } catch (IllegalArgumentException exception) {
+            return -1;
+        }
+    }
 }
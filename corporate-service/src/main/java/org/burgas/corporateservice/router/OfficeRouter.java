@@ -1,6 +1,7 @@
 package org.burgas.corporateservice.router;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporateservice.config.PublicCacheProperties;
 import org.burgas.corporateservice.dto.office.OfficeRequest;
 import org.burgas.corporateservice.entity.OfficePK;
 import org.burgas.corporateservice.exception.EntityFieldEmptyException;
@@ -24,6 +25,7 @@ public class OfficeRouter {
 
     private final OfficeServiceImpl officeService;
     private final OfficeFilterFunction officeFilterFunction;
+    private final PublicCacheProperties publicCacheProperties;
 
     @Bean
     public RouterFunction<ServerResponse> officeRoutes() {
@@ -34,6 +36,7 @@ public class OfficeRouter {
                                 ServerResponse
                                         .status(HttpStatus.OK)
                                         .contentType(MediaType.APPLICATION_JSON)
+                                        .cacheControl(this.publicCacheProperties.cacheControl())
                                         .body(
                                                 this.officeService.findByCorporationId(
                                                         UUID.fromString(request.param("corporationId").orElseThrow())
@@ -1,16 +1,27 @@
 package org.burgas.corporateservice.router;
 
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
+import org.burgas.corporatecommon.security.TokenService;
+import org.burgas.corporateservice.exception.IdentityNotAuthenticatedException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.servlet.function.RouterFunction;
 import org.springframework.web.servlet.function.RouterFunctions;
 import org.springframework.web.servlet.function.ServerResponse;
 
+import static org.burgas.corporateservice.message.IdentityMessages.IDENTITY_NOT_AUTHENTICATED;
+
 @Configuration
+@RequiredArgsConstructor
 public class SecurityRouter {
 
+    private final TokenService tokenService;
+
     @Bean
     public RouterFunction<ServerResponse> securityRoutes() {
         return RouterFunctions.route()
@@ -21,6 +32,31 @@ public class SecurityRouter {
                                         .contentType(MediaType.APPLICATION_JSON)
                                         .body(request.attribute("_csrf"))
                 )
+                .POST(
+                        "/api/v1/security/token", request -> {
+                            String authorization = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+                            if (authorization == null || !authorization.regionMatches(true, 0, "Basic ", 0, 6))
+                                throw new IdentityNotAuthenticatedException(IDENTITY_NOT_AUTHENTICATED.getMessage());
+
+                            IdentityPrincipal identityPrincipal = request.principal()
+                                    .map(Authentication.class::cast)
+                                    .map(Authentication::getPrincipal)
+                                    .map(IdentityPrincipal.class::cast)
+                                    .orElseThrow(() -> new IdentityNotAuthenticatedException(IDENTITY_NOT_AUTHENTICATED.getMessage()));
+
+                            return ServerResponse
+                                    .status(HttpStatus.OK)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .body(this.tokenService.issue(identityPrincipal));
+                        }
+                )
+                .onError(
+                        IdentityNotAuthenticatedException.class, (throwable, serverRequest) ->
+                                ServerResponse
+                                        .status(HttpStatus.UNAUTHORIZED)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .body(throwable.getMessage())
+                )
                 .build();
     }
 }
@@ -0,0 +1,123 @@
+package org.burgas.corporateservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.SneakyThrows;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
+import org.burgas.corporateservice.service.UserDetailsServiceImpl;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(60);
+    private static final long MAXIMUM_SIZE = 10_000L;
+
+    private final DaoAuthenticationProvider daoAuthenticationProvider;
+    private final SecretKey secretKey;
+
+    private final Cache<String, IdentityPrincipal> principals = Caffeine.newBuilder()
+            .expireAfterWrite(TIME_TO_LIVE)
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+    private final AtomicLong generation = new AtomicLong();
+
+    @SneakyThrows
+    public CachingAuthenticationProvider(final UserDetailsServiceImpl userDetailsService, final PasswordEncoder passwordEncoder) {
+        this.daoAuthenticationProvider = new DaoAuthenticationProvider(userDetailsService);
+        this.daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+        this.secretKey = KeyGenerator.getInstance(ALGORITHM).generateKey();
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (authentication.getCredentials() == null)
+            return this.daoAuthenticationProvider.authenticate(authentication);
+
+        String key = this.credentialsHash(authentication.getName(), authentication.getCredentials().toString());
+        IdentityPrincipal principal = this.principals.getIfPresent(key);
+        if (principal == null) {
+            long loadedGeneration = this.generation.get();
+            Authentication authenticated = this.daoAuthenticationProvider.authenticate(authentication);
+            principal = ((IdentityPrincipal) authenticated.getPrincipal()).withoutPassword();
+
+            if (this.generation.get() == loadedGeneration)
+                this.principals.asMap().putIfAbsent(key, principal);
+        }
+
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    public void invalidate(final UUID identityId) {
+        if (identityId == null)
+            return;
+
+        this.evict(identityId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            evict(identityId);
+                        }
+                    }
+            );
+        }
+    }
+
+    public void invalidateAll() {
+        this.evictAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            evictAll();
+                        }
+                    }
+            );
+        }
+    }
+
+    @SneakyThrows
+    private String credentialsHash(final String username, final String password) {
+        Mac mac = Mac.getInstance(ALGORITHM);
+        mac.init(this.secretKey);
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return HexFormat.of().formatHex(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void evict(final UUID identityId) {
+        this.generation.incrementAndGet();
+        this.principals.asMap().values().removeIf(principal -> principal.id().equals(identityId));
+    }
+
+    private void evictAll() {
+        this.generation.incrementAndGet();
+        this.principals.invalidateAll();
+    }
+}
@@ -0,0 +1,150 @@
+package org.burgas.corporateservice.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
+import org.burgas.corporateservice.config.CsrfProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+@Slf4j
+@Component
+public class SignedCsrfTokenRepository implements CsrfTokenRepository {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int NONCE_LENGTH = 16;
+    private static final int PAYLOAD_LENGTH = NONCE_LENGTH + Long.BYTES;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final CsrfProperties csrfProperties;
+    private final SecretKey secretKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Mac> macs;
+
+    @SneakyThrows
+    public SignedCsrfTokenRepository(CsrfProperties csrfProperties) {
+        this.csrfProperties = csrfProperties;
+
+        String secret = csrfProperties.getSecret();
+        if (secret == null || secret.isBlank()) {
+            log.warn("security.csrf.secret is not set, csrf tokens are signed with a random key and only valid on this instance");
+            this.secretKey = KeyGenerator.getInstance(ALGORITHM).generateKey();
+
+        } else {
+            this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM);
+        }
+
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+
+    @Override
+    public CsrfToken generateToken(HttpServletRequest request) {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        this.secureRandom.nextBytes(nonce);
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+                .put(nonce)
+                .putLong(System.currentTimeMillis() + this.csrfProperties.getTimeToLive().toMillis())
+                .array();
+
+        String encodedPayload = ENCODER.encodeToString(payload);
+        return this.csrfToken(encodedPayload + "." + ENCODER.encodeToString(this.sign(encodedPayload, principal())));
+    }
+
+    @Override
+    public void saveToken(CsrfToken token, HttpServletRequest request, HttpServletResponse response) {
+        ResponseCookie cookie = ResponseCookie.from(this.csrfProperties.getCookieName(), token == null ? "" : token.getToken())
+                .path(request.getContextPath().isEmpty() ? "/" : request.getContextPath())
+                .httpOnly(true)
+                .secure(this.csrfProperties.isCookieSecure() || request.isSecure())
+                .sameSite(this.csrfProperties.getCookieSameSite())
+                .maxAge(token == null ? Duration.ZERO : this.csrfProperties.getTimeToLive())
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    @Override
+    public CsrfToken loadToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null)
+            return null;
+
+        for (Cookie cookie : cookies) {
+            if (this.csrfProperties.getCookieName().equals(cookie.getName()))
+                return this.isValid(cookie.getValue()) ? this.csrfToken(cookie.getValue()) : null;
+        }
+        return null;
+    }
+
+    private boolean isValid(final String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator != token.lastIndexOf('.'))
+            return false;
+
+        try {
+            String encodedPayload = token.substring(0, separator);
+            byte[] payload = DECODER.decode(encodedPayload);
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+
+            return payload.length == PAYLOAD_LENGTH &&
+                   MessageDigest.isEqual(this.sign(encodedPayload, principal()), signature) &&
+                   ByteBuffer.wrap(payload, NONCE_LENGTH, Long.BYTES).getLong() > System.currentTimeMillis();
+
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    private CsrfToken csrfToken(final String token) {
+        return new DefaultCsrfToken(this.csrfProperties.getHeaderName(), this.csrfProperties.getParameterName(), token);
+    }
+
+    private byte[] sign(final String payload, final String principal) {
+        Mac mac = this.macs.get();
+        mac.update(payload.getBytes(StandardCharsets.US_ASCII));
+        mac.update((byte) '.');
+        return mac.doFinal(principal.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken)
+            return "";
+
+        return authentication.getPrincipal() instanceof IdentityPrincipal identityPrincipal ?
+                identityPrincipal.id().toString() : authentication.getName();
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.secretKey);
+            return mac;
+
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.burgas.corporateservice.security;
+
+import org.burgas.corporatecommon.config.TokenProperties;
+import org.burgas.corporatecommon.security.AbstractTokenRevocationList;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+public class TokenRevocationList extends AbstractTokenRevocationList {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TokenRevocationList(
+            JdbcTemplate jdbcTemplate, TokenProperties tokenProperties, PlatformTransactionManager platformTransactionManager
+    ) {
+        super(tokenProperties);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void revoke(final UUID identityId) {
+        if (identityId != null)
+            this.revokeAll(List.of(identityId));
+    }
+
+    public void revokeAll(final Collection<UUID> identityIds) {
+        List<UUID> ids = identityIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty())
+            return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            if (status == STATUS_COMMITTED)
+                                record(ids);
+                        }
+                    }
+            );
+
+        } else {
+            this.record(ids);
+        }
+    }
+
+    private void record(final List<UUID> ids) {
+        long now = System.currentTimeMillis();
+        ids.forEach(identityId -> this.merge(identityId, now));
+
+        this.transactionTemplate.executeWithoutResult(
+                status -> this.jdbcTemplate.batchUpdate(
+                        """
+                        insert into token_revocation (identity_id, revoked_at) values (?, ?)
+                        on conflict (identity_id) do update set revoked_at = greatest(token_revocation.revoked_at, excluded.revoked_at)
+                        """,
+                        ids, ids.size(),
+                        (preparedStatement, identityId) -> {
+                            preparedStatement.setObject(1, identityId);
+                            preparedStatement.setLong(2, now);
+                        }
+                )
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${security.token.revocation-refresh:PT5S}")
+    public void refresh() {
+        long horizon = this.horizon();
+        this.jdbcTemplate.query(
+                "select identity_id, revoked_at from token_revocation where revoked_at >= ?",
+                resultSet -> {
+                    this.merge(resultSet.getObject("identity_id", UUID.class), resultSet.getLong("revoked_at"));
+                },
+                horizon
+        );
+
+        this.expire(horizon);
+        this.jdbcTemplate.update("delete from token_revocation where revoked_at < ?", horizon);
+    }
+}
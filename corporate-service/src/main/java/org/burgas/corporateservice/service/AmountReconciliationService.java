@@ -0,0 +1,59 @@
+package org.burgas.corporateservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservice.repository.CorporationRepository;
+import org.burgas.corporateservice.repository.OfficeRepository;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Service
+public class AmountReconciliationService {
+
+    private final OfficeRepository officeRepository;
+    private final CorporationRepository corporationRepository;
+    private final CorporationCatalogService corporationCatalogService;
+    private final TransactionTemplate transactionTemplate;
+
+    public AmountReconciliationService(
+            OfficeRepository officeRepository, CorporationRepository corporationRepository,
+            CorporationCatalogService corporationCatalogService, PlatformTransactionManager platformTransactionManager
+    ) {
+        this.officeRepository = officeRepository;
+        this.corporationRepository = corporationRepository;
+        this.corporationCatalogService = corporationCatalogService;
+        this.transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.transactionTemplate.setIsolationLevel(Isolation.REPEATABLE_READ.value());
+        this.transactionTemplate.setPropagationBehavior(Propagation.REQUIRES_NEW.value());
+    }
+
+    @Scheduled(
+            initialDelayString = "${amounts.reconciliation.initial-delay:PT1M}",
+            fixedDelayString = "${amounts.reconciliation.interval:PT10M}"
+    )
+    public void reconcile() {
+        try {
+            int offices = this.reconcile(this.officeRepository::reconcileEmployeesAmount);
+            int corporations = this.reconcile(this.corporationRepository::reconcileAmounts);
+            if (offices > 0 || corporations > 0) {
+                log.info("Reconciled amounts of {} offices and {} corporations", offices, corporations);
+                this.corporationCatalogService.invalidate();
+            }
+
+        } catch (ConcurrencyFailureException exception) {
+            log.debug("Amount reconciliation raced a concurrent change and will run again on the next schedule");
+        }
+    }
+
+    private int reconcile(final IntSupplier reconciliation) {
+        Integer updated = this.transactionTemplate.execute(status -> reconciliation.getAsInt());
+        return updated == null ? 0 : updated;
+    }
+}
@@ -0,0 +1,45 @@
+package org.burgas.corporateservice.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.burgas.corporateservice.dto.cache.CacheRegionResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class CacheStatisticsService {
+
+    private final Statistics statistics;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public List<CacheRegionResponse> findAll() {
+        return Arrays.stream(this.statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(
+                        region -> {
+                            CacheRegionStatistics regionStatistics = this.statistics.getDomainDataRegionStatistics(region);
+                            long hitCount = regionStatistics.getHitCount();
+                            long missCount = regionStatistics.getMissCount();
+                            return CacheRegionResponse.builder()
+                                    .region(region)
+                                    .hitCount(hitCount)
+                                    .missCount(missCount)
+                                    .putCount(regionStatistics.getPutCount())
+                                    .hitRatio(hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount))
+                                    .build();
+                        }
+                )
+                .toList();
+    }
+
+    public void clear() {
+        this.statistics.clear();
+    }
+}
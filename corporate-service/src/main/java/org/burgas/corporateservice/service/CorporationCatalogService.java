@@ -0,0 +1,138 @@
+package org.burgas.corporateservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithOfficesResponse;
+import org.burgas.corporateservice.mapper.CorporationMapper;
+import org.burgas.corporateservice.repository.CorporationRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+public class CorporationCatalogService {
+
+    private final CorporationRepository corporationRepository;
+    private final CorporationMapper corporationMapper;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor corporationCatalogExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private final Object rebuildLock = new Object();
+
+    public record Snapshot(byte[] body, String etag) {
+    }
+
+    public CorporationCatalogService(
+            CorporationRepository corporationRepository, CorporationMapper corporationMapper, ObjectMapper objectMapper,
+            @Qualifier("corporationCatalogExecutor") ThreadPoolTaskExecutor corporationCatalogExecutor,
+            PlatformTransactionManager platformTransactionManager
+    ) {
+        this.corporationRepository = corporationRepository;
+        this.corporationMapper = corporationMapper;
+        this.objectMapper = objectMapper;
+        this.corporationCatalogExecutor = corporationCatalogExecutor;
+        this.transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public Snapshot findSnapshot() {
+        Snapshot current = this.snapshot.get();
+        if (current != null)
+            return current;
+
+        synchronized (this.rebuildLock) {
+            if (this.snapshot.get() == null) {
+                this.stale.set(false);
+                try {
+                    this.build();
+
+                } catch (RuntimeException exception) {
+                    this.stale.set(true);
+                    throw exception;
+                }
+            }
+            return this.snapshot.get();
+        }
+    }
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            markStale();
+                        }
+                    }
+            );
+
+        } else {
+            this.markStale();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        this.corporationCatalogExecutor.execute(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${corporations.catalog.retry-interval:PT30S}")
+    public void retry() {
+        if (this.stale.get())
+            this.corporationCatalogExecutor.execute(this::rebuild);
+    }
+
+    private void markStale() {
+        this.stale.set(true);
+        this.corporationCatalogExecutor.execute(this::rebuild);
+    }
+
+    private void rebuild() {
+        synchronized (this.rebuildLock) {
+            while (this.stale.getAndSet(false)) {
+                try {
+                    this.build();
+
+                } catch (RuntimeException exception) {
+                    this.stale.set(true);
+                    log.warn("Corporation catalog rebuild failed, keeping the previous snapshot", exception);
+                    return;
+                }
+            }
+        }
+    }
+
+    @SneakyThrows
+    private void build() {
+        List<CorporationWithOfficesResponse> corporations = this.transactionTemplate.execute(
+                status -> this.corporationRepository.findAll()
+                        .stream()
+                        .map(this.corporationMapper::toResponse)
+                        .toList()
+        );
+        byte[] body = this.objectMapper.writeValueAsBytes(corporations);
+        String etag = "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body)) + "\"";
+
+        Snapshot current = this.snapshot.get();
+        if (current == null || !current.etag().equals(etag))
+            this.snapshot.set(new Snapshot(body, etag));
+    }
+}
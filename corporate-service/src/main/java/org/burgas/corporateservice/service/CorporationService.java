@@ -2,8 +2,8 @@ package org.burgas.corporateservice.service;
 
 import jakarta.servlet.http.Part;
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.corporation.CorporationWithOfficesResponse;
 import org.burgas.corporateservice.dto.corporation.CorporationRequest;
-import org.burgas.corporateservice.dto.corporation.CorporationWithOfficesResponse;
 import org.burgas.corporateservice.entity.Corporation;
 import org.burgas.corporateservice.entity.Media;
 import org.burgas.corporateservice.exception.CorporationNotFoundException;
@@ -34,6 +34,8 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
     private final CorporationRepository corporationRepository;
     private final CorporationMapper corporationMapper;
     private final MediaService mediaService;
+    private final MembershipService membershipService;
+    private final CorporationCatalogService corporationCatalogService;
 
     public Corporation findCorporation(final UUID corporationId) {
         return this.corporationRepository.findById(corporationId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : corporationId)
@@ -41,6 +43,7 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public List<CorporationWithOfficesResponse> findAll() {
         return this.corporationRepository.findAll()
                 .stream()
@@ -49,8 +52,11 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public CorporationWithOfficesResponse findById(UUID uuid) {
-        return this.corporationMapper.toResponse(this.findCorporation(uuid));
+        return this.corporationRepository.findCorporationById(uuid == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : uuid)
+                .map(this.corporationMapper::toResponse)
+                .orElseThrow(() -> new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage()));
     }
 
     @Override
@@ -59,9 +65,10 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
             rollbackFor = Exception.class
     )
     public CorporationWithOfficesResponse createOrUpdate(CorporationRequest corporationRequest) {
-        return this.corporationMapper.toResponse(
-                this.corporationRepository.save(this.corporationMapper.toEntity(corporationRequest))
-        );
+        Corporation corporation = this.corporationRepository.save(this.corporationMapper.toEntity(corporationRequest));
+        this.membershipService.invalidate(corporation.getId());
+        this.corporationCatalogService.invalidate();
+        return this.corporationMapper.toResponse(corporation);
     }
 
     @Override
@@ -72,6 +79,8 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
     public String delete(UUID uuid) {
         Corporation corporation = this.findCorporation(uuid);
         this.corporationRepository.deleteCorporationById(corporation.getId());
+        this.membershipService.invalidate(corporation.getId());
+        this.corporationCatalogService.invalidate();
         return CORPORATION_DELETED.getMessage();
     }
 
@@ -84,6 +93,8 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
         if (corporation.getDirectors().contains(alreadyDirectorId)) {
             corporation.getDirectors().add(newDirectorId);
             this.corporationRepository.save(corporation);
+            this.membershipService.invalidate(corporation.getId());
+        this.corporationCatalogService.invalidate();
             return CORPORATION_DIRECTOR_ADDED.getMessage();
 
         } else {
@@ -100,6 +111,7 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
         Media image = this.mediaService.upload(file);
         corporation.setImage(image);
         this.corporationRepository.save(corporation);
+        this.corporationCatalogService.invalidate();
         return CORPORATION_IMAGE_UPLOADED.getMessage();
     }
 
@@ -113,6 +125,7 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
                 .map(
                         image -> {
                             this.mediaService.change(image.getId(), file);
+                            this.corporationCatalogService.invalidate();
                             return CORPORATION_IMAGE_CHANGED.getMessage();
                         }
                 )
@@ -131,6 +144,7 @@ public class CorporationService implements CrudService<CorporationRequest, Corpo
                             corporation.setImage(null);
                             this.corporationRepository.save(corporation);
                             this.mediaService.delete(image.getId());
+                            this.corporationCatalogService.invalidate();
                             return CORPORATION_IMAGE_DELETED.getMessage();
                         }
                 )
@@ -1,8 +1,8 @@
 package org.burgas.corporateservice.service;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
 import org.burgas.corporateservice.dto.department.DepartmentRequest;
-import org.burgas.corporateservice.dto.department.DepartmentWithOfficesResponse;
 import org.burgas.corporateservice.entity.Corporation;
 import org.burgas.corporateservice.entity.Department;
 import org.burgas.corporateservice.entity.Office;
@@ -33,6 +33,7 @@ public class DepartmentServiceImpl implements DepartmentService<DepartmentReques
     private final DepartmentMapper departmentMapper;
     private final CorporationService corporationService;
     private final OfficeRepository officeRepository;
+    private final CorporationCatalogService corporationCatalogService;
 
     public Department findDepartment(final UUID departmentId) {
         return this.departmentRepository.findById(
@@ -44,6 +45,7 @@ public class DepartmentServiceImpl implements DepartmentService<DepartmentReques
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public List<DepartmentWithOfficesResponse> findByCorporation(UUID corporationId) {
         Corporation corporation = this.corporationService.findCorporation(corporationId);
         return this.departmentRepository.findDepartmentsByCorporationId(corporation.getId())
@@ -53,6 +55,7 @@ public class DepartmentServiceImpl implements DepartmentService<DepartmentReques
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public DepartmentWithOfficesResponse findById(UUID departmentId) {
         return this.departmentMapper.toResponse(this.findDepartment(departmentId));
     }
@@ -81,6 +84,7 @@ public class DepartmentServiceImpl implements DepartmentService<DepartmentReques
             }
         }
         department = this.departmentRepository.save(department);
+        this.corporationCatalogService.invalidate();
         return this.departmentMapper.toResponse(department);
     }
 
@@ -92,6 +96,7 @@ public class DepartmentServiceImpl implements DepartmentService<DepartmentReques
     public String delete(UUID departmentId) {
         Department department = this.findDepartment(departmentId);
         this.departmentRepository.deleteDepartmentById(department.getId());
+        this.corporationCatalogService.invalidate();
         return DEPARTMENT_DELETED.getMessage();
     }
 }
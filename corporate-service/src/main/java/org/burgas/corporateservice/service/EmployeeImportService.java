@@ -0,0 +1,331 @@
+package org.burgas.corporateservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.burgas.corporateservice.dto.employee.EmployeeImportError;
+import org.burgas.corporateservice.dto.employee.EmployeeImportResponse;
+import org.burgas.corporateservice.dto.employee.EmployeeRequest;
+import org.burgas.corporateservice.entity.Address;
+import org.burgas.corporateservice.entity.OfficePK;
+import org.burgas.corporateservice.exception.CorporationNotFoundException;
+import org.burgas.corporateservice.exception.WrongImportFormatException;
+import org.burgas.corporateservice.repository.*;
+import org.burgas.corporateservice.security.CachingAuthenticationProvider;
+import org.burgas.corporateservice.security.TokenRevocationList;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.burgas.corporateservice.message.CorporationMessages.CORPORATION_NOT_FOUND;
+import static org.burgas.corporateservice.message.EmployeeMessages.*;
+
+@Service
+public class EmployeeImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_ERRORS = 1000;
+    private static final List<String> CSV_COLUMNS = List.of(
+            "identityId", "positionId", "firstName", "lastName", "patronymic", "about",
+            "country", "city", "street", "house", "apartment", "officeAddressId"
+    );
+
+    private final EmployeeRepository employeeRepository;
+    private final IdentityRepository identityRepository;
+    private final PositionRepository positionRepository;
+    private final OfficeRepository officeRepository;
+    private final CorporationRepository corporationRepository;
+    private final MembershipService membershipService;
+    private final CachingAuthenticationProvider cachingAuthenticationProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final CorporationCatalogService corporationCatalogService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmployeeImportService(
+            EmployeeRepository employeeRepository, IdentityRepository identityRepository,
+            PositionRepository positionRepository, OfficeRepository officeRepository,
+            CorporationRepository corporationRepository, MembershipService membershipService,
+            CachingAuthenticationProvider cachingAuthenticationProvider, TokenRevocationList tokenRevocationList,
+            CorporationCatalogService corporationCatalogService, ObjectMapper objectMapper, PlatformTransactionManager platformTransactionManager
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.identityRepository = identityRepository;
+        this.positionRepository = positionRepository;
+        this.officeRepository = officeRepository;
+        this.corporationRepository = corporationRepository;
+        this.membershipService = membershipService;
+        this.cachingAuthenticationProvider = cachingAuthenticationProvider;
+        this.tokenRevocationList = tokenRevocationList;
+        this.corporationCatalogService = corporationCatalogService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.transactionTemplate.setIsolationLevel(Isolation.READ_COMMITTED.value());
+        this.transactionTemplate.setPropagationBehavior(Propagation.REQUIRES_NEW.value());
+    }
+
+    private record Row(long number, EmployeeRequest employeeRequest) {
+    }
+
+    private static final class Result {
+
+        private long imported;
+        private long failed;
+        private final List<EmployeeImportError> errors = new ArrayList<>();
+
+        private void fail(final long row, final String message) {
+            this.failed++;
+            if (this.errors.size() < MAX_ERRORS)
+                this.errors.add(EmployeeImportError.builder().row(row).message(message).build());
+        }
+    }
+
+    @SneakyThrows
+    public EmployeeImportResponse importEmployees(final UUID corporationId, final MediaType contentType, final InputStream inputStream) {
+        boolean csv;
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType))
+            csv = false;
+        else if (new MediaType("text", "csv").isCompatibleWith(contentType))
+            csv = true;
+        else
+            throw new WrongImportFormatException(EMPLOYEE_IMPORT_WRONG_FORMAT.getMessage());
+
+        if (corporationId == null || !this.corporationRepository.existsById(corporationId))
+            throw new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage());
+
+        Set<UUID> officeAddressIds = new HashSet<>(this.officeRepository.findAddressIdsByCorporationId(corporationId));
+        Result result = new Result();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            long number = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isBlank())
+                    continue;
+
+                if (csv && header == null) {
+                    header = this.splitCsv(line);
+                    continue;
+                }
+
+                try {
+                    chunk.add(new Row(number, csv ? this.parseCsv(header, line) : this.objectMapper.readValue(line, EmployeeRequest.class)));
+
+                } catch (Exception exception) {
+                    result.fail(number, EMPLOYEE_IMPORT_MALFORMED_ROW.getMessage());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    this.importChunk(corporationId, officeAddressIds, chunk, result);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty())
+            this.importChunk(corporationId, officeAddressIds, chunk, result);
+
+        return EmployeeImportResponse.builder()
+                .imported(result.imported)
+                .failed(result.failed)
+                .errors(result.errors)
+                .build();
+    }
+
+    private void importChunk(final UUID corporationId, final Set<UUID> officeAddressIds, final List<Row> chunk, final Result result) {
+        List<Row> rows = this.validate(corporationId, officeAddressIds, chunk, result);
+        if (rows.isEmpty())
+            return;
+
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> this.insert(corporationId, rows));
+            result.imported += rows.size();
+
+        } catch (RuntimeException chunkException) {
+            for (Row row : rows) {
+                try {
+                    this.transactionTemplate.executeWithoutResult(status -> this.insert(corporationId, List.of(row)));
+                    result.imported++;
+
+                } catch (RuntimeException rowException) {
+                    result.fail(row.number(), NestedExceptionUtils.getMostSpecificCause(rowException).getMessage());
+                }
+            }
+        }
+    }
+
+    private List<Row> validate(final UUID corporationId, final Set<UUID> officeAddressIds, final List<Row> chunk, final Result result) {
+        Set<UUID> identityIds = new HashSet<>();
+        Set<UUID> positionIds = new HashSet<>();
+        Set<String> abouts = new HashSet<>();
+        chunk.forEach(
+                row -> {
+                    EmployeeRequest employeeRequest = row.employeeRequest();
+                    if (employeeRequest.getIdentityId() != null)
+                        identityIds.add(employeeRequest.getIdentityId());
+                    if (employeeRequest.getPositionId() != null)
+                        positionIds.add(employeeRequest.getPositionId());
+                    if (employeeRequest.getAbout() != null)
+                        abouts.add(employeeRequest.getAbout());
+                }
+        );
+
+        Set<UUID> existingIdentities = identityIds.isEmpty() ? Set.of() :
+                new HashSet<>(this.identityRepository.findIdentityIdsByIdIn(identityIds));
+        Set<UUID> employedIdentities = identityIds.isEmpty() ? new HashSet<>() :
+                new HashSet<>(this.employeeRepository.findIdentityIdsByIdentityIdIn(identityIds));
+        Set<UUID> corporationPositions = positionIds.isEmpty() ? Set.of() :
+                new HashSet<>(this.positionRepository.findPositionIdsByCorporationIdAndIdIn(corporationId, positionIds));
+        Set<UUID> occupiedPositions = positionIds.isEmpty() ? new HashSet<>() :
+                new HashSet<>(this.employeeRepository.findPositionIdsByPositionIdIn(positionIds));
+        Set<String> takenAbouts = abouts.isEmpty() ? new HashSet<>() :
+                new HashSet<>(this.employeeRepository.findAboutsByAboutIn(abouts));
+
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String error = this.validate(
+                    corporationId, officeAddressIds, row.employeeRequest(),
+                    existingIdentities, employedIdentities, corporationPositions, occupiedPositions, takenAbouts
+            );
+            if (error == null)
+                rows.add(row);
+            else
+                result.fail(row.number(), error);
+        }
+        return rows;
+    }
+
+    private String validate(
+            final UUID corporationId, final Set<UUID> officeAddressIds, final EmployeeRequest employeeRequest,
+            final Set<UUID> existingIdentities, final Set<UUID> employedIdentities,
+            final Set<UUID> corporationPositions, final Set<UUID> occupiedPositions, final Set<String> takenAbouts
+    ) {
+        if (employeeRequest.getIdentityId() == null)
+            return EMPLOYEE_IDENTITY_FIELD_EMPTY.getMessage();
+        if (employeeRequest.getPositionId() == null)
+            return EMPLOYEE_POSITION_FIELD_EMPTY.getMessage();
+        if (employeeRequest.getFirstName() == null || employeeRequest.getFirstName().isBlank())
+            return EMPLOYEE_FIRSTNAME_FIELD_EMPTY.getMessage();
+        if (employeeRequest.getLastName() == null || employeeRequest.getLastName().isBlank())
+            return EMPLOYEE_LASTNAME_FIELD_EMPTY.getMessage();
+        if (employeeRequest.getPatronymic() == null || employeeRequest.getPatronymic().isBlank())
+            return EMPLOYEE_PATRONYMIC_FIELD_EMPTY.getMessage();
+        if (employeeRequest.getAbout() == null || employeeRequest.getAbout().isBlank())
+            return EMPLOYEE_ABOUT_FIELD_EMPTY.getMessage();
+        Address address = employeeRequest.getAddress();
+        if (
+                address == null || address.getCountry() == null || address.getCity() == null ||
+                address.getStreet() == null || address.getHouse() == null
+        )
+            return EMPLOYEE_ADDRESS_FIELD_EMPTY.getMessage();
+        if (employeeRequest.getOffice() == null || employeeRequest.getOffice().getAddressId() == null)
+            return EMPLOYEE_OFFICE_ADDRESS_FIELD_EMPTY.getMessage();
+
+        UUID officeCorporationId = employeeRequest.getOffice().getCorporationId();
+        if (officeCorporationId != null && !officeCorporationId.equals(corporationId))
+            return EMPLOYEE_IMPORT_OFFICE_NOT_FOUND.getMessage();
+        if (!officeAddressIds.contains(employeeRequest.getOffice().getAddressId()))
+            return EMPLOYEE_IMPORT_OFFICE_NOT_FOUND.getMessage();
+        if (!existingIdentities.contains(employeeRequest.getIdentityId()))
+            return EMPLOYEE_IMPORT_IDENTITY_NOT_FOUND.getMessage();
+        if (!corporationPositions.contains(employeeRequest.getPositionId()))
+            return EMPLOYEE_IMPORT_POSITION_NOT_FOUND.getMessage();
+        if (!employedIdentities.add(employeeRequest.getIdentityId()))
+            return EMPLOYEE_IMPORT_IDENTITY_ALREADY_EMPLOYEE.getMessage();
+        if (!occupiedPositions.add(employeeRequest.getPositionId()))
+            return EMPLOYEE_IMPORT_POSITION_OCCUPIED.getMessage();
+        if (!takenAbouts.add(employeeRequest.getAbout()))
+            return EMPLOYEE_IMPORT_ABOUT_NOT_UNIQUE.getMessage();
+
+        return null;
+    }
+
+    private void insert(final UUID corporationId, final List<Row> rows) {
+        List<EmployeeRequest> employeeRequests = rows.stream().map(Row::employeeRequest).toList();
+        this.employeeRepository.insertEmployees(corporationId, employeeRequests);
+
+        Map<UUID, Long> officeAmounts = new TreeMap<>();
+        employeeRequests.forEach(employeeRequest -> officeAmounts.merge(employeeRequest.getOffice().getAddressId(), 1L, Long::sum));
+        officeAmounts.forEach((addressId, amount) -> this.officeRepository.incrementEmployeesAmount(corporationId, addressId, amount));
+        this.corporationRepository.incrementEmployeesAmount(corporationId, employeeRequests.size());
+
+        this.membershipService.invalidate(corporationId);
+        this.corporationCatalogService.invalidate();
+        employeeRequests.forEach(employeeRequest -> this.cachingAuthenticationProvider.invalidate(employeeRequest.getIdentityId()));
+        this.tokenRevocationList.revokeAll(employeeRequests.stream().map(EmployeeRequest::getIdentityId).toList());
+    }
+
+    private EmployeeRequest parseCsv(final List<String> header, final String line) {
+        List<String> values = this.splitCsv(line);
+        Map<String, String> columns = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            String value = values.get(i).trim();
+            columns.put(header.get(i).trim(), value.isEmpty() ? null : value);
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS.subList(0, CSV_COLUMNS.size() - 2)))
+            throw new IllegalArgumentException(EMPLOYEE_IMPORT_MALFORMED_ROW.getMessage());
+
+        return EmployeeRequest.builder()
+                .identityId(Optional.ofNullable(columns.get("identityId")).map(UUID::fromString).orElse(null))
+                .positionId(Optional.ofNullable(columns.get("positionId")).map(UUID::fromString).orElse(null))
+                .firstName(columns.get("firstName"))
+                .lastName(columns.get("lastName"))
+                .patronymic(columns.get("patronymic"))
+                .about(columns.get("about"))
+                .address(
+                        Address.builder()
+                                .country(columns.get("country"))
+                                .city(columns.get("city"))
+                                .street(columns.get("street"))
+                                .house(columns.get("house"))
+                                .apartment(columns.get("apartment"))
+                                .build()
+                )
+                .office(
+                        OfficePK.builder()
+                                .addressId(Optional.ofNullable(columns.get("officeAddressId")).map(UUID::fromString).orElse(null))
+                                .build()
+                )
+                .build();
+    }
+
+    private List<String> splitCsv(final String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (quoted) {
+                if (character == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (character == '"') {
+                    quoted = false;
+                } else {
+                    value.append(character);
+                }
+
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(character);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -1,25 +1,30 @@
 package org.burgas.corporateservice.service;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.employee.EmployeePageResponse;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
 import org.burgas.corporateservice.dto.employee.EmployeeRequest;
-import org.burgas.corporateservice.dto.employee.EmployeeWithOfficeResponse;
 import org.burgas.corporateservice.entity.*;
 import org.burgas.corporateservice.exception.EmployeeNotFoundException;
 import org.burgas.corporateservice.exception.EmployeeOfficeMatchesException;
 import org.burgas.corporateservice.mapper.EmployeeMapper;
 import org.burgas.corporateservice.message.EmployeeMessages;
+import org.burgas.corporateservice.repository.CorporationRepository;
 import org.burgas.corporateservice.repository.EmployeeRepository;
 import org.burgas.corporateservice.repository.OfficeRepository;
+import org.burgas.corporateservice.security.CachingAuthenticationProvider;
+import org.burgas.corporateservice.security.TokenRevocationList;
 import org.burgas.corporateservice.service.contract.EmployeeService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.function.Consumer;
 
 import static org.burgas.corporateservice.message.EmployeeMessages.*;
 
@@ -32,6 +37,18 @@ public class EmployeeServiceImpl implements EmployeeService<EmployeeRequest, Emp
     private final EmployeeMapper employeeMapper;
     private final OfficeServiceImpl officeService;
     private final OfficeRepository officeRepository;
+    private final CorporationRepository corporationRepository;
+    private final MembershipService membershipService;
+    private final CachingAuthenticationProvider cachingAuthenticationProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final CorporationCatalogService corporationCatalogService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int STREAM_CHUNK_SIZE = 256;
+    private static final Comparator<OfficePK> OFFICE_ORDER =
+            Comparator.comparing(OfficePK::getCorporationId).thenComparing(OfficePK::getAddressId);
 
     public Employee findEmployee(final UUID employeeId) {
         return this.employeeRepository.findById(employeeId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : employeeId)
@@ -39,25 +56,61 @@ public class EmployeeServiceImpl implements EmployeeService<EmployeeRequest, Emp
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public List<EmployeeWithOfficeResponse> findByCorporationId(UUID corporationId) {
-        return this.employeeRepository.findEmployeesByCorporationId(
+        return this.employeeMapper.toResponses(
+                this.employeeRepository.findEmployeesByCorporationId(
                         corporationId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : corporationId
                 )
-                .stream()
-                .map(this.employeeMapper::toResponse)
-                .collect(Collectors.toList());
+        );
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
+    public EmployeePageResponse findByCorporationId(final UUID corporationId, final UUID cursor, final Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        List<Employee> employees = this.employeeRepository.findEmployeesByCorporationIdAfter(
+                corporationId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : corporationId,
+                cursor == null ? new UUID(0L, 0L) : cursor,
+                Limit.of(pageSize + 1)
+        );
+        boolean hasNext = employees.size() > pageSize;
+        List<Employee> page = hasNext ? employees.subList(0, pageSize) : employees;
+
+        return EmployeePageResponse.builder()
+                .employees(this.employeeMapper.toResponses(page))
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    public void streamByCorporationId(final UUID corporationId, final Consumer<EmployeeWithOfficeResponse> consumer) {
+        UUID id = corporationId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : corporationId;
+        UUID cursor = new UUID(0L, 0L);
+        List<EmployeeWithOfficeResponse> chunk;
+        do {
+            UUID after = cursor;
+            chunk = Objects.requireNonNull(
+                    this.transactionTemplate.execute(
+                            status -> this.employeeMapper.toResponses(
+                                    this.employeeRepository.findEmployeesByCorporationIdAfter(id, after, Limit.of(STREAM_CHUNK_SIZE))
+                            )
+                    )
+            );
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty())
+                cursor = chunk.get(chunk.size() - 1).getId();
+
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public List<EmployeeWithOfficeResponse> findByOffice(OfficePK officePK) {
         Office office = this.officeService.findOffice(officePK);
-        return this.employeeRepository.findEmployeesByOffice(office)
-                .stream()
-                .map(this.employeeMapper::toResponse)
-                .collect(Collectors.toList());
+        return this.employeeMapper.toResponses(this.employeeRepository.findEmployeesByOffice(office));
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public EmployeeWithOfficeResponse findById(UUID employeeId) {
         return this.employeeMapper.toResponse(this.findEmployee(employeeId));
     }
@@ -68,9 +121,28 @@ public class EmployeeServiceImpl implements EmployeeService<EmployeeRequest, Emp
             rollbackFor = Exception.class
     )
     public EmployeeWithOfficeResponse createOrUpdate(EmployeeRequest employeeRequest) {
-        return this.employeeMapper.toResponse(
-                this.employeeRepository.save(this.employeeMapper.toEntity(employeeRequest))
-        );
+        Employee previous = employeeRequest.getId() == null ? null :
+                this.employeeRepository.findById(employeeRequest.getId()).orElse(null);
+        OfficePK previousOfficePK = previous == null ? null : previous.getOffice().getOfficePK();
+        UUID previousIdentityId = previous == null || previous.getIdentity() == null ? null : previous.getIdentity().getId();
+
+        Employee employee = this.employeeRepository.save(this.employeeMapper.toEntity(employeeRequest));
+        if (previousOfficePK != null)
+            this.changeEmployeesAmount(previousOfficePK, employee.getOffice().getOfficePK());
+        this.corporationCatalogService.invalidate();
+
+        UUID identityId = employee.getIdentity() == null ? null : employee.getIdentity().getId();
+        this.membershipService.invalidate(employee.getOffice().getOfficePK().getCorporationId());
+        this.cachingAuthenticationProvider.invalidate(identityId);
+
+        if (employeeRequest.getId() != null) {
+            if (previousOfficePK != null)
+                this.membershipService.invalidate(previousOfficePK.getCorporationId());
+            this.cachingAuthenticationProvider.invalidate(previousIdentityId);
+            this.tokenRevocationList.revoke(previousIdentityId);
+        }
+        this.tokenRevocationList.revoke(identityId);
+        return this.employeeMapper.toResponse(employee);
     }
 
     @Override
@@ -82,13 +154,14 @@ public class EmployeeServiceImpl implements EmployeeService<EmployeeRequest, Emp
         Employee employee = this.findEmployee(employeeId);
 
         Office office = employee.getOffice();
-        office.setEmployeesAmount(office.getEmployeesAmount() - 1);
-
-        Department department = employee.getPosition().getDepartment();
-        Corporation corporation = department.getCorporation();
-        corporation.setEmployeesAmount(corporation.getEmployeesAmount() - 1);
-
         this.employeeRepository.deleteEmployeeById(employee.getId());
+        this.changeEmployeesAmount(office.getOfficePK(), null);
+        this.corporationCatalogService.invalidate();
+        this.membershipService.invalidate(office.getOfficePK().getCorporationId());
+        if (employee.getIdentity() != null) {
+            this.cachingAuthenticationProvider.invalidate(employee.getIdentity().getId());
+            this.tokenRevocationList.revoke(employee.getIdentity().getId());
+        }
         return EMPLOYEE_DELETED.getMessage();
     }
 
@@ -104,15 +177,44 @@ public class EmployeeServiceImpl implements EmployeeService<EmployeeRequest, Emp
         if (oldOffice.equals(newOffice))
             throw new EmployeeOfficeMatchesException(EmployeeMessages.EMPLOYEE_OFFICE_MATCHES.getMessage());
 
-        oldOffice.setEmployeesAmount(oldOffice.getEmployeesAmount() - 1);
-        this.officeRepository.save(oldOffice);
-
         employee.setOffice(newOffice);
         this.employeeRepository.save(employee);
+        this.changeEmployeesAmount(oldOffice.getOfficePK(), newOffice.getOfficePK());
+        this.corporationCatalogService.invalidate();
 
-        newOffice.setEmployeesAmount(newOffice.getEmployeesAmount() + 1);
-        this.officeRepository.save(newOffice);
+        this.membershipService.invalidate(oldOffice.getOfficePK().getCorporationId());
+        this.membershipService.invalidate(newOffice.getOfficePK().getCorporationId());
+        if (employee.getIdentity() != null) {
+            this.cachingAuthenticationProvider.invalidate(employee.getIdentity().getId());
+            this.tokenRevocationList.revoke(employee.getIdentity().getId());
+        }
 
         return EMPLOYEE_TRANSFER.getMessage();
     }
+
+    private void changeEmployeesAmount(final OfficePK from, final OfficePK to) {
+        Map<OfficePK, Long> offices = new TreeMap<>(OFFICE_ORDER);
+        Map<UUID, Long> corporations = new TreeMap<>();
+        if (from != null) {
+            offices.merge(from, -1L, Long::sum);
+            corporations.merge(from.getCorporationId(), -1L, Long::sum);
+        }
+        if (to != null) {
+            offices.merge(to, 1L, Long::sum);
+            corporations.merge(to.getCorporationId(), 1L, Long::sum);
+        }
+
+        offices.forEach(
+                (officePK, delta) -> {
+                    if (delta != 0)
+                        this.officeRepository.incrementEmployeesAmount(officePK.getCorporationId(), officePK.getAddressId(), delta);
+                }
+        );
+        corporations.forEach(
+                (corporationId, delta) -> {
+                    if (delta != 0)
+                        this.corporationRepository.incrementEmployeesAmount(corporationId, delta);
+                }
+        );
+    }
 }
@@ -2,15 +2,17 @@ package org.burgas.corporateservice.service;
 
 import jakarta.servlet.http.Part;
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.identity.Authority;
 import org.burgas.corporateservice.dto.identity.IdentityRequest;
 import org.burgas.corporateservice.dto.identity.IdentityWithEmployeeResponse;
-import org.burgas.corporateservice.entity.Authority;
 import org.burgas.corporateservice.entity.Identity;
 import org.burgas.corporateservice.entity.Media;
 import org.burgas.corporateservice.exception.*;
 import org.burgas.corporateservice.mapper.IdentityMapper;
 import org.burgas.corporateservice.message.IdentityMessages;
 import org.burgas.corporateservice.repository.IdentityRepository;
+import org.burgas.corporateservice.security.CachingAuthenticationProvider;
+import org.burgas.corporateservice.security.TokenRevocationList;
 import org.burgas.corporateservice.service.contract.CrudService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -33,6 +35,9 @@ public class IdentityService implements CrudService<IdentityRequest, IdentityWit
     private final IdentityMapper identityMapper;
     private final PasswordEncoder passwordEncoder;
     private final MediaService mediaService;
+    private final MembershipService membershipService;
+    private final CachingAuthenticationProvider cachingAuthenticationProvider;
+    private final TokenRevocationList tokenRevocationList;
 
     public Identity findIdentity(final UUID identityId) {
         return this.identityRepository.findById(identityId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : identityId)
@@ -40,6 +45,7 @@ public class IdentityService implements CrudService<IdentityRequest, IdentityWit
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public List<IdentityWithEmployeeResponse> findAll() {
         return this.identityRepository.findAll()
                 .stream()
@@ -48,6 +54,7 @@ public class IdentityService implements CrudService<IdentityRequest, IdentityWit
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public IdentityWithEmployeeResponse findById(UUID uuid) {
         return this.identityRepository.findById(
                         uuid == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : uuid
@@ -62,9 +69,10 @@ public class IdentityService implements CrudService<IdentityRequest, IdentityWit
             rollbackFor = Exception.class
     )
     public IdentityWithEmployeeResponse createOrUpdate(IdentityRequest identityRequest) {
-        return this.identityMapper.toResponse(
-                this.identityRepository.save(this.identityMapper.toEntity(identityRequest))
-        );
+        Identity identity = this.identityRepository.save(this.identityMapper.toEntity(identityRequest));
+        this.cachingAuthenticationProvider.invalidate(identity.getId());
+        this.tokenRevocationList.revoke(identity.getId());
+        return this.identityMapper.toResponse(identity);
     }
 
     @Override
@@ -75,6 +83,9 @@ public class IdentityService implements CrudService<IdentityRequest, IdentityWit
     public String delete(UUID uuid) {
         Identity identity = this.findIdentity(uuid);
         this.identityRepository.deleteIdentityById(identity.getId());
+        this.membershipService.invalidateAll();
+        this.cachingAuthenticationProvider.invalidate(identity.getId());
+        this.tokenRevocationList.revoke(identity.getId());
         return IdentityMessages.IDENTITY_DELETED.getMessage();
     }
 
@@ -94,6 +105,8 @@ public class IdentityService implements CrudService<IdentityRequest, IdentityWit
 
         identity.setPassword(this.passwordEncoder.encode(newPassword));
         this.identityRepository.save(identity);
+        this.cachingAuthenticationProvider.invalidate(identity.getId());
+        this.tokenRevocationList.revoke(identity.getId());
 
         return IdentityMessages.PASSWORD_CHANGED.getMessage();
     }
@@ -109,13 +122,18 @@ public class IdentityService implements CrudService<IdentityRequest, IdentityWit
 
         identity.setEnabled(enable);
         Identity saved = this.identityRepository.save(identity);
+        this.cachingAuthenticationProvider.invalidate(saved.getId());
+        this.tokenRevocationList.revoke(saved.getId());
         return saved.getEnabled() ? IdentityMessages.IDENTITY_ENABLED.getMessage() : IdentityMessages.IDENTITY_DISABLED.getMessage();
     }
 
     private Identity changeAuthority(final UUID identityId, final Authority authority) {
         Identity identity = this.findIdentity(identityId);
         identity.setAuthority(authority);
-        return this.identityRepository.save(identity);
+        Identity saved = this.identityRepository.save(identity);
+        this.cachingAuthenticationProvider.invalidate(saved.getId());
+        this.tokenRevocationList.revoke(saved.getId());
+        return saved;
     }
 
     @Transactional(
@@ -1,27 +1,53 @@
 package org.burgas.corporateservice.service;
 
 import jakarta.servlet.http.Part;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.burgas.corporateservice.config.MediaStorageProperties;
 import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporateservice.entity.MediaStorageType;
+import org.burgas.corporateservice.entity.MediaVariant;
+import org.burgas.corporateservice.event.MediaUploadedEvent;
 import org.burgas.corporateservice.exception.MediaNotFoundException;
 import org.burgas.corporateservice.message.MediaMessages;
 import org.burgas.corporateservice.repository.MediaRepository;
 import org.burgas.corporateservice.service.contract.FileService;
+import org.burgas.corporateservice.storage.MediaStorage;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class MediaService implements FileService<Media> {
 
     private final MediaRepository mediaRepository;
+    private final MediaStorageProperties mediaStorageProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Map<MediaStorageType, MediaStorage> mediaStorages = new EnumMap<>(MediaStorageType.class);
+
+    public MediaService(
+            MediaRepository mediaRepository, MediaStorageProperties mediaStorageProperties,
+            ApplicationEventPublisher applicationEventPublisher, List<MediaStorage> mediaStorages
+    ) {
+        this.mediaRepository = mediaRepository;
+        this.mediaStorageProperties = mediaStorageProperties;
+        this.applicationEventPublisher = applicationEventPublisher;
+        mediaStorages.forEach(mediaStorage -> this.mediaStorages.put(mediaStorage.type(), mediaStorage));
+    }
 
     @Override
     public Media findById(UUID uuid) {
@@ -29,35 +55,147 @@ public class MediaService implements FileService<Media> {
                 .orElseThrow(() -> new MediaNotFoundException(MediaMessages.MEDIA_NOT_FOUND.getMessage()));
     }
 
+    public Media findVariant(final UUID uuid, final MediaVariant variant) {
+        if (variant == null)
+            return this.findById(uuid);
+
+        return this.mediaRepository.findMediaByParentIdAndVariant(uuid, variant)
+                .orElseGet(() -> this.findById(uuid));
+    }
+
     @Override
-    @SneakyThrows
+    @Transactional(
+            isolation = Isolation.READ_COMMITTED, propagation = Propagation.REQUIRED,
+            rollbackFor = Exception.class
+    )
     public Media upload(Part part) {
         Media media = Media.builder()
                 .name(part.getSubmittedFileName())
                 .contentType(part.getContentType())
                 .format(Objects.requireNonNull(part.getContentType()).split("/")[1])
                 .size(part.getSize())
-                .data(part.getInputStream().readAllBytes())
                 .build();
-        return this.mediaRepository.save(media);
+        media = this.mediaRepository.saveAndFlush(media);
+        this.writeData(media, part);
+        this.publishUploaded(media);
+        return media;
     }
 
     @Override
-    @SneakyThrows
+    @Transactional(
+            isolation = Isolation.READ_COMMITTED, propagation = Propagation.REQUIRED,
+            rollbackFor = Exception.class
+    )
     public void change(UUID uuid, Part part) {
         Media media = this.findById(uuid);
+        MediaStorageType storage = media.getStorage();
+        String storageKey = media.getStorageKey();
+
         media.setId(media.getId());
         media.setName(part.getSubmittedFileName());
         media.setContentType(part.getContentType());
         media.setFormat(Objects.requireNonNull(part.getContentType()).split("/")[1]);
         media.setSize(part.getSize());
-        media.setData(part.getInputStream().readAllBytes());
-        this.mediaRepository.save(media);
+        media = this.mediaRepository.saveAndFlush(media);
+        this.writeData(media, part);
+        this.mediaStorages.get(storage).release(media.getId(), storageKey);
+        this.deleteVariants(media.getId());
+        this.publishUploaded(media);
     }
 
     @Override
+    @Transactional(
+            isolation = Isolation.READ_COMMITTED, propagation = Propagation.REQUIRED,
+            rollbackFor = Exception.class
+    )
     public void delete(UUID uuid) {
         Media media = this.findById(uuid);
+        this.deleteVariants(media.getId());
         this.mediaRepository.delete(media);
+        this.mediaRepository.flush();
+        this.mediaStorages.get(media.getStorage()).release(media.getId(), media.getStorageKey());
+    }
+
+    public void transferTo(final Media media, final long offset, final long length, final OutputStream outputStream) {
+        if (!this.mediaStorages.get(media.getStorage()).read(media, offset, length, outputStream))
+            throw new MediaNotFoundException(MediaMessages.MEDIA_CHANGED_WHILE_READING.getMessage());
+    }
+
+    public InputStream openContent(final Media media) {
+        return this.mediaStorages.get(media.getStorage()).open(media);
+    }
+
+    public List<UUID> findMediaIdsWithoutVariants(final Instant before, final int limit) {
+        return this.mediaRepository.findMediaIdsWithoutVariants(before, limit);
+    }
+
+    @Transactional(
+            isolation = Isolation.READ_COMMITTED, propagation = Propagation.REQUIRED,
+            rollbackFor = Exception.class
+    )
+    public void markVariantsGenerated(final UUID mediaId, final String etag) {
+        this.mediaRepository.updateVariantsEtag(mediaId, etag);
+    }
+
+    @Transactional(
+            isolation = Isolation.READ_COMMITTED, propagation = Propagation.REQUIRED,
+            rollbackFor = Exception.class
+    )
+    public void saveVariant(
+            final UUID parentId, final String parentEtag, final MediaVariant variant, final String contentType, final byte[] data
+    ) {
+        Media parent = this.mediaRepository.findById(parentId).orElse(null);
+        if (parent == null || !Objects.equals(parent.getEtag(), parentEtag))
+            return;
+
+        this.mediaRepository.findMediaByParentIdAndVariant(parentId, variant)
+                .ifPresent(this::deleteVariant);
+
+        String format = contentType.split("/")[1];
+        Media media = Media.builder()
+                .name(parent.getName() + "-" + variant.name().toLowerCase() + "." + format)
+                .contentType(contentType)
+                .format(format)
+                .size((long) data.length)
+                .parentId(parentId)
+                .variant(variant)
+                .build();
+        media = this.mediaRepository.saveAndFlush(media);
+        this.writeData(media, new ByteArrayInputStream(data), data.length);
+    }
+
+    private void deleteVariants(final UUID parentId) {
+        this.mediaRepository.findMediaByParentId(parentId)
+                .forEach(this::deleteVariant);
+    }
+
+    private void deleteVariant(final Media variant) {
+        this.mediaRepository.delete(variant);
+        this.mediaRepository.flush();
+        this.mediaStorages.get(variant.getStorage()).release(variant.getId(), variant.getStorageKey());
+    }
+
+    private void publishUploaded(final Media media) {
+        if (media.getContentType() != null && media.getContentType().startsWith("image/"))
+            this.applicationEventPublisher.publishEvent(new MediaUploadedEvent(media.getId(), media.getEtag()));
+    }
+
+    @SneakyThrows
+    private void writeData(final Media media, final Part part) {
+        try (InputStream inputStream = part.getInputStream()) {
+            this.writeData(media, inputStream, part.getSize());
+        }
+    }
+
+    private void writeData(final Media media, final InputStream inputStream, final long size) {
+        MediaStorage mediaStorage = this.mediaStorages.get(this.mediaStorageProperties.getType());
+        String storageKey = mediaStorage.write(media.getId(), inputStream, size);
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        this.mediaRepository.updateContent(media.getId(), mediaStorage.type(), storageKey, storageKey, updatedAt);
+
+        media.setStorage(mediaStorage.type());
+        media.setStorageKey(storageKey);
+        media.setEtag(storageKey);
+        media.setUpdatedAt(updatedAt);
     }
 }
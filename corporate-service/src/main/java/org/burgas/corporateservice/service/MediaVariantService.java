@@ -0,0 +1,139 @@
+package org.burgas.corporateservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporateservice.entity.MediaVariant;
+import org.burgas.corporateservice.event.MediaUploadedEvent;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaVariantService {
+
+    private static final long MAX_PIXELS = 40_000_000L;
+    private static final Duration REPAIR_DELAY = Duration.ofMinutes(1);
+
+    private final MediaService mediaService;
+    private final ThreadPoolTaskExecutor mediaVariantExecutor;
+
+    @Async("mediaVariantExecutor")
+    @TransactionalEventListener
+    public void generateVariants(final MediaUploadedEvent mediaUploadedEvent) {
+        this.generateVariants(mediaUploadedEvent.mediaId(), mediaUploadedEvent.etag());
+    }
+
+    @Scheduled(
+            initialDelayString = "${media.variants.repair-interval:PT5M}",
+            fixedDelayString = "${media.variants.repair-interval:PT5M}"
+    )
+    public void repairVariants() {
+        int capacity = this.mediaVariantExecutor.getThreadPoolExecutor().getQueue().remainingCapacity();
+        if (capacity == 0)
+            return;
+
+        List<UUID> mediaIds = this.mediaService.findMediaIdsWithoutVariants(Instant.now().minus(REPAIR_DELAY), capacity);
+        if (!mediaIds.isEmpty())
+            log.info("Regenerating variants for {} media", mediaIds.size());
+
+        mediaIds.forEach(mediaId -> this.mediaVariantExecutor.execute(() -> this.generateVariants(mediaId, null)));
+    }
+
+    @SneakyThrows
+    private void generateVariants(final UUID mediaId, final String etag) {
+        Media media = this.mediaService.findById(mediaId);
+        if (etag != null && !Objects.equals(media.getEtag(), etag))
+            return;
+
+        BufferedImage image;
+        try (InputStream inputStream = this.mediaService.openContent(media)) {
+            image = this.readImage(inputStream);
+        }
+        if (image == null) {
+            this.mediaService.markVariantsGenerated(media.getId(), media.getEtag());
+            return;
+        }
+
+        boolean alpha = image.getColorModel().hasAlpha();
+        for (MediaVariant variant : MediaVariant.values()) {
+            if (Math.max(image.getWidth(), image.getHeight()) <= variant.getSize())
+                continue;
+
+            BufferedImage scaled = this.scale(image, variant.getSize(), alpha);
+            ByteArrayOutputStream variantData = new ByteArrayOutputStream();
+            ImageIO.write(scaled, alpha ? "png" : "jpeg", variantData);
+
+            this.mediaService.saveVariant(
+                    media.getId(), media.getEtag(), variant, alpha ? "image/png" : "image/jpeg", variantData.toByteArray()
+            );
+        }
+        this.mediaService.markVariantsGenerated(media.getId(), media.getEtag());
+    }
+
+    @SneakyThrows
+    private BufferedImage readImage(final InputStream inputStream) {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> imageReaders = ImageIO.getImageReaders(imageInputStream);
+            if (!imageReaders.hasNext())
+                return null;
+
+            ImageReader imageReader = imageReaders.next();
+            try {
+                imageReader.setInput(imageInputStream, true, true);
+                if ((long) imageReader.getWidth(0) * imageReader.getHeight(0) > MAX_PIXELS)
+                    return null;
+
+                return imageReader.read(0);
+
+            } finally {
+                imageReader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(final BufferedImage image, final int size, final boolean alpha) {
+        double ratio = (double) size / Math.max(image.getWidth(), image.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+}
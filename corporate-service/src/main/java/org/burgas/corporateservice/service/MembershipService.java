@@ -0,0 +1,139 @@
+package org.burgas.corporateservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporateservice.exception.CorporationNotFoundException;
+import org.burgas.corporateservice.exception.DepartmentNotFoundException;
+import org.burgas.corporateservice.exception.PositionNotFoundException;
+import org.burgas.corporateservice.repository.CorporationRepository;
+import org.burgas.corporateservice.repository.DepartmentRepository;
+import org.burgas.corporateservice.repository.EmployeeRepository;
+import org.burgas.corporateservice.repository.PositionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.burgas.corporateservice.message.CorporationMessages.CORPORATION_NOT_FOUND;
+import static org.burgas.corporateservice.message.DepartmentMessages.DEPARTMENT_NOT_FOUND;
+import static org.burgas.corporateservice.message.PositionMessages.POSITION_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+public class MembershipService {
+
+    private final CorporationRepository corporationRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final PositionRepository positionRepository;
+
+    private final Map<UUID, Membership> memberships = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Membership(Set<UUID> employees, Set<UUID> directors) {
+    }
+
+    public boolean isDirector(final UUID corporationId, final UUID identityId) {
+        return this.findMembership(corporationId).directors().contains(identityId);
+    }
+
+    public boolean isEmployeeOrDirector(final UUID corporationId, final UUID identityId) {
+        Membership membership = this.findMembership(corporationId);
+        return membership.employees().contains(identityId) || membership.directors().contains(identityId);
+    }
+
+    public boolean isDepartmentEmployee(final UUID departmentId, final UUID identityId) {
+        if (departmentId == null)
+            throw new DepartmentNotFoundException(DEPARTMENT_NOT_FOUND.getMessage());
+
+        return this.departmentRepository.findDepartmentEmployeeByIdentityId(departmentId, identityId)
+                .orElseThrow(() -> new DepartmentNotFoundException(DEPARTMENT_NOT_FOUND.getMessage()));
+    }
+
+    public UUID findCorporationIdByDepartment(final UUID departmentId) {
+        if (departmentId == null)
+            throw new DepartmentNotFoundException(DEPARTMENT_NOT_FOUND.getMessage());
+
+        return this.departmentRepository.findCorporationIdByDepartmentId(departmentId)
+                .orElseThrow(() -> new DepartmentNotFoundException(DEPARTMENT_NOT_FOUND.getMessage()));
+    }
+
+    public UUID findCorporationIdByPosition(final UUID positionId) {
+        if (positionId == null)
+            throw new PositionNotFoundException(POSITION_NOT_FOUND.getMessage());
+
+        return this.positionRepository.findCorporationIdByPositionId(positionId)
+                .orElseThrow(() -> new PositionNotFoundException(POSITION_NOT_FOUND.getMessage()));
+    }
+
+    public void invalidate(final UUID corporationId) {
+        if (corporationId == null)
+            return;
+
+        this.evict(corporationId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            evict(corporationId);
+                        }
+                    }
+            );
+        }
+    }
+
+    public void invalidateAll() {
+        this.evictAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            evictAll();
+                        }
+                    }
+            );
+        }
+    }
+
+    private Membership findMembership(final UUID corporationId) {
+        if (corporationId == null)
+            throw new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage());
+
+        Membership membership = this.memberships.get(corporationId);
+        if (membership != null)
+            return membership;
+
+        long loadedGeneration = this.generation.get();
+        if (!this.corporationRepository.existsById(corporationId))
+            throw new CorporationNotFoundException(CORPORATION_NOT_FOUND.getMessage());
+
+        membership = new Membership(
+                new HashSet<>(this.employeeRepository.findIdentityIdsByCorporationId(corporationId)),
+                new HashSet<>(this.corporationRepository.findDirectorsByCorporationId(corporationId))
+        );
+        if (this.generation.get() == loadedGeneration)
+            this.memberships.putIfAbsent(corporationId, membership);
+
+        return membership;
+    }
+
+    private void evict(final UUID corporationId) {
+        this.generation.incrementAndGet();
+        this.memberships.remove(corporationId);
+    }
+
+    private void evictAll() {
+        this.generation.incrementAndGet();
+        this.memberships.clear();
+    }
+}
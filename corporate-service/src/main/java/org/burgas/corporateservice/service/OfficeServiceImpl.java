@@ -1,13 +1,14 @@
 package org.burgas.corporateservice.service;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.office.OfficeWithEmployeesResponse;
 import org.burgas.corporateservice.dto.office.OfficeRequest;
-import org.burgas.corporateservice.dto.office.OfficeWithEmployeesResponse;
 import org.burgas.corporateservice.entity.Office;
 import org.burgas.corporateservice.entity.OfficePK;
 import org.burgas.corporateservice.exception.OfficeNotFoundException;
 import org.burgas.corporateservice.mapper.OfficeMapper;
 import org.burgas.corporateservice.message.OfficeMessages;
+import org.burgas.corporateservice.repository.CorporationRepository;
 import org.burgas.corporateservice.repository.OfficeRepository;
 import org.burgas.corporateservice.service.contract.OfficeService;
 import org.springframework.stereotype.Service;
@@ -28,7 +29,10 @@ import static org.burgas.corporateservice.message.OfficeMessages.OFFICE_NOT_FOUN
 public class OfficeServiceImpl implements OfficeService<OfficeRequest, OfficeWithEmployeesResponse> {
 
     private final OfficeRepository officeRepository;
+    private final CorporationRepository corporationRepository;
     private final OfficeMapper officeMapper;
+    private final MembershipService membershipService;
+    private final CorporationCatalogService corporationCatalogService;
 
     public Office findOffice(final OfficePK officePK) {
         return this.officeRepository.findById(officePK == null ? new OfficePK() : officePK)
@@ -36,6 +40,7 @@ public class OfficeServiceImpl implements OfficeService<OfficeRequest, OfficeWit
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public List<OfficeWithEmployeesResponse> findByCorporationId(UUID corporationId) {
         return this.officeRepository.findOfficesByCorporationId(
                         corporationId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : corporationId
@@ -46,6 +51,7 @@ public class OfficeServiceImpl implements OfficeService<OfficeRequest, OfficeWit
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public OfficeWithEmployeesResponse findById(OfficePK officePK) {
         return this.officeMapper.toResponse(this.findOffice(officePK));
     }
@@ -56,9 +62,10 @@ public class OfficeServiceImpl implements OfficeService<OfficeRequest, OfficeWit
             rollbackFor = Exception.class
     )
     public OfficeWithEmployeesResponse createOrUpdate(OfficeRequest officeRequest) {
-        return this.officeMapper.toResponse(
-                this.officeRepository.save(this.officeMapper.toEntity(officeRequest))
-        );
+        Office office = this.officeRepository.save(this.officeMapper.toEntity(officeRequest));
+        this.membershipService.invalidate(office.getOfficePK().getCorporationId());
+        this.corporationCatalogService.invalidate();
+        return this.officeMapper.toResponse(office);
     }
 
     @Override
@@ -71,6 +78,9 @@ public class OfficeServiceImpl implements OfficeService<OfficeRequest, OfficeWit
         this.officeRepository.deleteOfficeByOfficePK(
                 office.getOfficePK().getCorporationId(), office.getOfficePK().getAddressId()
         );
+        this.corporationRepository.incrementOfficesAmount(office.getOfficePK().getCorporationId(), -1);
+        this.membershipService.invalidate(office.getOfficePK().getCorporationId());
+        this.corporationCatalogService.invalidate();
         return OfficeMessages.OFFICE_DELETED.getMessage();
     }
 }
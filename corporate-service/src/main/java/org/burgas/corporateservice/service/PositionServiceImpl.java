@@ -1,8 +1,8 @@
 package org.burgas.corporateservice.service;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.dto.position.PositionWithEmployeeResponse;
 import org.burgas.corporateservice.dto.position.PositionRequest;
-import org.burgas.corporateservice.dto.position.PositionWithEmployeeResponse;
 import org.burgas.corporateservice.entity.Department;
 import org.burgas.corporateservice.entity.Position;
 import org.burgas.corporateservice.exception.PositionNotFoundException;
@@ -41,6 +41,7 @@ public class PositionServiceImpl implements PositionService<PositionRequest, Pos
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public List<PositionWithEmployeeResponse> findByDepartmentId(UUID departmentId) {
         Department department = this.departmentService.findDepartment(departmentId);
         return this.positionRepository.findPositionsByDepartment(department)
@@ -50,6 +51,7 @@ public class PositionServiceImpl implements PositionService<PositionRequest, Pos
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public List<PositionWithEmployeeResponse> findByCorporationId(UUID corporationId) {
         return this.positionRepository.findPositionsByCorporationId(
                         corporationId == null ? UUID.nameUUIDFromBytes("0".getBytes(StandardCharsets.UTF_8)) : corporationId
@@ -60,6 +62,7 @@ public class PositionServiceImpl implements PositionService<PositionRequest, Pos
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
     public PositionWithEmployeeResponse findById(UUID positionId) {
         return this.positionMapper.toResponse(this.findPosition(positionId));
     }
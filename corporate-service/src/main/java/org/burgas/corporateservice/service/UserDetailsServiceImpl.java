@@ -1,6 +1,7 @@
 package org.burgas.corporateservice.service;
 
 import lombok.RequiredArgsConstructor;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
 import org.burgas.corporateservice.exception.IdentityNotFoundException;
 import org.burgas.corporateservice.message.IdentityMessages;
 import org.burgas.corporateservice.repository.IdentityRepository;
@@ -20,7 +21,8 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return this.identityRepository.findIdentityByEmail(username)
+        return this.identityRepository.findIdentityCredentialsByEmail(username)
+                .map(IdentityPrincipal::from)
                 .orElseThrow(() -> new IdentityNotFoundException(IdentityMessages.IDENTITY_NOT_FOUND.getMessage()));
     }
 }
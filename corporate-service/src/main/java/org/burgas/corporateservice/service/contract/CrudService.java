@@ -1,7 +1,7 @@
 package org.burgas.corporateservice.service.contract;
 
+import org.burgas.corporatecommon.dto.Response;
 import org.burgas.corporateservice.dto.Request;
-import org.burgas.corporateservice.dto.Response;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
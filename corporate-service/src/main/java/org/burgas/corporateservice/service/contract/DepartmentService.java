@@ -1,7 +1,7 @@
 package org.burgas.corporateservice.service.contract;
 
+import org.burgas.corporatecommon.dto.department.DepartmentWithOfficesResponse;
 import org.burgas.corporateservice.dto.department.DepartmentRequest;
-import org.burgas.corporateservice.dto.department.DepartmentWithOfficesResponse;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -1,7 +1,7 @@
 package org.burgas.corporateservice.service.contract;
 
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
 import org.burgas.corporateservice.dto.employee.EmployeeRequest;
-import org.burgas.corporateservice.dto.employee.EmployeeWithOfficeResponse;
 import org.burgas.corporateservice.entity.OfficePK;
 import org.springframework.stereotype.Service;
 
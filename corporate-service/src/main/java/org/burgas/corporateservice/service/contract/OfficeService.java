@@ -1,7 +1,7 @@
 package org.burgas.corporateservice.service.contract;
 
+import org.burgas.corporatecommon.dto.office.OfficeWithEmployeesResponse;
 import org.burgas.corporateservice.dto.office.OfficeRequest;
-import org.burgas.corporateservice.dto.office.OfficeWithEmployeesResponse;
 import org.burgas.corporateservice.entity.OfficePK;
 import org.springframework.stereotype.Service;
 
@@ -1,7 +1,7 @@
 package org.burgas.corporateservice.service.contract;
 
+import org.burgas.corporatecommon.dto.position.PositionWithEmployeeResponse;
 import org.burgas.corporateservice.dto.position.PositionRequest;
-import org.burgas.corporateservice.dto.position.PositionWithEmployeeResponse;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -0,0 +1,83 @@
+package org.burgas.corporateservice.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporateservice.entity.MediaStorageType;
+import org.burgas.corporateservice.repository.MediaRepository;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+
+import static org.burgas.corporateservice.message.MediaMessages.MEDIA_CHANGED_WHILE_READING;
+
+@Component
+@RequiredArgsConstructor
+public class DatabaseMediaStorage implements MediaStorage {
+
+    private static final int CHUNK_SIZE = 256 * 1024;
+
+    private final MediaRepository mediaRepository;
+
+    @Override
+    public MediaStorageType type() {
+        return MediaStorageType.DATABASE;
+    }
+
+    @Override
+    public String write(final UUID mediaId, final InputStream inputStream, final long size) {
+        return this.mediaRepository.writeData(mediaId, inputStream, size);
+    }
+
+    @Override
+    public boolean read(final Media media, final long offset, final long length, final OutputStream outputStream) {
+        return this.mediaRepository.readData(media.getId(), media.getEtag(), offset, length, outputStream);
+    }
+
+    @Override
+    public void release(final UUID mediaId, final String storageKey) {
+        this.mediaRepository.deleteUnreferencedData(mediaId);
+    }
+
+    @Override
+    public InputStream open(final Media media) {
+        return new InputStream() {
+
+            private final ByteArrayOutputStream chunk = new ByteArrayOutputStream(CHUNK_SIZE);
+            private byte[] buffer = new byte[0];
+            private int bufferPosition;
+            private long position;
+
+            @Override
+            public int read() throws IOException {
+                byte[] single = new byte[1];
+                return this.read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte @NotNull [] bytes, int offset, int length) throws IOException {
+                if (this.bufferPosition == this.buffer.length) {
+                    long remaining = media.getSize() - this.position;
+                    if (remaining <= 0)
+                        return -1;
+
+                    this.chunk.reset();
+                    if (!mediaRepository.readData(media.getId(), media.getEtag(), this.position, Math.min(CHUNK_SIZE, remaining), this.chunk))
+                        throw new IOException(MEDIA_CHANGED_WHILE_READING.getMessage());
+
+                    this.buffer = this.chunk.toByteArray();
+                    this.bufferPosition = 0;
+                    this.position += this.buffer.length;
+                }
+                int read = Math.min(length, this.buffer.length - this.bufferPosition);
+                System.arraycopy(this.buffer, this.bufferPosition, bytes, offset, read);
+                this.bufferPosition += read;
+                return read;
+            }
+        };
+    }
+}
@@ -0,0 +1,256 @@
+package org.burgas.corporateservice.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservice.config.MediaStorageProperties;
+import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporateservice.entity.MediaStorageType;
+import org.burgas.corporateservice.repository.MediaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileSystemMediaStorage implements MediaStorage {
+
+    private static final long MAPPING_SIZE = 16L * 1024 * 1024;
+    private static final Pattern STORAGE_KEY = Pattern.compile("[0-9a-f]{64}");
+    private static final int LOCK_STRIPES = 64;
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final MediaStorageProperties mediaStorageProperties;
+    private final MediaRepository mediaRepository;
+
+    private final Object[] locks = Stream.generate(Object::new).limit(LOCK_STRIPES).toArray();
+    private final Map<String, Integer> pending = new ConcurrentHashMap<>();
+    private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public MediaStorageType type() {
+        return MediaStorageType.FILESYSTEM;
+    }
+
+    @Override
+    @SneakyThrows
+    public String write(final UUID mediaId, final InputStream inputStream, final long size) {
+        Path temporaryDirectory = Files.createDirectories(this.mediaStorageProperties.getRoot().resolve("tmp"));
+        Path temporary = Files.createTempFile(temporaryDirectory, mediaId.toString(), ".part");
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            try (
+                    FileChannel fileChannel = FileChannel.open(temporary, StandardOpenOption.WRITE);
+                    DigestInputStream digestInputStream = new DigestInputStream(inputStream, messageDigest)
+            ) {
+                digestInputStream.transferTo(Channels.newOutputStream(fileChannel));
+                fileChannel.force(true);
+            }
+            if (Files.size(temporary) != size)
+                throw new IllegalArgumentException("Media size does not match the uploaded content");
+
+            String storageKey = HexFormat.of().formatHex(messageDigest.digest());
+            Path path = this.resolve(storageKey);
+            Files.createDirectories(path.getParent());
+            synchronized (this.lock(storageKey)) {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                this.pending.merge(storageKey, 1, Integer::sum);
+            }
+            this.forceDirectory(path.getParent());
+            this.completeOnTransactionEnd(storageKey);
+            return storageKey;
+
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean read(final Media media, final long offset, final long length, final OutputStream outputStream) {
+        try (FileChannel fileChannel = FileChannel.open(this.resolve(media.getStorageKey()), StandardOpenOption.READ)) {
+            if (fileChannel.size() < offset + length)
+                return false;
+
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                long window = Math.min(MAPPING_SIZE, remaining);
+                MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, window);
+                while (mappedByteBuffer.hasRemaining())
+                    target.write(mappedByteBuffer);
+
+                position += window;
+                remaining -= window;
+            }
+            outputStream.flush();
+            return true;
+
+        } catch (NoSuchFileException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public InputStream open(final Media media) {
+        return Files.newInputStream(this.resolve(media.getStorageKey()), StandardOpenOption.READ);
+    }
+
+    @Override
+    public void release(final UUID mediaId, final String storageKey) {
+        if (storageKey != null)
+            this.candidates.add(storageKey);
+    }
+
+    @Scheduled(fixedDelayString = "${media.storage.collect-interval:PT1M}")
+    public void collect() {
+        Instant threshold = Instant.now().minus(this.mediaStorageProperties.getGracePeriod());
+        for (String storageKey : List.copyOf(this.candidates)) {
+            if (this.collect(storageKey, threshold))
+                this.candidates.remove(storageKey);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${media.storage.collect-interval:PT1M}",
+            fixedDelayString = "${media.storage.sweep-interval:PT6H}"
+    )
+    public void sweep() {
+        Path root = this.mediaStorageProperties.getRoot();
+        if (!Files.isDirectory(root))
+            return;
+
+        Instant threshold = Instant.now().minus(this.mediaStorageProperties.getGracePeriod());
+        List<String> storageKeys = new ArrayList<>(SWEEP_BATCH_SIZE);
+        try (Stream<Path> paths = Files.walk(root, 3)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                String name = path.getFileName().toString();
+                if (path.getParent().equals(root.resolve("tmp"))) {
+                    if (this.isOlder(path, threshold))
+                        Files.deleteIfExists(path);
+
+                } else if (STORAGE_KEY.matcher(name).matches() && this.isOlder(path, threshold)) {
+                    storageKeys.add(name);
+                    if (storageKeys.size() == SWEEP_BATCH_SIZE)
+                        this.addUnreferenced(storageKeys);
+                }
+            }
+            this.addUnreferenced(storageKeys);
+
+        } catch (IOException | UncheckedIOException exception) {
+            log.warn("Media storage sweep failed: {}", exception.getMessage());
+        }
+        this.collect();
+    }
+
+    private void completeOnTransactionEnd(final String storageKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            complete(storageKey, status == STATUS_COMMITTED);
+                        }
+                    }
+            );
+
+        } else {
+            this.complete(storageKey, true);
+        }
+    }
+
+    private void complete(final String storageKey, final boolean committed) {
+        synchronized (this.lock(storageKey)) {
+            this.pending.computeIfPresent(storageKey, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (!committed)
+            this.candidates.add(storageKey);
+    }
+
+    private boolean collect(final String storageKey, final Instant threshold) {
+        Path path = this.resolve(storageKey);
+        synchronized (this.lock(storageKey)) {
+            try {
+                if (this.pending.containsKey(storageKey) || !this.isOlder(path, threshold))
+                    return !Files.exists(path);
+
+                if (!this.mediaRepository.existsMediaByStorageAndStorageKey(MediaStorageType.FILESYSTEM, storageKey))
+                    Files.deleteIfExists(path);
+                return true;
+
+            } catch (IOException exception) {
+                log.warn("Media {} was not collected: {}", storageKey, exception.getMessage());
+                return false;
+            }
+        }
+    }
+
+    private void addUnreferenced(final List<String> storageKeys) {
+        if (storageKeys.isEmpty())
+            return;
+
+        Set<String> unreferenced = new HashSet<>(storageKeys);
+        this.mediaRepository.findStorageKeysByStorageAndStorageKeyIn(MediaStorageType.FILESYSTEM, storageKeys)
+                .forEach(unreferenced::remove);
+        this.candidates.addAll(unreferenced);
+        storageKeys.clear();
+    }
+
+    private boolean isOlder(final Path path, final Instant threshold) throws IOException {
+        try {
+            FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+            return lastModifiedTime.toInstant().isBefore(threshold);
+
+        } catch (NoSuchFileException exception) {
+            return false;
+        }
+    }
+
+    private Object lock(final String storageKey) {
+        return this.locks[Math.floorMod(storageKey.hashCode(), LOCK_STRIPES)];
+    }
+
+    private Path resolve(final String storageKey) {
+        if (storageKey == null || !STORAGE_KEY.matcher(storageKey).matches())
+            throw new IllegalArgumentException("Wrong media storage key: " + storageKey);
+
+        return this.mediaStorageProperties.getRoot()
+                .resolve(storageKey.substring(0, 2))
+                .resolve(storageKey.substring(2, 4))
+                .resolve(storageKey);
+    }
+
+    private void forceDirectory(final Path directory) {
+        try (FileChannel fileChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            fileChannel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+}
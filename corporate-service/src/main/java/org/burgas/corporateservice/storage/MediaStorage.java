@@ -0,0 +1,21 @@
+package org.burgas.corporateservice.storage;
+
+import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporateservice.entity.MediaStorageType;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface MediaStorage {
+
+    MediaStorageType type();
+
+    String write(final UUID mediaId, final InputStream inputStream, final long size);
+
+    boolean read(final Media media, final long offset, final long length, final OutputStream outputStream);
+
+    InputStream open(final Media media);
+
+    void release(final UUID mediaId, final String storageKey);
+}
@@ -0,0 +1,82 @@
+package org.burgas.corporateservice.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.corporateservice.config.MediaStorageProperties;
+import org.burgas.corporateservice.entity.Media;
+import org.burgas.corporateservice.entity.MediaStorageType;
+import org.burgas.corporateservice.repository.MediaRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "media.storage", name = "migrate", havingValue = "true")
+public class MediaStorageMigration implements ApplicationRunner {
+
+    private final MediaRepository mediaRepository;
+    private final MediaStorageProperties mediaStorageProperties;
+    private final DatabaseMediaStorage databaseMediaStorage;
+    private final FileSystemMediaStorage fileSystemMediaStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int migrated = 0;
+        int failed = 0;
+        UUID cursor = new UUID(0L, 0L);
+
+        List<Media> medias;
+        do {
+            medias = this.mediaRepository.findMediaByStorageAfter(
+                    MediaStorageType.DATABASE.name(), cursor, this.mediaStorageProperties.getMigrateBatchSize()
+            );
+            for (Media media : medias) {
+                try {
+                    this.transactionTemplate.executeWithoutResult(status -> this.migrate(media));
+                    migrated++;
+
+                } catch (RuntimeException exception) {
+                    failed++;
+                    log.warn("Media {} was not migrated: {}", media.getId(), exception.getMessage());
+                }
+                cursor = media.getId();
+            }
+
+        } while (!medias.isEmpty());
+
+        log.info("Media storage migration finished: {} migrated, {} failed", migrated, failed);
+        int exitCode = failed == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(this.applicationContext, () -> exitCode));
+    }
+
+    private void migrate(final Media media) {
+        String storageKey;
+        try (InputStream inputStream = this.databaseMediaStorage.open(media)) {
+            storageKey = this.fileSystemMediaStorage.write(media.getId(), inputStream, media.getSize());
+
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception.getMessage(), exception);
+        }
+
+        if (!storageKey.equals(media.getEtag()))
+            throw new IllegalStateException("Media content does not match its etag");
+
+        this.mediaRepository.updateContent(
+                media.getId(), MediaStorageType.FILESYSTEM, storageKey, media.getEtag(), media.getUpdatedAt()
+        );
+        this.databaseMediaStorage.release(media.getId(), null);
+    }
+}
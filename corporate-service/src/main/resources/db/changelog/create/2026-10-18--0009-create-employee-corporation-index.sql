@@ -0,0 +1,4 @@
+--liquibase formatted sql
+
+--changeset burgasvv:1
+create index if not exists employee_office_corporation_id_id_idx on employee (office_corporation_id, id);
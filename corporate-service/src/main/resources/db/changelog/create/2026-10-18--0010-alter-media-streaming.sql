@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset burgasvv:1
+alter table media alter column data drop not null;
+alter table media alter column data set storage external;
+alter table media add column if not exists etag varchar;
+alter table media add column if not exists updated_at timestamp with time zone default now() not null;
+update media set etag = encode(sha256(data), 'hex') where data is not null;
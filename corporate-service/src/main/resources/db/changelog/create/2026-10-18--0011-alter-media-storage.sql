@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset burgasvv:1
+alter table media add column if not exists storage varchar default 'DATABASE' not null;
+alter table media add column if not exists storage_key varchar;
+update media set storage_key = etag where storage_key is null;
+create index if not exists media_storage_storage_key_idx on media (storage, storage_key);
@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+--changeset burgasvv:1
+alter table media add column if not exists parent_id uuid references media (id) on delete cascade;
+alter table media add column if not exists variant varchar;
+create unique index if not exists media_parent_id_variant_idx on media (parent_id, variant);
@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset burgasvv:1
+create table if not exists token_revocation (
+    identity_id uuid primary key ,
+    revoked_at bigint not null
+);
+
+--changeset burgasvv:2
+create index if not exists token_revocation_revoked_at_idx on token_revocation (revoked_at);
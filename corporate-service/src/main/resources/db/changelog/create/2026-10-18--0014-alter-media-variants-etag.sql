@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset burgasvv:1
+alter table media add column if not exists variants_etag varchar;
+update media m set variants_etag = m.etag
+where m.parent_id is null and exists (select 1 from media v where v.parent_id = m.id);
+
+--changeset burgasvv:2
+create index if not exists media_variants_pending_idx on media (updated_at)
+where parent_id is null and variants_etag is distinct from etag;
@@ -0,0 +1,68 @@
+package org.burgas.corporateservice;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.stream.Stream;
+
+@SpringBootTest
+@SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+@Sql(scripts = "/fixtures.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS, config = @SqlConfig(encoding = "UTF-8"))
+public abstract class EmbeddedDatabaseTests {
+
+    private static final EmbeddedPostgres EMBEDDED_POSTGRES = start();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("spring.datasource.url", () -> EMBEDDED_POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.jpa.show-sql", () -> false);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> true);
+        registry.add("media.storage.root", Files.createTempDirectory("corporate-service-media")::toString);
+        registry.add("security.token.secret", EmbeddedDatabaseTests::secret);
+        registry.add("security.csrf.secret", EmbeddedDatabaseTests::secret);
+        Stream.of(
+                "media.storage.collect-interval", "media.storage.sweep-interval", "media.variants.repair-interval",
+                "amounts.reconciliation.initial-delay", "corporations.catalog.retry-interval", "security.token.revocation-refresh"
+        ).forEach(interval -> registry.add(interval, () -> "PT24H"));
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres embeddedPostgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(
+                            () -> {
+                                try {
+                                    embeddedPostgres.close();
+
+                                } catch (IOException exception) {
+                                    throw new UncheckedIOException(exception);
+                                }
+                            }
+                    )
+            );
+            return embeddedPostgres;
+
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static String secret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+}
@@ -0,0 +1,134 @@
+package org.burgas.corporateservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.burgas.corporateservice.EmbeddedDatabaseTests;
+import org.burgas.corporateservice.entity.Employee;
+import org.burgas.corporateservice.entity.Identity;
+import org.burgas.corporateservice.entity.OfficePK;
+import org.burgas.corporateservice.service.*;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseSerializationTests extends EmbeddedDatabaseTests {
+
+    private static final UUID DIRECTOR_ID = UUID.fromString("fc3e0ce7-f705-4e50-8e3f-1d956b6e9f5b");
+    private static final UUID WORKER_ID = UUID.fromString("2fd62d00-a511-43ac-91f3-b0a7672aa8d0");
+    private static final UUID CORPORATION_ID = UUID.fromString("19897db2-00f9-4bfb-99a0-7497e17f336a");
+    private static final UUID DEPARTMENT_ID = UUID.fromString("30a50aec-6820-4478-8e3f-046e8aaa2a22");
+    private static final UUID POSITION_ID = UUID.fromString("b67a56cc-dd23-40fc-9471-e8c6e531ead7");
+    private static final UUID EMPLOYEE_ID = UUID.fromString("1766dfce-0f45-4c94-88bf-758933e5e7b6");
+    private static final OfficePK OFFICE_PK = new OfficePK(CORPORATION_ID, UUID.fromString("79a9da7c-82cd-46db-94e2-d10a62dbeb4e"));
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IdentityService identityService;
+
+    @Autowired
+    private CorporationService corporationService;
+
+    @Autowired
+    private DepartmentServiceImpl departmentService;
+
+    @Autowired
+    private OfficeServiceImpl officeService;
+
+    @Autowired
+    private PositionServiceImpl positionService;
+
+    @Autowired
+    private EmployeeServiceImpl employeeService;
+
+    @Test
+    void associationsAreNotLoadedWithTheirOwner() {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        EntityManager entityManager = this.entityManagerFactory.createEntityManager();
+        try {
+            statistics.clear();
+            Identity identity = entityManager.find(Identity.class, WORKER_ID);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertFalse(this.entityManagerFactory.getPersistenceUnitUtil().isLoaded(identity, "employee"));
+
+            statistics.clear();
+            Identity director = entityManager.find(Identity.class, DIRECTOR_ID);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertFalse(Hibernate.isInitialized(director.getImage()));
+
+            statistics.clear();
+            entityManager.find(Employee.class, EMPLOYEE_ID);
+            assertEquals(1, statistics.getPrepareStatementCount());
+
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void identityResponsesSerialize() throws Exception {
+        JsonNode worker = this.serialize(this.identityService.findById(WORKER_ID));
+        assertEquals("Палышев", worker.at("/employee/firstName").asText());
+        assertEquals("Москва", worker.at("/employee/address/city").asText());
+        assertEquals("Начальник Кадрового Отдела", worker.at("/employee/position/name").asText());
+        assertEquals("Новосибирск", worker.at("/employee/office/address/city").asText());
+
+        JsonNode director = this.serialize(this.identityService.findById(DIRECTOR_ID));
+        assertEquals("director.png", director.at("/image/name").asText());
+        assertTrue(director.path("employee").isNull());
+
+        assertTrue(this.serialize(this.identityService.findAll()).size() >= 3);
+    }
+
+    @Test
+    void corporationResponsesSerialize() throws Exception {
+        JsonNode corporation = this.serialize(this.corporationService.findById(CORPORATION_ID));
+        assertEquals("corporation.png", corporation.at("/image/name").asText());
+        assertEquals("Отдел Кадров", corporation.at("/departments/0/name").asText());
+        assertEquals("Новосибирск", corporation.at("/departments/0/offices/0/address/city").asText());
+
+        assertFalse(this.serialize(this.corporationService.findAll()).isEmpty());
+    }
+
+    @Test
+    void departmentAndOfficeResponsesSerialize() throws Exception {
+        JsonNode department = this.serialize(this.departmentService.findById(DEPARTMENT_ID));
+        assertEquals("MediaSET Corp.", department.at("/offices/0/corporation/name").asText());
+
+        JsonNode office = this.serialize(this.officeService.findById(OFFICE_PK));
+        assertEquals("Новосибирск", office.at("/address/city").asText());
+        assertEquals(2, office.path("employees").size());
+        assertEquals("Отдел Кадров", office.at("/departments/0/name").asText());
+        assertEquals("corporation.png", office.at("/corporation/image/name").asText());
+    }
+
+    @Test
+    void positionAndEmployeeResponsesSerialize() throws Exception {
+        JsonNode position = this.serialize(this.positionService.findById(POSITION_ID));
+        assertEquals("Отдел Кадров", position.at("/department/name").asText());
+        assertEquals("worker", position.at("/employee/identity/username").asText());
+
+        JsonNode employee = this.serialize(this.employeeService.findById(EMPLOYEE_ID));
+        assertEquals("worker@gmail.com", employee.at("/identity/email").asText());
+        assertEquals("MediaSET Corp.", employee.at("/office/corporation/name").asText());
+
+        assertEquals(2, this.serialize(this.employeeService.findByCorporationId(CORPORATION_ID)).size());
+        assertEquals(2, this.serialize(this.employeeService.findByOffice(OFFICE_PK)).size());
+    }
+
+    private JsonNode serialize(final Object response) throws Exception {
+        return this.objectMapper.readTree(this.objectMapper.writeValueAsString(response));
+    }
+}
@@ -0,0 +1,79 @@
+package org.burgas.corporateservice.mapper;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
+import org.burgas.corporateservice.EmbeddedDatabaseTests;
+import org.burgas.corporateservice.service.EmployeeServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Sql(scripts = "/employee-statements.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS, config = @SqlConfig(encoding = "UTF-8"))
+class EmployeeMapperStatementTests extends EmbeddedDatabaseTests {
+
+    private static final UUID SINGLE_EMPLOYEE_CORPORATION_ID = UUID.fromString("6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d01");
+    private static final UUID MANY_EMPLOYEES_CORPORATION_ID = UUID.fromString("6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d02");
+
+    @Autowired
+    private EmployeeServiceImpl employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final int MANY_EMPLOYEES = 130;
+
+    @Test
+    void findByCorporationIdIssuesSameStatementCountForAnyEmployeeCount() {
+        assertEquals(
+                this.statements(() -> this.employeeService.findByCorporationId(SINGLE_EMPLOYEE_CORPORATION_ID).size(), 1),
+                this.statements(() -> this.employeeService.findByCorporationId(MANY_EMPLOYEES_CORPORATION_ID).size(), MANY_EMPLOYEES)
+        );
+    }
+
+    @Test
+    void findPageByCorporationIdIssuesSameStatementCountForAnyEmployeeCount() {
+        assertEquals(
+                this.statements(
+                        () -> this.employeeService.findByCorporationId(SINGLE_EMPLOYEE_CORPORATION_ID, null, MANY_EMPLOYEES)
+                                .getEmployees().size(), 1
+                ),
+                this.statements(
+                        () -> this.employeeService.findByCorporationId(MANY_EMPLOYEES_CORPORATION_ID, null, MANY_EMPLOYEES)
+                                .getEmployees().size(), MANY_EMPLOYEES
+                )
+        );
+    }
+
+    @Test
+    void streamByCorporationIdIssuesSameStatementCountForAnyEmployeeCount() {
+        assertEquals(
+                this.statements(() -> this.stream(SINGLE_EMPLOYEE_CORPORATION_ID), 1),
+                this.statements(() -> this.stream(MANY_EMPLOYEES_CORPORATION_ID), MANY_EMPLOYEES)
+        );
+    }
+
+    private int stream(final UUID corporationId) {
+        List<EmployeeWithOfficeResponse> employees = new ArrayList<>();
+        this.employeeService.streamByCorporationId(corporationId, employees::add);
+        return employees.size();
+    }
+
+    private long statements(final IntSupplier employeesSupplier, final int employees) {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        assertEquals(employees, employeesSupplier.getAsInt());
+        return statistics.getPrepareStatementCount();
+    }
+}
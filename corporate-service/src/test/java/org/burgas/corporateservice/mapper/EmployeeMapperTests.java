@@ -0,0 +1,127 @@
+package org.burgas.corporateservice.mapper;
+
+import org.burgas.corporatecommon.dto.employee.EmployeeWithOfficeResponse;
+import org.burgas.corporateservice.entity.*;
+import org.burgas.corporateservice.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class EmployeeMapperTests {
+
+    private AddressRepository addressRepository;
+    private CorporationRepository corporationRepository;
+    private EmployeeMapper employeeMapper;
+
+    private final List<Corporation> corporations = List.of(corporation(), corporation(), corporation());
+
+    @BeforeEach
+    void setUp() {
+        this.addressRepository = mock(AddressRepository.class);
+        this.corporationRepository = mock(CorporationRepository.class);
+        this.employeeMapper = new EmployeeMapper(
+                mock(EmployeeRepository.class), mock(OfficeRepository.class), this.addressRepository,
+                this.corporationRepository, new CorporationMapper(this.corporationRepository, this.addressRepository),
+                mock(IdentityRepository.class), mock(PositionRepository.class)
+        );
+
+        when(this.addressRepository.findAllById(any())).thenAnswer(
+                invocation -> {
+                    Iterable<UUID> addressIds = invocation.getArgument(0);
+                    List<Address> addresses = new ArrayList<>();
+                    addressIds.forEach(addressId -> addresses.add(Address.builder().id(addressId).city("city").build()));
+                    return addresses;
+                }
+        );
+        when(this.corporationRepository.findCorporationsByIdIn(anyCollection())).thenAnswer(
+                invocation -> {
+                    Collection<UUID> corporationIds = invocation.getArgument(0);
+                    return this.corporations.stream()
+                            .filter(corporation -> corporationIds.contains(corporation.getId()))
+                            .toList();
+                }
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 1000})
+    void toResponsesIssuesFixedQueryCount(int size) {
+        List<EmployeeWithOfficeResponse> responses = this.employeeMapper.toResponses(employees(size));
+
+        assertEquals(size, responses.size());
+        verify(this.addressRepository, times(1)).findAllById(any());
+        verify(this.corporationRepository, times(1)).findCorporationsByIdIn(anyCollection());
+        verifyNoMoreInteractions(this.addressRepository, this.corporationRepository);
+    }
+
+    @Test
+    void toResponsesMatchesSingleMapping() {
+        List<Employee> employees = employees(5);
+        employees.forEach(
+                employee -> when(this.addressRepository.findById(employee.getOffice().getOfficePK().getAddressId()))
+                        .thenReturn(Optional.of(Address.builder().id(employee.getOffice().getOfficePK().getAddressId()).city("city").build()))
+        );
+        this.corporations.forEach(
+                corporation -> when(this.corporationRepository.findById(corporation.getId()))
+                        .thenReturn(Optional.of(corporation))
+        );
+
+        List<EmployeeWithOfficeResponse> responses = this.employeeMapper.toResponses(employees);
+
+        for (int i = 0; i < employees.size(); i++) {
+            EmployeeWithOfficeResponse expected = this.employeeMapper.toResponse(employees.get(i));
+            assertEquals(expected.getId(), responses.get(i).getId());
+            assertEquals(expected.getOffice().getAddress().getId(), responses.get(i).getOffice().getAddress().getId());
+            assertEquals(expected.getOffice().getCorporation().getId(), responses.get(i).getOffice().getCorporation().getId());
+        }
+    }
+
+    @Test
+    void toResponsesSkipsQueriesForEmptyList() {
+        assertTrue(this.employeeMapper.toResponses(List.of()).isEmpty());
+        verifyNoInteractions(this.addressRepository, this.corporationRepository);
+    }
+
+    private List<Employee> employees(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(
+                        index -> Employee.builder()
+                                .id(UUID.randomUUID())
+                                .firstName("first-name-" + index)
+                                .office(
+                                        Office.builder()
+                                                .officePK(
+                                                        OfficePK.builder()
+                                                                .corporationId(this.corporations.get(index % this.corporations.size()).getId())
+                                                                .addressId(UUID.randomUUID())
+                                                                .build()
+                                                )
+                                                .build()
+                                )
+                                .build()
+                )
+                .toList();
+    }
+
+    private static Corporation corporation() {
+        return Corporation.builder()
+                .id(UUID.randomUUID())
+                .name("corporation")
+                .directors(List.of(UUID.randomUUID()))
+                .departments(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package org.burgas.corporateservice.security;
+
+import org.burgas.corporatecommon.identity.Authority;
+import org.burgas.corporatecommon.security.IdentityPrincipal;
+import org.burgas.corporatecommon.security.TokenService;
+import org.burgas.corporateservice.EmbeddedDatabaseTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationListTests extends EmbeddedDatabaseTests {
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private PlatformTransactionManager platformTransactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void tokenIssuedBeforeCommitIsRevoked() {
+        IdentityPrincipal identityPrincipal = principal();
+        String token = new TransactionTemplate(this.platformTransactionManager).execute(
+                status -> {
+                    this.tokenRevocationList.revoke(identityPrincipal.id());
+                    sleep();
+                    return this.tokenService.issue(identityPrincipal).getToken();
+                }
+        );
+
+        assertTrue(this.tokenService.verify(token).isEmpty());
+        assertEquals(1, this.revocations(identityPrincipal.id()));
+    }
+
+    @Test
+    void revocationIsDroppedOnRollback() {
+        IdentityPrincipal identityPrincipal = principal();
+        String token = this.tokenService.issue(identityPrincipal).getToken();
+        sleep();
+
+        new TransactionTemplate(this.platformTransactionManager).executeWithoutResult(
+                status -> {
+                    this.tokenRevocationList.revoke(identityPrincipal.id());
+                    status.setRollbackOnly();
+                }
+        );
+
+        assertFalse(this.tokenService.verify(token).isEmpty());
+        assertEquals(0, this.revocations(identityPrincipal.id()));
+    }
+
+    private int revocations(final UUID identityId) {
+        return this.jdbcTemplate.queryForObject(
+                "select count(*) from token_revocation where identity_id = ?", Integer.class, identityId
+        );
+    }
+
+    private static IdentityPrincipal principal() {
+        return new IdentityPrincipal(UUID.randomUUID(), "revocation@gmail.com", null, Authority.WORKER, true, null, null);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
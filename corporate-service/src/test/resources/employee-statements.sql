@@ -0,0 +1,57 @@
+-- One corporation with a single employee and one with 130, more than twice the batch fetch size.
+-- Every employee has its own identity with an image, address, position and office.
+
+insert into corporation(id, name, description, offices_amount, employees_amount, directors, image_id)
+values
+    ('6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d01', 'Single Employee Corp.', 'Corporation with a single employee', 1, 1, array[]::uuid[], null),
+    ('6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d02', 'Many Employees Corp.', 'Corporation with many employees', 130, 130, array[]::uuid[], null)
+on conflict do nothing;
+
+insert into address(id, country, city, street, house, apartment)
+select md5('statements-address-' || n)::uuid, 'Российская Федерация', 'Город ' || n, 'ул. Тестовая', n::varchar, null
+from generate_series(1, 131) n
+on conflict do nothing;
+
+insert into address(id, country, city, street, house, apartment)
+select md5('statements-office-address-' || n)::uuid, 'Российская Федерация', 'Город ' || n, 'ул. Офисная', n::varchar, null
+from generate_series(1, 131) n
+on conflict do nothing;
+
+insert into office(corporation_id, address_id, employees_amount)
+select case when n = 1 then '6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d01'::uuid else '6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d02'::uuid end,
+       md5('statements-office-address-' || n)::uuid, 1
+from generate_series(1, 131) n
+on conflict do nothing;
+
+insert into department(id, name, description, corporation_id)
+values
+    ('6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4e01', 'Single Employee Department', 'Department with a single employee', '6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d01'),
+    ('6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4e02', 'Many Employees Department', 'Department with many employees', '6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d02')
+on conflict do nothing;
+
+insert into position(id, name, description, department_id)
+select md5('statements-position-' || n)::uuid, 'Должность ' || n, 'Описание должности ' || n,
+       case when n = 1 then '6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4e01'::uuid else '6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4e02'::uuid end
+from generate_series(1, 131) n
+on conflict do nothing;
+
+insert into media(id, name, content_type, format, size, data)
+select md5('statements-media-' || n)::uuid, 'statements-' || n || '.png', 'image/png', 'png', 3, '\x010203'
+from generate_series(1, 131) n
+on conflict do nothing;
+
+insert into identity(id, authority, username, password, email, phone, enabled, image_id)
+select md5('statements-identity-' || n)::uuid, 'WORKER', 'statements-' || n,
+       '$2a$10$aCmndmfkGdA5vmqlGdBHQ.umOsqyur50vwV4zC2BFg9jJp/IN6ROa', 'statements-' || n || '@gmail.com', '+7(999)-000-' || lpad(n::varchar, 4, '0'),
+       true, md5('statements-media-' || n)::uuid
+from generate_series(1, 131) n
+on conflict do nothing;
+
+insert into employee(id, identity_id, first_name, last_name, patronymic, about, address_id, office_corporation_id, office_address_id, position_id)
+select md5('statements-employee-' || n)::uuid, md5('statements-identity-' || n)::uuid, 'Имя ' || n, 'Фамилия ' || n, 'Отчество ' || n,
+       'Описание сотрудника ' || n, md5('statements-address-' || n)::uuid,
+       case when n = 1 then '6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d01'::uuid else '6f1d2c3b-5a4e-4f70-8d9c-0b1a2e3f4d02'::uuid end,
+       md5('statements-office-address-' || n)::uuid,
+       md5('statements-position-' || n)::uuid
+from generate_series(1, 131) n
+on conflict do nothing;
@@ -0,0 +1,57 @@
+-- Shared by the database-backed tests, every statement is idempotent because the script runs once per test class
+
+insert into media(id, name, content_type, format, size, data)
+values
+    ('0c1e4a52-7f31-4c1d-9d43-56a1c0b5e101', 'director.png', 'image/png', 'png', 3, '\x010203'),
+    ('0c1e4a52-7f31-4c1d-9d43-56a1c0b5e102', 'corporation.png', 'image/png', 'png', 3, '\x010203')
+on conflict do nothing;
+
+insert into identity(id, authority, username, password, email, phone, enabled, image_id)
+values
+    ('fc3e0ce7-f705-4e50-8e3f-1d956b6e9f5b', 'DIRECTOR', 'director',
+     '$2a$10$wb8mk.hcISNrrqOfEexzlOiJKf7CxtJyCtXQDso06BaLgxalGwyEW', 'director@gmail.com', '+7(888)-523-45-75', true,
+     '0c1e4a52-7f31-4c1d-9d43-56a1c0b5e101'),
+    ('2fd62d00-a511-43ac-91f3-b0a7672aa8d0', 'WORKER', 'worker',
+     '$2a$10$aCmndmfkGdA5vmqlGdBHQ.umOsqyur50vwV4zC2BFg9jJp/IN6ROa', 'worker@gmail.com', '+7(888)-523-45-77', true, null),
+    ('bae9e303-8ff0-4bbe-ba0f-053ba344e9c8', 'WORKER', 'assistant',
+     '$2a$10$aCmndmfkGdA5vmqlGdBHQ.umOsqyur50vwV4zC2BFg9jJp/IN6ROa', 'assistant@gmail.com', '+7(888)-523-45-79', true, null)
+on conflict do nothing;
+
+insert into corporation(id, name, description, offices_amount, employees_amount, directors, image_id)
+values ('19897db2-00f9-4bfb-99a0-7497e17f336a', 'MediaSET Corp.', 'Описание корпорации MediaSET Corp.', 1, 2,
+        array['fc3e0ce7-f705-4e50-8e3f-1d956b6e9f5b']::uuid[], '0c1e4a52-7f31-4c1d-9d43-56a1c0b5e102')
+on conflict do nothing;
+
+insert into address(id, country, city, street, house, apartment)
+values
+    ('79a9da7c-82cd-46db-94e2-d10a62dbeb4e', 'Российская Федерация', 'Новосибирск', 'ул. Российская', '15/1', null),
+    ('5b0f4f6e-0d1c-4c0e-9a51-3f7e3a1d2b01', 'Российская Федерация', 'Москва', 'ул. Мясницкая', '125/4', '54'),
+    ('5b0f4f6e-0d1c-4c0e-9a51-3f7e3a1d2b02', 'Российская Федерация', 'Москва', 'ул. Мясницкая', '125/4', '55')
+on conflict do nothing;
+
+insert into office(corporation_id, address_id, employees_amount)
+values ('19897db2-00f9-4bfb-99a0-7497e17f336a', '79a9da7c-82cd-46db-94e2-d10a62dbeb4e', 2)
+on conflict do nothing;
+
+insert into department(id, name, description, corporation_id)
+values ('30a50aec-6820-4478-8e3f-046e8aaa2a22', 'Отдел Кадров', 'Описание отдела кадров', '19897db2-00f9-4bfb-99a0-7497e17f336a')
+on conflict do nothing;
+
+insert into office_department(office_corporation_id, office_address_id, department_id)
+select '19897db2-00f9-4bfb-99a0-7497e17f336a', '79a9da7c-82cd-46db-94e2-d10a62dbeb4e', '30a50aec-6820-4478-8e3f-046e8aaa2a22'
+where not exists (select 1 from office_department where department_id = '30a50aec-6820-4478-8e3f-046e8aaa2a22');
+
+insert into position(id, name, description, department_id)
+values ('b67a56cc-dd23-40fc-9471-e8c6e531ead7', 'Начальник Кадрового Отдела', 'Описание должности Начальника Кадрового Отдела',
+        '30a50aec-6820-4478-8e3f-046e8aaa2a22')
+on conflict do nothing;
+
+insert into employee(id, identity_id, first_name, last_name, patronymic, about, address_id, office_corporation_id, office_address_id, position_id)
+values
+    ('1766dfce-0f45-4c94-88bf-758933e5e7b6', '2fd62d00-a511-43ac-91f3-b0a7672aa8d0', 'Палышев', 'Аркадий', 'Викторович',
+     'Описание сотрудника и должность', '5b0f4f6e-0d1c-4c0e-9a51-3f7e3a1d2b01',
+     '19897db2-00f9-4bfb-99a0-7497e17f336a', '79a9da7c-82cd-46db-94e2-d10a62dbeb4e', 'b67a56cc-dd23-40fc-9471-e8c6e531ead7'),
+    ('19d23b68-2c5f-4bbb-bf90-bfd15ea9871f', 'bae9e303-8ff0-4bbe-ba0f-053ba344e9c8', 'Рукольский', 'Руслан', 'Владимирович',
+     'Описание второго сотрудника', '5b0f4f6e-0d1c-4c0e-9a51-3f7e3a1d2b02',
+     '19897db2-00f9-4bfb-99a0-7497e17f336a', '79a9da7c-82cd-46db-94e2-d10a62dbeb4e', null)
+on conflict do nothing;
@@ -2,6 +2,9 @@ package org.burgas.proxyserver;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Clock;
 
 @SpringBootApplication
 public class ProxyServerApplication {
@@ -10,4 +13,9 @@ public class ProxyServerApplication {
         SpringApplication.run(ProxyServerApplication.class, args);
     }
 
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+
 }
@@ -0,0 +1,27 @@
+package org.burgas.proxyserver.balancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+public class CorporateServiceLoadBalancerConfig {
+
+    @Bean
+    public ServiceInstanceListSupplier serviceInstanceListSupplier(final ConfigurableApplicationContext context) {
+        return ServiceInstanceListSupplier.builder()
+                .withDiscoveryClient()
+                .withHealthChecks()
+                .build(context);
+    }
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(
+            final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+            final InstanceStatistics instanceStatistics
+    ) {
+        return new LeastOutstandingLoadBalancer(serviceInstanceListSupplierProvider, instanceStatistics);
+    }
+}
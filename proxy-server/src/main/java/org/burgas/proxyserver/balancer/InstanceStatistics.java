@@ -0,0 +1,94 @@
+package org.burgas.proxyserver.balancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.proxyserver.config.UpstreamPoolProperties;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.stereotype.Component;
+
+import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class InstanceStatistics implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final UpstreamPoolProperties upstreamPoolProperties;
+    private final Clock clock;
+    private final Map<String, AtomicInteger> outstanding = new ConcurrentHashMap<>();
+    private final Map<String, Instant> ejectedUntil = new ConcurrentHashMap<>();
+
+    public InstanceStatistics(UpstreamPoolProperties upstreamPoolProperties, Clock clock) {
+        this.upstreamPoolProperties = upstreamPoolProperties;
+        this.clock = clock;
+    }
+
+    public int outstanding(final ServiceInstance instance) {
+        AtomicInteger counter = this.outstanding.get(key(instance));
+        return counter == null ? 0 : counter.get();
+    }
+
+    public boolean isEjected(final ServiceInstance instance) {
+        Instant until = this.ejectedUntil.get(key(instance));
+        if (until == null)
+            return false;
+
+        if (this.clock.instant().isBefore(until))
+            return true;
+
+        this.ejectedUntil.remove(key(instance), until);
+        log.info("Upstream instance {} reinstated", key(instance));
+        return false;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer())
+            this.outstanding.computeIfAbsent(key(lbResponse.getServer()), key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer())
+            return;
+
+        String key = key(lbResponse.getServer());
+        AtomicInteger counter = this.outstanding.get(key);
+        if (counter != null)
+            counter.updateAndGet(value -> Math.max(0, value - 1));
+
+        if (isConnectFailure(completionContext.getThrowable())) {
+            this.ejectedUntil.put(key, this.clock.instant().plus(this.upstreamPoolProperties.getEjectionDuration()));
+            log.warn("Upstream instance {} ejected after connection failure", key);
+        }
+    }
+
+    private static boolean isConnectFailure(final Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException)
+                return true;
+        }
+        return false;
+    }
+
+    private static String key(final ServiceInstance instance) {
+        return instance.getUri().toString();
+    }
+}
@@ -0,0 +1,65 @@
+package org.burgas.proxyserver.balancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class LeastOutstandingLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final InstanceStatistics instanceStatistics;
+
+    public LeastOutstandingLoadBalancer(
+            ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider, InstanceStatistics instanceStatistics
+    ) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.instanceStatistics = instanceStatistics;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = this.serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+
+        return supplier.get(request)
+                .next()
+                .map(this::choose);
+    }
+
+    private Response<ServiceInstance> choose(final List<ServiceInstance> instances) {
+        List<ServiceInstance> available = instances.stream()
+                .filter(instance -> !this.instanceStatistics.isEjected(instance))
+                .toList();
+        List<ServiceInstance> candidates = available.isEmpty() ? instances : available;
+
+        if (candidates.isEmpty())
+            return new EmptyResponse();
+
+        if (candidates.size() == 1)
+            return new DefaultResponse(candidates.get(0));
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first)
+            second++;
+
+        ServiceInstance firstInstance = candidates.get(first);
+        ServiceInstance secondInstance = candidates.get(second);
+        return new DefaultResponse(
+                this.instanceStatistics.outstanding(secondInstance) < this.instanceStatistics.outstanding(firstInstance) ?
+                        secondInstance : firstInstance
+        );
+    }
+}
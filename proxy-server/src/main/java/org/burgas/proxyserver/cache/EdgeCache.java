@@ -0,0 +1,213 @@
+package org.burgas.proxyserver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.burgas.proxyserver.config.EdgeCacheProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class EdgeCache {
+
+    private static final int HEADERS_WEIGHT = 1024;
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "set-cookie", "age", "x-cache"
+    );
+
+    private final EdgeCacheProperties edgeCacheProperties;
+    private final Clock clock;
+    private final Cache<String, EdgeCacheEntry> entries;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+
+    record Policy(Duration ttl, Duration staleWhileRevalidate) {
+    }
+
+    public EdgeCache(EdgeCacheProperties edgeCacheProperties, Clock clock) {
+        this.edgeCacheProperties = edgeCacheProperties;
+        this.clock = clock;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(edgeCacheProperties.getMaxSize().toBytes())
+                .weigher((String key, EdgeCacheEntry entry) -> key.length() + entry.body().length + HEADERS_WEIGHT)
+                .build();
+    }
+
+    public static String key(final ServerHttpRequest request) {
+        URI uri = request.getURI();
+        return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    }
+
+    public static String headerValue(final HttpHeaders headers, final String name) {
+        return String.join(",", headers.getOrEmpty(name));
+    }
+
+    public Instant now() {
+        return this.clock.instant();
+    }
+
+    public EdgeCacheEntry find(final String key, final HttpHeaders requestHeaders) {
+        EdgeCacheEntry entry = this.entries.getIfPresent(key);
+        return entry != null && entry.matches(requestHeaders) ? entry : null;
+    }
+
+    public boolean isStorable(final HttpStatusCode status, final HttpHeaders responseHeaders) {
+        if (!HttpStatus.OK.equals(status) || responseHeaders.containsKey(HttpHeaders.SET_COOKIE))
+            return false;
+
+        if (responseHeaders.getVary().contains("*"))
+            return false;
+
+        long contentLength = responseHeaders.getContentLength();
+        if (contentLength > this.edgeCacheProperties.getMaxEntrySize().toBytes())
+            return false;
+
+        return this.policy(responseHeaders) != null;
+    }
+
+    public void store(
+            final String key, final HttpStatusCode status, final HttpHeaders responseHeaders,
+            final byte[] body, final HttpHeaders requestHeaders
+    ) {
+        if (!this.isStorable(status, responseHeaders) || body.length > this.edgeCacheProperties.getMaxEntrySize().toBytes())
+            return;
+
+        Map<String, String> vary = new LinkedHashMap<>();
+        responseHeaders.getVary().forEach(name -> vary.put(name, headerValue(requestHeaders, name)));
+
+        HttpHeaders headers = new HttpHeaders();
+        responseHeaders.forEach(
+                (name, values) -> {
+                    if (!SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT)))
+                        headers.put(name, List.copyOf(values));
+                }
+        );
+        headers.setContentLength(body.length);
+        this.put(key, headers, body, vary);
+    }
+
+    public void refresh(final String key, final EdgeCacheEntry entry, final HttpHeaders notModifiedHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(entry.headers());
+        for (String name : List.of(HttpHeaders.CACHE_CONTROL, HttpHeaders.ETAG, HttpHeaders.EXPIRES, HttpHeaders.LAST_MODIFIED, HttpHeaders.DATE)) {
+            if (notModifiedHeaders.containsKey(name))
+                headers.put(name, List.copyOf(notModifiedHeaders.get(name)));
+        }
+
+        if (this.policy(headers) == null)
+            this.entries.invalidate(key);
+        else
+            this.put(key, headers, entry.body(), entry.vary());
+    }
+
+    public boolean startRevalidation(final String key) {
+        if (!this.revalidating.add(key))
+            return false;
+
+        this.revalidations.increment();
+        return true;
+    }
+
+    public void finishRevalidation(final String key) {
+        this.revalidating.remove(key);
+    }
+
+    public long purge(final String path) {
+        Set<String> keys = this.entries.asMap().keySet();
+        long before = keys.size();
+        if (path == null || path.isBlank())
+            this.entries.invalidateAll();
+        else
+            keys.removeIf(key -> key.equals(path) || key.startsWith(path + "?"));
+        return before - keys.size();
+    }
+
+    public void hit() {
+        this.hits.increment();
+    }
+
+    public void staleHit() {
+        this.staleHits.increment();
+    }
+
+    public void miss() {
+        this.misses.increment();
+    }
+
+    public Map<String, Long> statistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("entries", this.entries.estimatedSize());
+        statistics.put("hits", this.hits.sum());
+        statistics.put("staleHits", this.staleHits.sum());
+        statistics.put("misses", this.misses.sum());
+        statistics.put("revalidations", this.revalidations.sum());
+        return statistics;
+    }
+
+    private void put(final String key, final HttpHeaders headers, final byte[] body, final Map<String, String> vary) {
+        Policy policy = this.policy(headers);
+        if (policy == null)
+            return;
+
+        Instant now = this.now();
+        Instant freshUntil = now.plus(policy.ttl());
+        this.entries.put(
+                key,
+                new EdgeCacheEntry(
+                        HttpHeaders.readOnlyHttpHeaders(headers), body, Map.copyOf(vary),
+                        now, freshUntil, freshUntil.plus(policy.staleWhileRevalidate())
+                )
+        );
+    }
+
+    Policy policy(final HttpHeaders responseHeaders) {
+        Map<String, String> directives = new HashMap<>();
+        for (String directive : String.join(",", responseHeaders.getOrEmpty(HttpHeaders.CACHE_CONTROL)).split(",")) {
+            String[] parts = directive.trim().toLowerCase(Locale.ROOT).split("=", 2);
+            if (!parts[0].isEmpty())
+                directives.put(parts[0], parts.length > 1 ? parts[1].replace("\"", "") : "");
+        }
+
+        if (directives.containsKey("no-store") || directives.containsKey("private"))
+            return null;
+
+        Duration ttl;
+        if (directives.containsKey("no-cache"))
+            ttl = Duration.ZERO;
+        else if (directives.containsKey("s-maxage"))
+            ttl = seconds(directives.get("s-maxage"));
+        else if (directives.containsKey("max-age"))
+            ttl = seconds(directives.get("max-age"));
+        else
+            ttl = this.edgeCacheProperties.getDefaultTtl();
+
+        Duration staleWhileRevalidate = directives.containsKey("must-revalidate") || directives.containsKey("proxy-revalidate") ?
+                Duration.ZERO : seconds(directives.get("stale-while-revalidate"));
+
+        return ttl.isZero() && staleWhileRevalidate.isZero() ? null : new Policy(ttl, staleWhileRevalidate);
+    }
+
+    private static Duration seconds(final String value) {
+        try {
+            return value == null ? Duration.ZERO : Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+
+        } catch (NumberFormatException exception) {
+            return Duration.ZERO;
+        }
+    }
+}
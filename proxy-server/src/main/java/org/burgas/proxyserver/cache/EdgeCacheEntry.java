@@ -0,0 +1,26 @@
+package org.burgas.proxyserver.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record EdgeCacheEntry(
+        HttpHeaders headers, byte[] body, Map<String, String> vary,
+        Instant storedAt, Instant freshUntil, Instant staleUntil
+) {
+
+    public boolean isFresh(final Instant now) {
+        return now.isBefore(this.freshUntil);
+    }
+
+    public boolean isServable(final Instant now) {
+        return now.isBefore(this.staleUntil);
+    }
+
+    public boolean matches(final HttpHeaders requestHeaders) {
+        return this.vary.entrySet()
+                .stream()
+                .allMatch(header -> header.getValue().equals(EdgeCache.headerValue(requestHeaders, header.getKey())));
+    }
+}
@@ -0,0 +1,26 @@
+package org.burgas.proxyserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "edge.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    private int slidingWindowSize = 50;
+    private int minimumNumberOfCalls = 20;
+    private float failureRateThreshold = 50;
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(5);
+    private float slowCallRateThreshold = 80;
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+    private int permittedCallsInHalfOpenState = 5;
+    private Duration timeout = Duration.ofSeconds(30);
+    private Set<String> statusCodes = Set.of("500", "502", "504");
+}
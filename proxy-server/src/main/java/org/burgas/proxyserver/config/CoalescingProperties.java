@@ -0,0 +1,21 @@
+package org.burgas.proxyserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "edge.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+    private List<String> routes = List.of();
+    private List<String> varyHeaders = List.of("Accept", "Accept-Encoding", "Accept-Language");
+    private DataSize maxBodySize = DataSize.ofMegabytes(4);
+}
@@ -0,0 +1,25 @@
+package org.burgas.proxyserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "edge.cache")
+public class EdgeCacheProperties {
+
+    private boolean enabled = true;
+    private List<String> routes = List.of();
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+    private Duration defaultTtl = Duration.ZERO;
+    private Duration revalidationTimeout = Duration.ofSeconds(10);
+    private String purgeToken;
+}
@@ -1,22 +1,147 @@
 package org.burgas.proxyserver.config;
 
+import lombok.RequiredArgsConstructor;
+import org.burgas.proxyserver.balancer.CorporateServiceLoadBalancerConfig;
+import org.burgas.proxyserver.filter.ConcurrencyLimitGatewayFilter;
+import org.burgas.proxyserver.filter.EdgeCacheGatewayFilter;
+import org.burgas.proxyserver.filter.RateLimitGatewayFilter;
+import org.burgas.proxyserver.filter.SingleFlightGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.RetryGatewayFilterFactory;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.cloud.gateway.route.builder.UriSpec;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import java.net.ConnectException;
+import java.util.List;
 
 @Configuration
+@RequiredArgsConstructor
+@LoadBalancerClients({
+        @LoadBalancerClient(name = "corporate-service", configuration = CorporateServiceLoadBalancerConfig.class),
+        @LoadBalancerClient(name = "corporate-read-service", configuration = CorporateServiceLoadBalancerConfig.class)
+})
 public class ProxyConfig {
 
+    private static final String CORPORATE_SERVICE_URI = "lb://corporate-service";
+    private static final String CORPORATE_READ_SERVICE_URI = "lb://corporate-read-service";
+    private static final String CACHED_ROUTE_ID = "corporate-service-cached";
+    private static final String READ_CACHED_ROUTE_ID = "corporate-read-service-cached";
+    private static final String READ_ROUTE_ID = "corporate-read-service";
+    private static final String ROUTE_ID = "corporate-service";
+
+    private final EdgeCacheProperties edgeCacheProperties;
+    private final ReadServiceProperties readServiceProperties;
+    private final UpstreamPoolProperties upstreamPoolProperties;
+    private final CircuitBreakerProperties circuitBreakerProperties;
+    private final EdgeCacheGatewayFilter edgeCacheGatewayFilter;
+    private final SingleFlightGatewayFilter singleFlightGatewayFilter;
+    private final RateLimitGatewayFilter rateLimitGatewayFilter;
+    private final ConcurrencyLimitGatewayFilter concurrencyLimitGatewayFilter;
+
     @Bean
     public RouteLocator routeLocator(final RouteLocatorBuilder routeLocatorBuilder) {
-        return routeLocatorBuilder.routes()
+        List<String> readRoutes = this.readServiceProperties.isEnabled() ? this.readServiceProperties.getRoutes() : List.of();
+        List<String> cachedRoutes = this.edgeCacheProperties.getRoutes()
+                .stream()
+                .filter(route -> !readRoutes.contains(route))
+                .toList();
+        List<String> cachedReadRoutes = this.edgeCacheProperties.getRoutes()
+                .stream()
+                .filter(readRoutes::contains)
+                .toList();
+        List<String> uncachedReadRoutes = readRoutes.stream()
+                .filter(route -> !cachedReadRoutes.contains(route))
+                .toList();
+
+        RouteLocatorBuilder.Builder routes = routeLocatorBuilder.routes();
+        if (!cachedReadRoutes.isEmpty()) {
+            routes.route(
+                    READ_CACHED_ROUTE_ID,
+                    predicateSpec -> predicateSpec
+                            .method(HttpMethod.GET)
+                            .and()
+                            .path(cachedReadRoutes.toArray(String[]::new))
+                            .filters(
+                                    gatewayFilterSpec -> this.readFilters(
+                                            gatewayFilterSpec.filter(this.edgeCacheGatewayFilter), READ_CACHED_ROUTE_ID
+                                    )
+                            )
+                            .uri(CORPORATE_READ_SERVICE_URI)
+            );
+        }
+        if (!cachedRoutes.isEmpty()) {
+            routes.route(
+                    CACHED_ROUTE_ID,
+                    predicateSpec -> predicateSpec
+                            .method(HttpMethod.GET)
+                            .and()
+                            .path(cachedRoutes.toArray(String[]::new))
+                            .filters(
+                                    gatewayFilterSpec -> this.upstreamFilters(
+                                            gatewayFilterSpec.filter(this.edgeCacheGatewayFilter), CACHED_ROUTE_ID
+                                    )
+                            )
+                            .uri(CORPORATE_SERVICE_URI)
+            );
+        }
+        if (!uncachedReadRoutes.isEmpty()) {
+            routes.route(
+                    READ_ROUTE_ID,
+                    predicateSpec -> predicateSpec
+                            .method(HttpMethod.GET)
+                            .and()
+                            .path(uncachedReadRoutes.toArray(String[]::new))
+                            .filters(gatewayFilterSpec -> this.readFilters(gatewayFilterSpec, READ_ROUTE_ID))
+                            .uri(CORPORATE_READ_SERVICE_URI)
+            );
+        }
+        return routes
                 .route(
-                        "corporate-service",
+                        ROUTE_ID,
                         predicateSpec -> predicateSpec
                                 .path("/api/v1/**")
-                                .uri("http://corporate-service:9000")
+                                .filters(gatewayFilterSpec -> this.upstreamFilters(gatewayFilterSpec, ROUTE_ID))
+                                .uri(CORPORATE_SERVICE_URI)
                 )
                 .build();
     }
+
+    private UriSpec readFilters(final GatewayFilterSpec gatewayFilterSpec, final String routeId) {
+        return gatewayFilterSpec
+                .filter(this.singleFlightGatewayFilter)
+                .filter(this.rateLimitGatewayFilter)
+                .circuitBreaker(
+                        config -> config
+                                .setName(routeId)
+                                .setStatusCodes(this.circuitBreakerProperties.getStatusCodes())
+                )
+                .retry(this::connectFailureRetry);
+    }
+
+    private UriSpec upstreamFilters(final GatewayFilterSpec gatewayFilterSpec, final String routeId) {
+        return gatewayFilterSpec
+                .filter(this.singleFlightGatewayFilter)
+                .filter(this.rateLimitGatewayFilter)
+                .circuitBreaker(
+                        config -> config
+                                .setName(routeId)
+                                .setStatusCodes(this.circuitBreakerProperties.getStatusCodes())
+                )
+                .retry(this::connectFailureRetry)
+                .filter(this.concurrencyLimitGatewayFilter);
+    }
+
+    private void connectFailureRetry(final RetryGatewayFilterFactory.RetryConfig retryConfig) {
+        retryConfig.setRetries(this.upstreamPoolProperties.getRetries())
+                .setMethods(HttpMethod.GET)
+                .setSeries()
+                .setStatuses()
+                .setExceptions(ConnectException.class);
+    }
 }
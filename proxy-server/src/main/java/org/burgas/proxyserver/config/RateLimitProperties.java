@@ -0,0 +1,41 @@
+package org.burgas.proxyserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "edge.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Duration idleEviction = Duration.ofMinutes(10);
+    private long maxBuckets = 100_000;
+    private Limit defaultLimit = new Limit();
+    private List<RouteLimit> routes = new ArrayList<>();
+    private Map<String, Limit> clients = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private long capacity = 200;
+        private double refillPerSecond = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class RouteLimit extends Limit {
+
+        private String path;
+    }
+}
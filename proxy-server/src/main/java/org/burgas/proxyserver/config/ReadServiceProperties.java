@@ -0,0 +1,18 @@
+package org.burgas.proxyserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "edge.read-service")
+public class ReadServiceProperties {
+
+    private boolean enabled = false;
+    private List<String> routes = List.of();
+}
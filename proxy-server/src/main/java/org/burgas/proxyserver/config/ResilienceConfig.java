@@ -0,0 +1,44 @@
+package org.burgas.proxyserver.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+public class ResilienceConfig {
+
+    private final CircuitBreakerProperties circuitBreakerProperties;
+
+    @Bean
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> circuitBreakerFactoryCustomizer() {
+        return factory -> factory.configureDefault(
+                id -> new Resilience4JConfigBuilder(id)
+                        .circuitBreakerConfig(
+                                CircuitBreakerConfig.custom()
+                                        .slidingWindowType(SlidingWindowType.COUNT_BASED)
+                                        .slidingWindowSize(this.circuitBreakerProperties.getSlidingWindowSize())
+                                        .minimumNumberOfCalls(this.circuitBreakerProperties.getMinimumNumberOfCalls())
+                                        .failureRateThreshold(this.circuitBreakerProperties.getFailureRateThreshold())
+                                        .slowCallDurationThreshold(this.circuitBreakerProperties.getSlowCallDurationThreshold())
+                                        .slowCallRateThreshold(this.circuitBreakerProperties.getSlowCallRateThreshold())
+                                        .waitDurationInOpenState(this.circuitBreakerProperties.getWaitDurationInOpenState())
+                                        .permittedNumberOfCallsInHalfOpenState(this.circuitBreakerProperties.getPermittedCallsInHalfOpenState())
+                                        .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                                        .build()
+                        )
+                        .timeLimiterConfig(
+                                TimeLimiterConfig.custom()
+                                        .timeoutDuration(this.circuitBreakerProperties.getTimeout())
+                                        .build()
+                        )
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package org.burgas.proxyserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "edge.upstream")
+public class UpstreamPoolProperties {
+
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+    private int retries = 2;
+}
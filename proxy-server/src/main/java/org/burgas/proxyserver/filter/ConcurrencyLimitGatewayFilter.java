@@ -0,0 +1,71 @@
+package org.burgas.proxyserver.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.burgas.proxyserver.config.ConcurrencyLimitProperties;
+import org.burgas.proxyserver.limit.AdaptiveConcurrencyLimiter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+
+@Component
+public class ConcurrencyLimitGatewayFilter implements GatewayFilter, Ordered {
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final Counter rejected;
+
+    public ConcurrencyLimitGatewayFilter(
+            ConcurrencyLimitProperties concurrencyLimitProperties, AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+            MeterRegistry meterRegistry
+    ) {
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+        this.adaptiveConcurrencyLimiter = adaptiveConcurrencyLimiter;
+        this.rejected = Counter.builder("gateway.concurrency.rejected")
+                .description("Requests shed with 503 because the adaptive concurrency limit was reached")
+                .register(meterRegistry);
+        meterRegistry.gauge("gateway.concurrency.limit", List.of(), adaptiveConcurrencyLimiter, AdaptiveConcurrencyLimiter::limit);
+        meterRegistry.gauge("gateway.concurrency.in.flight", List.of(), adaptiveConcurrencyLimiter, AdaptiveConcurrencyLimiter::inFlight);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!this.concurrencyLimitProperties.isEnabled())
+            return chain.filter(exchange);
+
+        int inFlight = this.adaptiveConcurrencyLimiter.tryAcquire();
+        if (inFlight < 0) {
+            this.rejected.increment();
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return exchange.getResponse().setComplete();
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(
+                        signal -> {
+                            this.adaptiveConcurrencyLimiter.release();
+                            if (signal == SignalType.CANCEL)
+                                return;
+
+                            HttpStatusCode status = exchange.getResponse().getStatusCode();
+                            boolean dropped = signal == SignalType.ON_ERROR || status != null && status.is5xxServerError();
+                            this.adaptiveConcurrencyLimiter.onSample(System.nanoTime() - start, inFlight, dropped);
+                        }
+                );
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+}
@@ -0,0 +1,215 @@
+package org.burgas.proxyserver.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.burgas.proxyserver.cache.EdgeCache;
+import org.burgas.proxyserver.cache.EdgeCacheEntry;
+import org.burgas.proxyserver.config.EdgeCacheProperties;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+@Slf4j
+@Component
+public class EdgeCacheGatewayFilter implements GatewayFilter, Ordered {
+
+    private static final String X_CACHE = "X-Cache";
+
+    private final EdgeCache edgeCache;
+    private final EdgeCacheProperties edgeCacheProperties;
+    private final WebClient webClient;
+
+    public EdgeCacheGatewayFilter(
+            EdgeCache edgeCache, EdgeCacheProperties edgeCacheProperties,
+            WebClient.Builder webClientBuilder, LoadBalancedExchangeFilterFunction loadBalancedExchangeFilterFunction
+    ) {
+        this.edgeCache = edgeCache;
+        this.edgeCacheProperties = edgeCacheProperties;
+        this.webClient = webClientBuilder.clone()
+                .filter(loadBalancedExchangeFilterFunction)
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize((int) edgeCacheProperties.getMaxEntrySize().toBytes()))
+                .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!this.edgeCacheProperties.isEnabled() || !this.isCacheable(request))
+            return chain.filter(exchange);
+
+        String key = EdgeCache.key(request);
+        Instant now = this.edgeCache.now();
+        EdgeCacheEntry entry = this.edgeCache.find(key, request.getHeaders());
+
+        if (entry != null && entry.isFresh(now)) {
+            this.edgeCache.hit();
+            return this.write(exchange, entry, now, "HIT");
+
+        } else if (entry != null && entry.isServable(now)) {
+            this.edgeCache.staleHit();
+            this.revalidate(exchange, key, entry);
+            return this.write(exchange, entry, now, "STALE");
+        }
+
+        this.edgeCache.miss();
+        return chain.filter(
+                exchange.mutate()
+                        .response(new CachingResponseDecorator(exchange.getResponse(), key, request.getHeaders()))
+                        .build()
+        );
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+    }
+
+    private boolean isCacheable(final ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return HttpMethod.GET.equals(request.getMethod()) &&
+               !headers.containsKey(HttpHeaders.AUTHORIZATION) &&
+               headers.getContentLength() <= 0 &&
+               !headers.containsKey(HttpHeaders.TRANSFER_ENCODING);
+    }
+
+    private Mono<Void> write(final ServerWebExchange exchange, final EdgeCacheEntry entry, final Instant now, final String state) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(entry.headers());
+        headers.set(HttpHeaders.AGE, String.valueOf(Duration.between(entry.storedAt(), now).toSeconds()));
+        headers.set(X_CACHE, state);
+
+        String eTag = entry.headers().getETag();
+        if (eTag != null && exchange.getRequest().getHeaders().getIfNoneMatch().contains(eTag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(entry.body())));
+    }
+
+    private void revalidate(final ServerWebExchange exchange, final String key, final EdgeCacheEntry entry) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        if (route == null || !this.edgeCache.startRevalidation(key))
+            return;
+
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders requestHeaders = HttpHeaders.readOnlyHttpHeaders(request.getHeaders());
+        URI uri = UriComponentsBuilder.fromUri(route.getUri())
+                .scheme("lb".equals(route.getUri().getScheme()) ? "http" : route.getUri().getScheme())
+                .replacePath(request.getURI().getRawPath())
+                .replaceQuery(request.getURI().getRawQuery())
+                .build(true)
+                .toUri();
+
+        this.webClient.get()
+                .uri(uri)
+                .headers(
+                        headers -> {
+                            entry.vary().keySet().forEach(name -> headers.put(name, requestHeaders.getOrEmpty(name)));
+                            if (entry.headers().getETag() != null)
+                                headers.setIfNoneMatch(entry.headers().getETag());
+                        }
+                )
+                .exchangeToMono(
+                        clientResponse -> {
+                            if (clientResponse.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                                this.edgeCache.refresh(key, entry, clientResponse.headers().asHttpHeaders());
+                                return clientResponse.releaseBody();
+                            }
+
+                            return clientResponse.bodyToMono(byte[].class)
+                                    .defaultIfEmpty(new byte[0])
+                                    .doOnNext(
+                                            body -> this.edgeCache.store(
+                                                    key, clientResponse.statusCode(), clientResponse.headers().asHttpHeaders(),
+                                                    body, requestHeaders
+                                            )
+                                    )
+                                    .then();
+                        }
+                )
+                .timeout(this.edgeCacheProperties.getRevalidationTimeout())
+                .doFinally(signal -> this.edgeCache.finishRevalidation(key))
+                .subscribe(
+                        unused -> {},
+                        throwable -> log.warn("Revalidation of {} failed: {}", key, throwable.getMessage())
+                );
+    }
+
+    private final class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final HttpHeaders requestHeaders;
+
+        private CachingResponseDecorator(ServerHttpResponse delegate, String key, HttpHeaders requestHeaders) {
+            super(delegate);
+            this.key = key;
+            this.requestHeaders = requestHeaders;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!edgeCache.isStorable(this.getStatusCode(), this.getHeaders()))
+                return super.writeWith(body);
+
+            this.getHeaders().set(X_CACHE, "MISS");
+            long maxEntrySize = edgeCacheProperties.getMaxEntrySize().toBytes();
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            boolean[] overflow = {false};
+
+            Flux<? extends DataBuffer> teed = Flux.from(body)
+                    .doOnNext(
+                            buffer -> {
+                                if (overflow[0] || content.size() + buffer.readableByteCount() > maxEntrySize) {
+                                    overflow[0] = true;
+                                    return;
+                                }
+                                try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                                    while (iterator.hasNext()) {
+                                        ByteBuffer byteBuffer = iterator.next();
+                                        byte[] bytes = new byte[byteBuffer.remaining()];
+                                        byteBuffer.get(bytes);
+                                        content.write(bytes, 0, bytes.length);
+                                    }
+                                }
+                            }
+                    )
+                    .doOnComplete(
+                            () -> {
+                                if (!overflow[0])
+                                    edgeCache.store(this.key, this.getStatusCode(), this.getHeaders(), content.toByteArray(), this.requestHeaders);
+                            }
+                    );
+
+            return super.writeWith(teed);
+        }
+    }
+}
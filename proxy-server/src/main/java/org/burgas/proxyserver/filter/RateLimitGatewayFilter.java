@@ -0,0 +1,74 @@
+package org.burgas.proxyserver.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.burgas.proxyserver.config.RateLimitProperties;
+import org.burgas.proxyserver.ratelimit.RateLimiter;
+import org.burgas.proxyserver.ratelimit.TokenBucket;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitGatewayFilter implements GatewayFilter, Ordered {
+
+    private static final String X_RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
+    private final Counter rejected;
+
+    public RateLimitGatewayFilter(RateLimitProperties rateLimitProperties, RateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.rateLimiter = rateLimiter;
+        this.rejected = Counter.builder("gateway.requests.rate.limited")
+                .description("Requests rejected with 429 by the local rate limiter")
+                .register(meterRegistry);
+        meterRegistry.gauge("gateway.rate.limit.buckets", List.of(), rateLimiter, RateLimiter::size);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!this.rateLimitProperties.isEnabled())
+            return chain.filter(exchange);
+
+        ServerHttpRequest request = exchange.getRequest();
+        TokenBucket.Probe probe = this.rateLimiter.tryConsume(request.getPath().value(), client(request));
+        ServerHttpResponse response = exchange.getResponse();
+
+        if (probe.consumed()) {
+            response.getHeaders().set(X_RATE_LIMIT_REMAINING, String.valueOf(probe.remaining()));
+            return chain.filter(exchange);
+        }
+
+        this.rejected.increment();
+        long retryAfter = Math.max(1, (long) Math.ceil((double) probe.nanosToWait() / TimeUnit.SECONDS.toNanos(1)));
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.getHeaders().set(X_RATE_LIMIT_REMAINING, "0");
+        return response.setComplete();
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER;
+    }
+
+    private static String client(final ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress == null || remoteAddress.getAddress() == null ?
+                "unknown" : remoteAddress.getAddress().getHostAddress();
+    }
+}
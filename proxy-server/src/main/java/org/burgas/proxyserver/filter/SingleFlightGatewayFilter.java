@@ -0,0 +1,189 @@
+package org.burgas.proxyserver.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.burgas.proxyserver.config.CoalescingProperties;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class SingleFlightGatewayFilter implements GatewayFilter, Ordered {
+
+    private static final List<String> CONDITIONAL_HEADERS = List.of(HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
+    private final CoalescingProperties coalescingProperties;
+    private final List<PathPattern> routes;
+    private final Map<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter collapsed;
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    public SingleFlightGatewayFilter(CoalescingProperties coalescingProperties, MeterRegistry meterRegistry) {
+        this.coalescingProperties = coalescingProperties;
+        this.routes = coalescingProperties.getRoutes()
+                .stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.collapsed = Counter.builder("gateway.requests.collapsed")
+                .description("GET requests answered from a concurrent identical upstream call")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("gateway.requests.in.flight", List.of(), this.inFlight);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!this.coalescingProperties.isEnabled() || !this.isCollapsible(request))
+            return chain.filter(exchange);
+
+        String key = this.key(request);
+        Sinks.One<SharedResponse> sink = Sinks.one();
+        Sinks.One<SharedResponse> leader = this.inFlight.putIfAbsent(key, sink);
+
+        if (leader != null) {
+            this.collapsed.increment();
+            return leader.asMono()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(
+                            shared -> shared.map(response -> this.write(exchange, response))
+                                    .orElseGet(() -> chain.filter(exchange))
+                    );
+        }
+
+        return chain.filter(exchange.mutate().response(new SharingResponseDecorator(exchange.getResponse(), key, sink)).build())
+                .doFinally(
+                        signal -> {
+                            this.inFlight.remove(key, sink);
+                            sink.tryEmitEmpty();
+                        }
+                );
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private boolean isCollapsible(final ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        PathContainer path = request.getPath().pathWithinApplication();
+        return HttpMethod.GET.equals(request.getMethod()) &&
+               this.routes.stream().anyMatch(route -> route.matches(path)) &&
+               !headers.containsKey(HttpHeaders.RANGE) &&
+               !headers.containsKey(HttpHeaders.IF_RANGE) &&
+               !headers.containsKey(HttpHeaders.AUTHORIZATION) &&
+               !headers.containsKey(HttpHeaders.COOKIE) &&
+               headers.getContentLength() <= 0 &&
+               !headers.containsKey(HttpHeaders.TRANSFER_ENCODING);
+    }
+
+    private String key(final ServerHttpRequest request) {
+        URI uri = request.getURI();
+        StringBuilder key = new StringBuilder(uri.getRawPath());
+        if (uri.getRawQuery() != null)
+            key.append('?').append(uri.getRawQuery());
+
+        HttpHeaders headers = request.getHeaders();
+        for (String name : this.coalescingProperties.getVaryHeaders())
+            key.append('\n').append(name).append(':').append(String.join(",", headers.getOrEmpty(name)));
+
+        for (String name : CONDITIONAL_HEADERS)
+            key.append('\n').append(name).append(':').append(String.join(",", headers.getOrEmpty(name)));
+
+        return key.toString();
+    }
+
+    private Mono<Void> write(final ServerWebExchange exchange, final SharedResponse sharedResponse) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(sharedResponse.status());
+        response.getHeaders().putAll(sharedResponse.headers());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(sharedResponse.body())));
+    }
+
+    private final class SharingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Sinks.One<SharedResponse> sink;
+
+        private SharingResponseDecorator(ServerHttpResponse delegate, String key, Sinks.One<SharedResponse> sink) {
+            super(delegate);
+            this.key = key;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (this.getStatusCode() == null || this.getHeaders().containsKey(HttpHeaders.SET_COOKIE))
+                return super.writeWith(body);
+
+            long maxBodySize = coalescingProperties.getMaxBodySize().toBytes();
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            boolean[] overflow = {false};
+
+            Flux<? extends DataBuffer> shared = Flux.from(body)
+                    .doOnNext(
+                            buffer -> {
+                                if (overflow[0] || content.size() + buffer.readableByteCount() > maxBodySize) {
+                                    overflow[0] = true;
+                                    return;
+                                }
+                                try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                                    while (iterator.hasNext()) {
+                                        ByteBuffer byteBuffer = iterator.next();
+                                        byte[] bytes = new byte[byteBuffer.remaining()];
+                                        byteBuffer.get(bytes);
+                                        content.write(bytes, 0, bytes.length);
+                                    }
+                                }
+                            }
+                    )
+                    .doOnComplete(
+                            () -> {
+                                inFlight.remove(this.key, this.sink);
+                                if (overflow[0]) {
+                                    this.sink.tryEmitEmpty();
+
+                                } else {
+                                    HttpHeaders headers = new HttpHeaders();
+                                    headers.putAll(this.getHeaders());
+                                    headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                                    headers.setContentLength(content.size());
+                                    this.sink.tryEmitValue(
+                                            new SharedResponse(this.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(headers), content.toByteArray())
+                                    );
+                                }
+                            }
+                    );
+
+            return super.writeWith(shared);
+        }
+    }
+}
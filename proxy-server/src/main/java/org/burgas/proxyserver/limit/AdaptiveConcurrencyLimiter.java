@@ -0,0 +1,73 @@
+package org.burgas.proxyserver.limit;
+
+import org.burgas.proxyserver.config.ConcurrencyLimitProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties concurrencyLimitProperties) {
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+        this.limit = concurrencyLimitProperties.getInitialLimit();
+    }
+
+    public int tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= (int) this.limit)
+                return -1;
+
+            if (this.inFlight.compareAndSet(current, current + 1))
+                return current + 1;
+        }
+    }
+
+    public void release() {
+        this.inFlight.decrementAndGet();
+    }
+
+    public synchronized void onSample(final long rttNanos, final int inFlightAtStart, final boolean dropped) {
+        double currentLimit = this.limit;
+        if (dropped) {
+            this.limit = this.clamp(currentLimit * this.concurrencyLimitProperties.getBackoffRatio());
+            return;
+        }
+
+        int longWindow = this.concurrencyLimitProperties.getLongWindow();
+        this.longRtt = this.longRtt == 0 ? rttNanos : this.longRtt + (rttNanos - this.longRtt) / longWindow;
+        if (this.longRtt / rttNanos > 2)
+            this.longRtt *= LONG_RTT_DECAY;
+
+        if (inFlightAtStart < currentLimit / 2)
+            return;
+
+        double gradient = Math.max(0.5, Math.min(1.0, this.concurrencyLimitProperties.getRttTolerance() * this.longRtt / rttNanos));
+        double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+        double smoothing = this.concurrencyLimitProperties.getSmoothing();
+        this.limit = this.clamp(currentLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    public int limit() {
+        return (int) this.limit;
+    }
+
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    private double clamp(final double value) {
+        return Math.max(
+                this.concurrencyLimitProperties.getMinLimit(), Math.min(this.concurrencyLimitProperties.getMaxLimit(), value)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package org.burgas.proxyserver.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.burgas.proxyserver.config.RateLimitProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+@Component
+public class RateLimiter {
+
+    private static final String DEFAULT_ROUTE = "*";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final List<CompiledRoute> routes;
+    private final Cache<String, TokenBucket> buckets;
+
+    private record CompiledRoute(PathPattern pattern, RateLimitProperties.RouteLimit limit) {
+    }
+
+    public RateLimiter(RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.routes = rateLimitProperties.getRoutes()
+                .stream()
+                .map(route -> new CompiledRoute(PathPatternParser.defaultInstance.parse(route.getPath()), route))
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(rateLimitProperties.getIdleEviction())
+                .maximumSize(rateLimitProperties.getMaxBuckets())
+                .build();
+    }
+
+    public TokenBucket.Probe tryConsume(final String path, final String client) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        CompiledRoute route = this.routes.stream()
+                .filter(compiledRoute -> compiledRoute.pattern().matches(pathContainer))
+                .findFirst()
+                .orElse(null);
+
+        RateLimitProperties.Limit limit = this.rateLimitProperties.getClients()
+                .getOrDefault(client, route == null ? this.rateLimitProperties.getDefaultLimit() : route.limit());
+        String key = (route == null ? DEFAULT_ROUTE : route.limit().getPath()) + "|" + client;
+        long now = System.nanoTime();
+
+        return this.buckets.get(key, ignored -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now))
+                .tryConsume(now);
+    }
+
+    public long size() {
+        return this.buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,43 @@
+package org.burgas.proxyserver.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+    public record Probe(boolean consumed, long remaining, long nanosToWait) {
+    }
+
+    public TokenBucket(long capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    public Probe tryConsume(final long now) {
+        while (true) {
+            State current = this.state.get();
+            double tokens = Math.min(
+                    this.capacity, current.tokens() + Math.max(0, now - current.refilledAt()) * this.refillPerNano
+            );
+
+            if (tokens < 1) {
+                long nanosToWait = this.refillPerNano > 0 ? (long) Math.ceil((1 - tokens) / this.refillPerNano) : Long.MAX_VALUE;
+                return new Probe(false, 0, nanosToWait);
+            }
+
+            State next = new State(tokens - 1, Math.max(now, current.refilledAt()));
+            if (this.state.compareAndSet(current, next))
+                return new Probe(true, (long) next.tokens(), 0);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.burgas.proxyserver.router;
+
+import lombok.RequiredArgsConstructor;
+import org.burgas.proxyserver.cache.EdgeCache;
+import org.burgas.proxyserver.config.EdgeCacheProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.*;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class EdgeCacheRouter {
+
+    private static final String X_PURGE_TOKEN = "X-Purge-Token";
+
+    private final EdgeCache edgeCache;
+    private final EdgeCacheProperties edgeCacheProperties;
+
+    @Bean
+    public RouterFunction<ServerResponse> edgeCacheRoutes() {
+        return RouterFunctions.route()
+                .GET(
+                        "/edge/cache", request ->
+                                ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(this.edgeCache.statistics())
+                )
+                .DELETE(
+                        "/edge/cache", request ->
+                                ServerResponse
+                                        .status(HttpStatus.OK)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(Map.of("purged", this.edgeCache.purge(request.queryParam("path").orElse(null))))
+                )
+                .filter(
+                        (request, next) -> this.isAuthorized(request) ?
+                                next.handle(request) : Mono.defer(() -> ServerResponse.status(HttpStatus.FORBIDDEN).build())
+                )
+                .build();
+    }
+
+    private boolean isAuthorized(final ServerRequest request) {
+        String purgeToken = this.edgeCacheProperties.getPurgeToken();
+        String token = request.headers().firstHeader(X_PURGE_TOKEN);
+        return purgeToken != null && !purgeToken.isBlank() && token != null &&
+               MessageDigest.isEqual(purgeToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,132 @@
+package org.burgas.proxyserver.balancer;
+
+import org.burgas.proxyserver.MutableClock;
+import org.burgas.proxyserver.config.UpstreamPoolProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeastOutstandingLoadBalancerTests {
+
+    private static final String SERVICE_ID = "corporate-service";
+    private static final int CHOICES = 200;
+
+    private final ServiceInstance first = instance(8081);
+    private final ServiceInstance second = instance(8082);
+    private final ServiceInstance third = instance(8083);
+
+    private final UpstreamPoolProperties upstreamPoolProperties = new UpstreamPoolProperties();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final InstanceStatistics instanceStatistics = new InstanceStatistics(this.upstreamPoolProperties, this.clock);
+
+    @Test
+    void choosesLessLoadedOfTwoInstances() {
+        LeastOutstandingLoadBalancer loadBalancer = this.loadBalancer(this.first, this.second);
+        this.start(this.first, 3);
+        this.start(this.second, 1);
+
+        for (int i = 0; i < CHOICES; i++)
+            assertEquals(this.second, this.choose(loadBalancer));
+    }
+
+    @Test
+    void neverChoosesMostLoadedOfThreeInstances() {
+        LeastOutstandingLoadBalancer loadBalancer = this.loadBalancer(this.first, this.second, this.third);
+        this.start(this.second, 5);
+        this.start(this.third, 10);
+
+        Set<ServiceInstance> chosen = new HashSet<>();
+        for (int i = 0; i < CHOICES; i++)
+            chosen.add(this.choose(loadBalancer));
+
+        assertEquals(Set.of(this.first, this.second), chosen);
+    }
+
+    @Test
+    void completionReleasesOutstandingRequest() {
+        this.start(this.first, 2);
+        this.complete(this.first, null);
+        this.complete(this.first, null);
+        this.complete(this.first, null);
+
+        assertEquals(0, this.instanceStatistics.outstanding(this.first));
+    }
+
+    @Test
+    void connectFailureEjectsInstanceUntilEjectionDurationPasses() {
+        LeastOutstandingLoadBalancer loadBalancer = this.loadBalancer(this.first, this.second);
+        this.start(this.first, 1);
+        this.start(this.second, 5);
+        this.complete(this.first, new IOException(new ConnectException("Connection refused")));
+
+        assertTrue(this.instanceStatistics.isEjected(this.first));
+        for (int i = 0; i < CHOICES; i++)
+            assertEquals(this.second, this.choose(loadBalancer));
+
+        this.clock.advance(this.upstreamPoolProperties.getEjectionDuration().minusSeconds(1));
+        assertTrue(this.instanceStatistics.isEjected(this.first));
+
+        this.clock.advance(Duration.ofSeconds(1));
+        assertFalse(this.instanceStatistics.isEjected(this.first));
+        assertEquals(this.first, this.choose(loadBalancer));
+    }
+
+    @Test
+    void otherFailuresDoNotEject() {
+        this.start(this.first, 1);
+        this.complete(this.first, new IllegalStateException("Bad gateway"));
+
+        assertFalse(this.instanceStatistics.isEjected(this.first));
+    }
+
+    @Test
+    void fallsBackToAllInstancesWhenAllAreEjected() {
+        LeastOutstandingLoadBalancer loadBalancer = this.loadBalancer(this.first, this.second);
+        this.start(this.first, 1);
+        this.start(this.second, 1);
+        this.complete(this.first, new ConnectException("Connection refused"));
+        this.complete(this.second, new ConnectException("Connection refused"));
+        this.start(this.second, 1);
+
+        assertEquals(this.first, this.choose(loadBalancer));
+    }
+
+    private LeastOutstandingLoadBalancer loadBalancer(final ServiceInstance... instances) {
+        return new LeastOutstandingLoadBalancer(ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances), this.instanceStatistics);
+    }
+
+    private ServiceInstance choose(final LeastOutstandingLoadBalancer loadBalancer) {
+        return loadBalancer.choose(new DefaultRequest<>()).block().getServer();
+    }
+
+    private void start(final ServiceInstance instance, final int requests) {
+        for (int i = 0; i < requests; i++)
+            this.instanceStatistics.onStartRequest(new DefaultRequest<>(), new DefaultResponse(instance));
+    }
+
+    private void complete(final ServiceInstance instance, final Throwable throwable) {
+        this.instanceStatistics.onComplete(
+                new CompletionContext<>(
+                        throwable == null ? CompletionContext.Status.SUCCESS : CompletionContext.Status.FAILED,
+                        throwable, new DefaultRequest<>(), new DefaultResponse(instance)
+                )
+        );
+    }
+
+    private static ServiceInstance instance(final int port) {
+        return new DefaultServiceInstance(SERVICE_ID + "-" + port, SERVICE_ID, "localhost", port, false);
+    }
+}
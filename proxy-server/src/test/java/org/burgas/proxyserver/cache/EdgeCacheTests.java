@@ -0,0 +1,115 @@
+package org.burgas.proxyserver.cache;
+
+import org.burgas.proxyserver.MutableClock;
+import org.burgas.proxyserver.config.EdgeCacheProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeCacheTests {
+
+    private static final String KEY = "/api/v1/corporations";
+    private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final EdgeCacheProperties edgeCacheProperties = new EdgeCacheProperties();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final EdgeCache edgeCache = new EdgeCache(this.edgeCacheProperties, this.clock);
+
+    @Test
+    void sharedMaxAgeTakesPrecedenceOverMaxAge() {
+        assertEquals(policy(60, 0), this.edgeCache.policy(cacheControl("max-age=10, s-maxage=60")));
+        assertEquals(policy(60, 0), this.edgeCache.policy(cacheControl("s-maxage=\"60\", max-age=10")));
+        assertEquals(policy(10, 30), this.edgeCache.policy(cacheControl("max-age=10, stale-while-revalidate=30")));
+    }
+
+    @Test
+    void noCacheIsStoredOnlyForStaleWhileRevalidate() {
+        assertNull(this.edgeCache.policy(cacheControl("no-cache, max-age=60")));
+        assertEquals(policy(0, 30), this.edgeCache.policy(cacheControl("no-cache, stale-while-revalidate=30")));
+    }
+
+    @Test
+    void mustRevalidateDisablesStaleWhileRevalidate() {
+        assertEquals(policy(10, 0), this.edgeCache.policy(cacheControl("max-age=10, must-revalidate, stale-while-revalidate=30")));
+        assertEquals(policy(10, 0), this.edgeCache.policy(cacheControl("max-age=10, proxy-revalidate, stale-while-revalidate=30")));
+        assertNull(this.edgeCache.policy(cacheControl("max-age=0, must-revalidate, stale-while-revalidate=30")));
+    }
+
+    @Test
+    void privateAndNoStoreAreNotStored() {
+        assertNull(this.edgeCache.policy(cacheControl("private, max-age=60")));
+        assertNull(this.edgeCache.policy(cacheControl("no-store, s-maxage=60")));
+        assertFalse(this.edgeCache.isStorable(HttpStatus.OK, cacheControl("Private, max-age=60")));
+    }
+
+    @Test
+    void defaultTtlAppliesOnlyWithoutAge() {
+        assertNull(this.edgeCache.policy(new HttpHeaders()));
+        assertNull(this.edgeCache.policy(cacheControl("public")));
+        assertNull(this.edgeCache.policy(cacheControl("max-age=abc")));
+
+        this.edgeCacheProperties.setDefaultTtl(Duration.ofSeconds(30));
+        assertEquals(policy(30, 0), this.edgeCache.policy(cacheControl("public")));
+        assertEquals(policy(5, 0), this.edgeCache.policy(cacheControl("max-age=5")));
+        assertNull(this.edgeCache.policy(cacheControl("max-age=0")));
+    }
+
+    @Test
+    void entryIsFreshThenStaleThenExpired() {
+        this.edgeCache.store(KEY, HttpStatus.OK, cacheControl("max-age=10, stale-while-revalidate=30"), BODY, new HttpHeaders());
+
+        EdgeCacheEntry entry = this.edgeCache.find(KEY, new HttpHeaders());
+        assertTrue(entry.isFresh(this.edgeCache.now()));
+
+        this.clock.advance(Duration.ofSeconds(10));
+        assertFalse(entry.isFresh(this.edgeCache.now()));
+        assertTrue(entry.isServable(this.edgeCache.now()));
+
+        this.clock.advance(Duration.ofSeconds(30));
+        assertFalse(entry.isServable(this.edgeCache.now()));
+    }
+
+    @Test
+    void notModifiedRefreshesStaleEntry() {
+        HttpHeaders headers = cacheControl("max-age=10, stale-while-revalidate=30");
+        headers.setETag("\"v1\"");
+        this.edgeCache.store(KEY, HttpStatus.OK, headers, BODY, new HttpHeaders());
+        this.clock.advance(Duration.ofSeconds(15));
+        EdgeCacheEntry stale = this.edgeCache.find(KEY, new HttpHeaders());
+
+        HttpHeaders notModified = cacheControl("max-age=20");
+        notModified.setETag("\"v2\"");
+        this.edgeCache.refresh(KEY, stale, notModified);
+
+        EdgeCacheEntry refreshed = this.edgeCache.find(KEY, new HttpHeaders());
+        assertTrue(refreshed.isFresh(this.edgeCache.now()));
+        assertEquals(this.edgeCache.now().plusSeconds(20), refreshed.freshUntil());
+        assertEquals(refreshed.freshUntil(), refreshed.staleUntil());
+        assertEquals("\"v2\"", refreshed.headers().getETag());
+        assertArrayEquals(BODY, refreshed.body());
+    }
+
+    @Test
+    void notModifiedWithNoStoreDropsEntry() {
+        this.edgeCache.store(KEY, HttpStatus.OK, cacheControl("max-age=10"), BODY, new HttpHeaders());
+        this.edgeCache.refresh(KEY, this.edgeCache.find(KEY, new HttpHeaders()), cacheControl("no-store"));
+
+        assertNull(this.edgeCache.find(KEY, new HttpHeaders()));
+    }
+
+    private static HttpHeaders cacheControl(final String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(value);
+        return headers;
+    }
+
+    private static EdgeCache.Policy policy(final long ttl, final long staleWhileRevalidate) {
+        return new EdgeCache.Policy(Duration.ofSeconds(ttl), Duration.ofSeconds(staleWhileRevalidate));
+    }
+}
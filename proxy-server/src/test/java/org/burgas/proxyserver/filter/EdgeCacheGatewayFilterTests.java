@@ -0,0 +1,121 @@
+package org.burgas.proxyserver.filter;
+
+import org.burgas.proxyserver.MutableClock;
+import org.burgas.proxyserver.cache.EdgeCache;
+import org.burgas.proxyserver.config.EdgeCacheProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class EdgeCacheGatewayFilterTests {
+
+    private static final String PATH = "/api/v1/corporations";
+    private static final String BODY = "[{\"name\":\"Corporation\"}]";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final EdgeCache edgeCache = new EdgeCache(new EdgeCacheProperties(), this.clock);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final List<ClientRequest> revalidations = new ArrayList<>();
+
+    private final EdgeCacheGatewayFilter edgeCacheGatewayFilter = new EdgeCacheGatewayFilter(
+            this.edgeCache, new EdgeCacheProperties(),
+            WebClient.builder().exchangeFunction(this::revalidate),
+            (request, next) -> next.exchange(request)
+    );
+
+    @Test
+    void servesMissThenHitThenStaleAndRefreshesOnNotModified() {
+        MockServerWebExchange miss = this.exchange();
+        assertEquals("MISS", miss.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, miss.getResponse().getBodyAsString().block());
+
+        MockServerWebExchange hit = this.exchange();
+        assertEquals("HIT", hit.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, hit.getResponse().getBodyAsString().block());
+        assertEquals(1, this.upstreamCalls.get());
+
+        this.clock.advance(Duration.ofSeconds(15));
+        MockServerWebExchange stale = this.exchange();
+        assertEquals("STALE", stale.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("15", stale.getResponse().getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals(BODY, stale.getResponse().getBodyAsString().block());
+        assertEquals(1, this.revalidations.size());
+        assertEquals("http", this.revalidations.get(0).url().getScheme());
+        assertEquals(List.of("\"v1\""), this.revalidations.get(0).headers().getIfNoneMatch());
+
+        MockServerWebExchange refreshed = this.exchange();
+        assertEquals("HIT", refreshed.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("0", refreshed.getResponse().getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals(1, this.upstreamCalls.get());
+
+        this.clock.advance(Duration.ofSeconds(41));
+        MockServerWebExchange expired = this.exchange();
+        assertEquals("MISS", expired.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(2, this.upstreamCalls.get());
+        assertEquals(1, this.revalidations.size());
+
+        assertEquals(2L, this.edgeCache.statistics().get("hits"));
+        assertEquals(1L, this.edgeCache.statistics().get("staleHits"));
+        assertEquals(2L, this.edgeCache.statistics().get("misses"));
+    }
+
+    @Test
+    void answersMatchingConditionalRequestWithNotModified() {
+        this.exchange();
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH).ifNoneMatch("\"v1\""));
+        this.edgeCacheGatewayFilter.filter(exchange, this::upstream).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, exchange.getResponse().getStatusCode());
+        assertEquals("HIT", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(1, this.upstreamCalls.get());
+    }
+
+    private MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        exchange.getAttributes().put(
+                GATEWAY_ROUTE_ATTR,
+                Route.async().id("corporate-service-cached").uri("lb://corporate-service").predicate(ignored -> true).build()
+        );
+        this.edgeCacheGatewayFilter.filter(exchange, this::upstream).block();
+        return exchange;
+    }
+
+    private Mono<Void> upstream(final ServerWebExchange exchange) {
+        this.upstreamCalls.incrementAndGet();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setCacheControl("max-age=10, stale-while-revalidate=30");
+        response.getHeaders().setETag("\"v1\"");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private Mono<ClientResponse> revalidate(final ClientRequest request) {
+        this.revalidations.add(request);
+        return Mono.just(
+                ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                        .header(HttpHeaders.CACHE_CONTROL, "max-age=10, stale-while-revalidate=30")
+                        .header(HttpHeaders.ETAG, "\"v1\"")
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package org.burgas.proxyserver.limit;
+
+import org.burgas.proxyserver.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTests {
+
+    private static final long LOW_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long HIGH_RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties = new ConcurrencyLimitProperties();
+
+    @Test
+    void limitGrowsUnderSteadyLowLatency() {
+        AdaptiveConcurrencyLimiter limiter = this.limiter(20);
+
+        int previous = limiter.limit();
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(LOW_RTT, limiter.limit(), false);
+            assertTrue(limiter.limit() >= previous);
+            previous = limiter.limit();
+        }
+
+        assertTrue(limiter.limit() > 40);
+    }
+
+    @Test
+    void limitHoldsWhenMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = this.limiter(20);
+
+        for (int i = 0; i < 50; i++)
+            limiter.onSample(LOW_RTT, 9, false);
+
+        assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = this.limiter(100);
+        for (int i = 0; i < 50; i++)
+            limiter.onSample(LOW_RTT, 0, false);
+
+        limiter.onSample(HIGH_RTT, 100, false);
+
+        assertTrue(limiter.limit() < 100);
+        assertTrue(limiter.limit() >= 90);
+    }
+
+    @Test
+    void dropBacksOffByRatio() {
+        AdaptiveConcurrencyLimiter limiter = this.limiter(100);
+
+        limiter.onSample(LOW_RTT, 100, true);
+        assertEquals(90, limiter.limit());
+
+        limiter.onSample(LOW_RTT, 90, true);
+        assertEquals(81, limiter.limit());
+    }
+
+    @Test
+    void limitIsClampedToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = this.limiter(20);
+
+        for (int i = 0; i < 100; i++)
+            limiter.onSample(LOW_RTT, limiter.limit(), true);
+
+        assertEquals(this.concurrencyLimitProperties.getMinLimit(), limiter.limit());
+    }
+
+    @Test
+    void limitIsClampedToMaximum() {
+        AdaptiveConcurrencyLimiter limiter = this.limiter(195);
+
+        for (int i = 0; i < 100; i++)
+            limiter.onSample(LOW_RTT, limiter.limit(), false);
+
+        assertEquals(this.concurrencyLimitProperties.getMaxLimit(), limiter.limit());
+    }
+
+    @Test
+    void acquireIsRejectedAtLimit() {
+        AdaptiveConcurrencyLimiter limiter = this.limiter(2);
+
+        assertEquals(1, limiter.tryAcquire());
+        assertEquals(2, limiter.tryAcquire());
+        assertEquals(-1, limiter.tryAcquire());
+
+        limiter.release();
+        assertEquals(2, limiter.tryAcquire());
+        assertEquals(2, limiter.inFlight());
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(final int initialLimit) {
+        this.concurrencyLimitProperties.setInitialLimit(initialLimit);
+        this.concurrencyLimitProperties.setMinLimit(Math.min(initialLimit, this.concurrencyLimitProperties.getMinLimit()));
+        return new AdaptiveConcurrencyLimiter(this.concurrencyLimitProperties);
+    }
+}
@@ -0,0 +1,63 @@
+package org.burgas.proxyserver.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTests {
+
+    private static final long START = TimeUnit.SECONDS.toNanos(1_000);
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void startsFullAndRejectsOnceEmpty() {
+        TokenBucket tokenBucket = new TokenBucket(3, 10, START);
+
+        assertEquals(new TokenBucket.Probe(true, 2, 0), tokenBucket.tryConsume(START));
+        assertEquals(new TokenBucket.Probe(true, 1, 0), tokenBucket.tryConsume(START));
+        assertEquals(new TokenBucket.Probe(true, 0, 0), tokenBucket.tryConsume(START));
+        assertEquals(new TokenBucket.Probe(false, 0, 100 * MILLISECOND), tokenBucket.tryConsume(START));
+    }
+
+    @Test
+    void refillsInProportionToElapsedTime() {
+        TokenBucket tokenBucket = new TokenBucket(1, 10, START);
+        tokenBucket.tryConsume(START);
+
+        TokenBucket.Probe early = tokenBucket.tryConsume(START + 40 * MILLISECOND);
+        assertFalse(early.consumed());
+        assertEquals(60 * MILLISECOND, early.nanosToWait());
+
+        assertTrue(tokenBucket.tryConsume(START + 100 * MILLISECOND).consumed());
+        assertFalse(tokenBucket.tryConsume(START + 100 * MILLISECOND).consumed());
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        TokenBucket tokenBucket = new TokenBucket(5, 100, START);
+        tokenBucket.tryConsume(START);
+
+        long later = START + TimeUnit.HOURS.toNanos(1);
+        assertEquals(new TokenBucket.Probe(true, 4, 0), tokenBucket.tryConsume(later));
+    }
+
+    @Test
+    void earlierTimestampDoesNotRefillOrRewind() {
+        TokenBucket tokenBucket = new TokenBucket(1, 10, START);
+        tokenBucket.tryConsume(START + 100 * MILLISECOND);
+
+        assertFalse(tokenBucket.tryConsume(START).consumed());
+        assertFalse(tokenBucket.tryConsume(START + 150 * MILLISECOND).consumed());
+        assertTrue(tokenBucket.tryConsume(START + 200 * MILLISECOND).consumed());
+    }
+
+    @Test
+    void bucketWithoutRefillWaitsForever() {
+        TokenBucket tokenBucket = new TokenBucket(1, 0, START);
+        tokenBucket.tryConsume(START);
+
+        assertEquals(new TokenBucket.Probe(false, 0, Long.MAX_VALUE), tokenBucket.tryConsume(START + TimeUnit.HOURS.toNanos(1)));
+    }
+}